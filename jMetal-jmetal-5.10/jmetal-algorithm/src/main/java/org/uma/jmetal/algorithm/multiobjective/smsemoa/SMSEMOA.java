@@ -6,6 +6,7 @@ import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.operator.selection.SelectionOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.qualityindicator.impl.hypervolume.Hypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.HypervolumeContributionTracker;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.solutionattribute.Ranking;
 import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
@@ -25,6 +26,7 @@ public class SMSEMOA<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
   protected int evaluations;
 
   private Hypervolume<S> hypervolume;
+  private HypervolumeContributionTracker<S> contributionTracker ;
   protected Comparator<S> dominanceComparator ;
 
   /**
@@ -33,6 +35,19 @@ public class SMSEMOA<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
   public SMSEMOA(Problem<S> problem, int maxEvaluations, int populationSize, double offset,
                  CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
                  SelectionOperator<List<S>, S> selectionOperator, Comparator<S> dominanceComparator, Hypervolume<S> hypervolumeImplementation) {
+    this(problem, maxEvaluations, populationSize, offset, crossoverOperator, mutationOperator,
+        selectionOperator, dominanceComparator, hypervolumeImplementation, new HypervolumeContributionTracker<>()) ;
+  }
+
+  /**
+   * Constructor. The hypervolume contributions of the last front are kept by the tracker between
+   * generations, if it supports the number of objectives of the problem; otherwise, they are computed
+   * by the hypervolume implementation.
+   */
+  public SMSEMOA(Problem<S> problem, int maxEvaluations, int populationSize, double offset,
+                 CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
+                 SelectionOperator<List<S>, S> selectionOperator, Comparator<S> dominanceComparator,
+                 Hypervolume<S> hypervolumeImplementation, HypervolumeContributionTracker<S> contributionTracker) {
     super(problem) ;
     this.maxEvaluations = maxEvaluations;
     setMaxPopulationSize(populationSize);
@@ -44,6 +59,7 @@ public class SMSEMOA<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
     this.selectionOperator = selectionOperator;
     this.dominanceComparator = dominanceComparator ;
     this.hypervolume = hypervolumeImplementation ;
+    this.contributionTracker = contributionTracker ;
   }
 
   @Override protected void initProgress() {
@@ -98,7 +114,12 @@ public class SMSEMOA<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
     Ranking<S> ranking = computeRanking(jointPopulation);
     List<S> lastSubfront = ranking.getSubFront(ranking.getNumberOfSubFronts()-1) ;
 
-    lastSubfront = hypervolume.computeHypervolumeContribution(lastSubfront, jointPopulation) ;
+    if (contributionTracker.canCompute(getProblem().getNumberOfObjectives())) {
+      contributionTracker.setOffset(hypervolume.getOffset());
+      lastSubfront = contributionTracker.computeHypervolumeContribution(lastSubfront, jointPopulation) ;
+    } else {
+      lastSubfront = hypervolume.computeHypervolumeContribution(lastSubfront, jointPopulation) ;
+    }
 
     List<S> resultPopulation = new ArrayList<>() ;
     for (int i = 0; i < ranking.getNumberOfSubFronts()-1; i++) {
@@ -8,6 +8,7 @@ import org.uma.jmetal.operator.selection.impl.RandomSelection;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.qualityindicator.impl.hypervolume.Hypervolume;
 import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.HypervolumeContributionTracker;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.comparator.DominanceComparator;
@@ -33,6 +34,7 @@ public class SMSEMOABuilder<S extends Solution<?>> implements AlgorithmBuilder<S
   protected double offset ;
 
   protected Hypervolume<S> hypervolumeImplementation;
+  protected HypervolumeContributionTracker<S> contributionTracker ;
   protected Comparator<S> dominanceComparator ;
 
   public SMSEMOABuilder(Problem<S> problem, CrossoverOperator<S> crossoverOperator,
@@ -43,6 +45,7 @@ public class SMSEMOABuilder<S extends Solution<?>> implements AlgorithmBuilder<S
     maxEvaluations = 25000 ;
     this.hypervolumeImplementation = new PISAHypervolume<>() ;
     hypervolumeImplementation.setOffset(offset);
+    this.contributionTracker = new HypervolumeContributionTracker<>() ;
 
     this.crossoverOperator = crossoverOperator ;
     this.mutationOperator = mutationOperator ;
@@ -86,6 +89,11 @@ public class SMSEMOABuilder<S extends Solution<?>> implements AlgorithmBuilder<S
     return this ;
   }
 
+  public SMSEMOABuilder<S> setHypervolumeContributionTracker(HypervolumeContributionTracker<S> contributionTracker) {
+    this.contributionTracker = contributionTracker ;
+
+    return this ;
+  }
 
   public SMSEMOABuilder<S> setOffset(double offset) {
     this.offset = offset ;
@@ -105,7 +113,7 @@ public class SMSEMOABuilder<S extends Solution<?>> implements AlgorithmBuilder<S
   @Override public SMSEMOA<S> build() {
     return new SMSEMOA<S>(problem, maxEvaluations, populationSize, offset,
         crossoverOperator, mutationOperator, selectionOperator, dominanceComparator,
-        hypervolumeImplementation);
+        hypervolumeImplementation, contributionTracker);
   }
 
   /*
@@ -4,6 +4,7 @@ import org.uma.jmetal.component.ranking.Ranking;
 import org.uma.jmetal.component.replacement.Replacement;
 import org.uma.jmetal.qualityindicator.impl.hypervolume.Hypervolume;
 import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.HypervolumeContributionTracker;
 import org.uma.jmetal.solution.Solution;
 
 import java.util.ArrayList;
@@ -13,6 +14,7 @@ public class SMSEMOAReplacement<S extends Solution<?>>
     implements Replacement<S> {
   private Ranking<S> ranking;
   private Hypervolume<S> hypervolume ;
+  private HypervolumeContributionTracker<S> contributionTracker ;
 
   public SMSEMOAReplacement(Ranking<S> ranking) {
     this(ranking,  new PISAHypervolume<>()) ;
@@ -20,8 +22,14 @@ public class SMSEMOAReplacement<S extends Solution<?>>
 
   public SMSEMOAReplacement(
           Ranking<S> ranking, Hypervolume<S> hypervolume) {
+    this(ranking, hypervolume, new HypervolumeContributionTracker<>()) ;
+  }
+
+  public SMSEMOAReplacement(
+          Ranking<S> ranking, Hypervolume<S> hypervolume, HypervolumeContributionTracker<S> contributionTracker) {
     this.ranking = ranking;
     this.hypervolume = hypervolume;
+    this.contributionTracker = contributionTracker;
   }
 
   public List<S> replace(List<S> solutionList, List<S> offspringList) {
@@ -33,7 +41,12 @@ public class SMSEMOAReplacement<S extends Solution<?>>
 
     List<S> lastSubfront = ranking.getSubFront(ranking.getNumberOfSubFronts()-1) ;
 
-    lastSubfront = hypervolume.computeHypervolumeContribution(lastSubfront, jointPopulation) ;
+    if (contributionTracker.canCompute(lastSubfront.get(0).getNumberOfObjectives())) {
+      contributionTracker.setOffset(hypervolume.getOffset());
+      lastSubfront = contributionTracker.computeHypervolumeContribution(lastSubfront, jointPopulation) ;
+    } else {
+      lastSubfront = hypervolume.computeHypervolumeContribution(lastSubfront, jointPopulation) ;
+    }
 
     List<S> resultPopulation = new ArrayList<>() ;
     for (int i = 0; i < ranking.getNumberOfSubFronts()-1; i++) {
@@ -12,7 +12,9 @@ import org.uma.jmetal.util.archive.Archive;
 import org.uma.jmetal.util.observable.Observable;
 import org.uma.jmetal.util.observable.ObservableEntity;
 import org.uma.jmetal.util.observable.impl.DefaultObservable;
+import org.uma.jmetal.util.pool.SolutionPool;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +31,7 @@ public class EvolutionaryAlgorithm<S extends Solution<?>>
   private MatingPoolSelection<S> selection;
   private Variation<S> variation;
   private Replacement<S> replacement;
+  private SolutionPool solutionPool;
 
   private Map<String, Object> attributes;
 
@@ -103,19 +106,36 @@ public class EvolutionaryAlgorithm<S extends Solution<?>>
         null);
   }
 
+  /**
+   * Sets a pool of solutions to reuse the ones discarded by the replacement as offspring. The members
+   * of the external archive are never put into the pool, but the replacement, the variation and the
+   * observers must not keep other solutions. The number of reused solutions and the bytes allocated in
+   * every generation are published as the REUSED_SOLUTIONS and ALLOCATED_BYTES attributes.
+   *
+   * @param solutionPool The pool, or null to allocate every offspring (the default)
+   */
+  public void setSolutionPool(SolutionPool solutionPool) {
+    this.solutionPool = solutionPool;
+  }
+
   public void run() {
     initTime = System.currentTimeMillis() ;
 
+    if (solutionPool != null) {
+      solutionPool.reset();
+    }
     population = createInitialPopulation.create();
     population = evaluation.evaluate(population);
     initProgress();
     while (!termination.isMet(attributes)) {
       List<S> matingPopulation = selection.select(population);
-      List<S> offspringPopulation = variation.variate(population, matingPopulation);
+      List<S> offspringPopulation = variate(matingPopulation);
       offspringPopulation = evaluation.evaluate(offspringPopulation);
       updateArchive(offspringPopulation);
 
+      List<S> previousPopulation = population;
       population = replacement.replace(population, offspringPopulation);
+      recycle(previousPopulation, offspringPopulation);
       updateProgress();
     }
 
@@ -123,6 +143,36 @@ public class EvolutionaryAlgorithm<S extends Solution<?>>
   }
 
 
+  private List<S> variate(List<S> matingPopulation) {
+    if (solutionPool == null) {
+      return variation.variate(population, matingPopulation);
+    }
+
+    solutionPool.activate();
+    try {
+      return variation.variate(population, matingPopulation);
+    } finally {
+      solutionPool.deactivate();
+    }
+  }
+
+  private void recycle(List<S> previousPopulation, List<S> offspringPopulation) {
+    if (solutionPool == null) {
+      return;
+    }
+
+    List<S> survivors = population;
+    if (externalArchive != null) {
+      survivors = new ArrayList<>(population);
+      survivors.addAll(externalArchive.getSolutionList());
+    }
+    solutionPool.recycle(survivors, previousPopulation, offspringPopulation);
+    solutionPool.endGeneration();
+
+    attributes.put("REUSED_SOLUTIONS", solutionPool.getReusedSolutions());
+    attributes.put("ALLOCATED_BYTES", solutionPool.getAllocatedBytes());
+  }
+
   private void updateArchive(List<S> population) {
     if (externalArchive != null) {
       for (S solution : population) {
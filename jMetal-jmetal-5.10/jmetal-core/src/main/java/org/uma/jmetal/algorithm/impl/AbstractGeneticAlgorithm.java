@@ -5,6 +5,7 @@ import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.operator.selection.SelectionOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pool.SolutionPool;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -20,6 +21,7 @@ public abstract class AbstractGeneticAlgorithm<S, Result> extends AbstractEvolut
   protected SelectionOperator<List<S>, S> selectionOperator ;
   protected CrossoverOperator<S> crossoverOperator ;
   protected MutationOperator<S> mutationOperator ;
+  private SolutionPool solutionPool ;
 
   /* Setters and getters */
   public void setMaxPopulationSize(int maxPopulationSize) {
@@ -42,6 +44,22 @@ public abstract class AbstractGeneticAlgorithm<S, Result> extends AbstractEvolut
     return mutationOperator;
   }
 
+  public SolutionPool getSolutionPool() {
+    return solutionPool ;
+  }
+
+  /**
+   * Sets a pool of solutions to reuse the ones discarded by the replacement as offspring, instead of
+   * allocating new ones in every generation. It must only be set if the algorithm does not keep the
+   * solutions it discards or the offspring it does not select, as is the case of
+   * {@code NSGAII}; by default, no pool is used.
+   *
+   * @param solutionPool The pool, or null to allocate every offspring
+   */
+  public void setSolutionPool(SolutionPool solutionPool) {
+    this.solutionPool = solutionPool ;
+  }
+
   /**
    * Constructor
    * @param problem The problem to solve
@@ -113,6 +131,43 @@ public abstract class AbstractGeneticAlgorithm<S, Result> extends AbstractEvolut
     return offspringPopulation;
   }
 
+  /**
+   * Runs the algorithm as {@link AbstractEvolutionaryAlgorithm#run()} does. If there is a solution
+   * pool, it is active on this thread during the reproduction, and the solutions of the previous
+   * population and of the offspring that are not in the new population are put into it after the
+   * replacement.
+   */
+  @Override
+  public void run() {
+    if (solutionPool == null) {
+      super.run();
+      return ;
+    }
+
+    List<S> offspringPopulation;
+    List<S> matingPopulation;
+
+    solutionPool.reset();
+    population = createInitialPopulation();
+    population = evaluatePopulation(population);
+    initProgress();
+    while (!isStoppingConditionReached()) {
+      matingPopulation = selection(population);
+      solutionPool.activate();
+      try {
+        offspringPopulation = reproduction(matingPopulation);
+      } finally {
+        solutionPool.deactivate();
+      }
+      offspringPopulation = evaluatePopulation(offspringPopulation);
+      List<S> previousPopulation = population ;
+      population = replacement(population, offspringPopulation);
+      updateProgress();
+      solutionPool.recycle(population, previousPopulation, offspringPopulation);
+      solutionPool.endGeneration();
+    }
+  }
+
   /**
    * A crossover operator is applied to a number of parents, and it assumed that the population contains
    * a valid number of solutions. This method checks that.
@@ -3,17 +3,24 @@ package org.uma.jmetal.component.densityestimator.impl;
 import org.uma.jmetal.component.densityestimator.DensityEstimator;
 import org.uma.jmetal.qualityindicator.impl.hypervolume.Hypervolume;
 import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.HypervolumeContributionTracker;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.solution.util.attribute.util.attributecomparator.AttributeComparator;
 import org.uma.jmetal.solution.util.attribute.util.attributecomparator.impl.DoubleValueAttributeComparator;
+import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.impl.ArrayFront;
+import org.uma.jmetal.util.front.util.FrontUtils;
+import org.uma.jmetal.util.solutionattribute.impl.HypervolumeContributionAttribute;
 
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 
 /**
- * This class implements a density estimator based on the hypervolume contribution
+ * This class implements a density estimator based on the hypervolume contribution. The contributions
+ * are computed by a {@link HypervolumeContributionTracker} if it supports the number of objectives of
+ * the solutions, so that only the ones that change are computed again when the estimator is applied to
+ * a list differing in a few solutions from the previous one.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
@@ -22,15 +29,35 @@ public class HypervolumeContributionDensityEstimator<S extends Solution<?>> impl
   private String attributeId = getClass().getName();
   private Comparator<S> solutionComparator ;
   private Hypervolume<S> hypervolume ;
+  private HypervolumeContributionTracker<S> contributionTracker ;
+  private double[] minimumValues ;
+  private double[] maximumValues ;
+  private HypervolumeContributionAttribute<S> hvContribution = new HypervolumeContributionAttribute<>() ;
 
   public HypervolumeContributionDensityEstimator(List<S> referenceFront) {
-    solutionComparator = new DoubleValueAttributeComparator<>(attributeId, AttributeComparator.Ordering.DESCENDING) ;
-    hypervolume = new PISAHypervolume<>(new ArrayFront(referenceFront)) ;
+    this(referenceFront, new HypervolumeContributionTracker<>()) ;
+  }
+
+  public HypervolumeContributionDensityEstimator(List<S> referenceFront, HypervolumeContributionTracker<S> contributionTracker) {
+    this(new PISAHypervolume<>(new ArrayFront(referenceFront)), contributionTracker) ;
   }
 
   public HypervolumeContributionDensityEstimator(double[] referencePoint) {
+    this(referencePoint, new HypervolumeContributionTracker<>()) ;
+  }
+
+  public HypervolumeContributionDensityEstimator(double[] referencePoint, HypervolumeContributionTracker<S> contributionTracker) {
+    this(new PISAHypervolume<>(referencePoint), contributionTracker) ;
+  }
+
+  private HypervolumeContributionDensityEstimator(Hypervolume<S> hypervolume, HypervolumeContributionTracker<S> contributionTracker) {
     solutionComparator = new DoubleValueAttributeComparator<>(attributeId, AttributeComparator.Ordering.DESCENDING) ;
-    hypervolume = new PISAHypervolume<>(referencePoint) ;
+    this.hypervolume = hypervolume ;
+    this.contributionTracker = contributionTracker ;
+
+    Front referenceFront = hypervolume.getReferenceParetoFront() ;
+    minimumValues = FrontUtils.getMinimumValues(referenceFront) ;
+    maximumValues = FrontUtils.getMaximumValues(referenceFront) ;
   }
 
   /**
@@ -47,7 +74,17 @@ public class HypervolumeContributionDensityEstimator<S extends Solution<?>> impl
       return;
     }
 
-    hypervolume.computeHypervolumeContribution(solutionList) ;
+    if (contributionTracker.canCompute(solutionList.get(0).getNumberOfObjectives())) {
+      contributionTracker.setOffset(hypervolume.getOffset());
+      contributionTracker.computeHypervolumeContribution(solutionList, minimumValues, maximumValues) ;
+    } else {
+      hypervolume.computeHypervolumeContribution(solutionList) ;
+    }
+
+    // The solution comparator reads the contributions from the attribute of the estimator
+    for (S solution : solutionList) {
+      solution.setAttribute(attributeId, hvContribution.getAttribute(solution));
+    }
   }
 
   @Override
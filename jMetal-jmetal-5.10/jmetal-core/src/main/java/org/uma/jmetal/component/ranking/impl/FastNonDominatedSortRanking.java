@@ -2,11 +2,13 @@ package org.uma.jmetal.component.ranking.impl;
 
 import org.uma.jmetal.component.ranking.Ranking;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.IntAttribute;
 import org.uma.jmetal.solution.util.attribute.util.attributecomparator.AttributeComparator;
 import org.uma.jmetal.solution.util.attribute.util.attributecomparator.impl.IntegerValueAttributeComparator;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.comparator.impl.OverallConstraintViolationComparator;
+import org.uma.jmetal.util.front.impl.ObjectiveMatrix;
 
 import java.util.*;
 
@@ -21,6 +23,7 @@ import java.util.*;
  */
 public class FastNonDominatedSortRanking<S extends Solution<?>> implements Ranking<S> {
   private String attributeId = getClass().getName() ;
+  private final IntAttribute rankAttribute = IntAttribute.of(attributeId) ;
   private Comparator<S> dominanceComparator ;
   private Comparator<S> solutionComparator;
   private static final Comparator<Solution<?>> CONSTRAINT_VIOLATION_COMPARATOR =
@@ -46,6 +49,22 @@ public class FastNonDominatedSortRanking<S extends Solution<?>> implements Ranki
 
   @Override
   public Ranking<S> computeRanking(List<S> solutionList) {
+    // With the default dominance comparator the objectives are compared on a contiguous matrix
+    ObjectiveMatrix<S> matrix =
+        ObjectiveMatrix.isEquivalentTo(dominanceComparator) ? new ObjectiveMatrix<>(solutionList) : null;
+    return computeRanking(solutionList, matrix);
+  }
+
+  /**
+   * Ranks the solutions of a matrix, which must be up to date. The matrix is used for the dominance
+   * tests if the ranking uses the default dominance comparator.
+   */
+  public Ranking<S> computeRanking(ObjectiveMatrix<S> matrix) {
+    return computeRanking(matrix.getSolutions(),
+        ObjectiveMatrix.isEquivalentTo(dominanceComparator) ? matrix : null);
+  }
+
+  private Ranking<S> computeRanking(List<S> solutionList, ObjectiveMatrix<S> matrix) {
     List<S> population = solutionList;
 
     // dominateMe[i] contains the number of population dominating i
@@ -75,10 +94,14 @@ public class FastNonDominatedSortRanking<S extends Solution<?>> implements Ranki
     for (int p = 0; p < (population.size() - 1); p++) {
       // For all q individuals , calculate if p dominates q or vice versa
       for (int q = p + 1; q < population.size(); q++) {
-        flagDominate =
-            CONSTRAINT_VIOLATION_COMPARATOR.compare(solutionList.get(p), solutionList.get(q));
-        if (flagDominate == 0) {
-          flagDominate = dominanceComparator.compare(solutionList.get(p), solutionList.get(q));
+        if (matrix != null) {
+          flagDominate = matrix.dominanceTest(p, q);
+        } else {
+          flagDominate =
+              CONSTRAINT_VIOLATION_COMPARATOR.compare(solutionList.get(p), solutionList.get(q));
+          if (flagDominate == 0) {
+            flagDominate = dominanceComparator.compare(solutionList.get(p), solutionList.get(q));
+          }
         }
         if (flagDominate == -1) {
           iDominate.get(p).add(q);
@@ -93,7 +116,7 @@ public class FastNonDominatedSortRanking<S extends Solution<?>> implements Ranki
     for (int i = 0; i < population.size(); i++) {
       if (dominateMe[i] == 0) {
         front.get(0).add(i);
-        solutionList.get(i).setAttribute(attributeId, 0);
+        solutionList.get(i).setIntAttribute(rankAttribute, 0);
       }
     }
 
@@ -110,7 +133,7 @@ public class FastNonDominatedSortRanking<S extends Solution<?>> implements Ranki
           dominateMe[index]--;
           if (dominateMe[index] == 0) {
             front.get(i).add(index);
-            solutionList.get(index).setAttribute(attributeId, i);
+            solutionList.get(index).setIntAttribute(rankAttribute, i);
           }
         }
       }
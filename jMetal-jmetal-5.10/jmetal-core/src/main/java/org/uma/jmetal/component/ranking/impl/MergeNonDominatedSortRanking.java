@@ -3,6 +3,7 @@ package org.uma.jmetal.component.ranking.impl;
 import org.uma.jmetal.component.ranking.Ranking;
 import org.uma.jmetal.component.ranking.impl.util.MNDSBitsetManager;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.IntAttribute;
 import org.uma.jmetal.solution.util.attribute.util.attributecomparator.AttributeComparator;
 import org.uma.jmetal.solution.util.attribute.util.attributecomparator.impl.IntegerValueAttributeComparator;
 import org.uma.jmetal.util.JMetalException;
@@ -22,6 +23,7 @@ import java.util.List;
  */
 public class MergeNonDominatedSortRanking<S extends Solution<?>> implements Ranking<S> {
   private String attributeId = getClass().getName();
+  private final IntAttribute rankAttribute = IntAttribute.of(attributeId);
   private Comparator<S> solutionComparator;
 
   private static final int INSERTIONSORT = 7;
@@ -67,7 +69,7 @@ public class MergeNonDominatedSortRanking<S extends Solution<?>> implements Rank
       for (int r = rankedSubPopulations.size(); r <= ranking[i]; r++) {
         rankedSubPopulations.add(new ArrayList<S>());
       }
-      solutionSet.get(i).setAttribute(attributeId, ranking[i]);
+      solutionSet.get(i).setIntAttribute(rankAttribute, ranking[i]);
       rankedSubPopulations.get(ranking[i]).add(solutionSet.get(i));
     }
     return this;
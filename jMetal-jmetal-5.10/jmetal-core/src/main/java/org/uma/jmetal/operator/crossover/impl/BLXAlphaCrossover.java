@@ -6,6 +6,7 @@ import org.uma.jmetal.solution.util.repairsolution.RepairDoubleSolution;
 import org.uma.jmetal.solution.util.repairsolution.impl.RepairDoubleSolutionWithBoundValue;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.checking.Check;
+import org.uma.jmetal.util.pool.SolutionPool;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 import org.uma.jmetal.util.pseudorandom.RandomGenerator;
 
@@ -90,8 +91,8 @@ public class BLXAlphaCrossover implements CrossoverOperator<DoubleSolution> {
       double probability, DoubleSolution parent1, DoubleSolution parent2) {
     List<DoubleSolution> offspring = new ArrayList<DoubleSolution>(2);
 
-    offspring.add((DoubleSolution) parent1.copy()) ;
-    offspring.add((DoubleSolution) parent2.copy()) ;
+    offspring.add(SolutionPool.copy(parent1)) ;
+    offspring.add(SolutionPool.copy(parent2)) ;
 
     int i;
     double random;
@@ -3,6 +3,7 @@ package org.uma.jmetal.operator.crossover.impl;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.solution.integersolution.IntegerSolution;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pool.SolutionPool;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 import org.uma.jmetal.util.pseudorandom.RandomGenerator;
 
@@ -78,8 +79,8 @@ public class IntegerSBXCrossover implements CrossoverOperator<IntegerSolution> {
           double probability, IntegerSolution parent1, IntegerSolution parent2) {
     List<IntegerSolution> offspring = new ArrayList<IntegerSolution>(2);
 
-    offspring.add((IntegerSolution) parent1.copy()) ;
-    offspring.add((IntegerSolution) parent2.copy()) ;
+    offspring.add(SolutionPool.copy(parent1)) ;
+    offspring.add(SolutionPool.copy(parent2)) ;
 
     int i;
     double rand;
@@ -90,8 +91,8 @@ public class IntegerSBXCrossover implements CrossoverOperator<IntegerSolution> {
 
     if (randomGenerator.getRandomValue() <= probability) {
       for (i = 0; i < parent1.getNumberOfVariables(); i++) {
-        valueX1 = parent1.getVariable(i);
-        valueX2 = parent2.getVariable(i);
+        valueX1 = parent1.getInt(i);
+        valueX2 = parent2.getInt(i);
         if (randomGenerator.getRandomValue() <= 0.5) {
           if (Math.abs(valueX1 - valueX2) > EPS) {
 
@@ -146,19 +147,19 @@ public class IntegerSBXCrossover implements CrossoverOperator<IntegerSolution> {
             }
 
             if (randomGenerator.getRandomValue() <= 0.5) {
-              offspring.get(0).setVariable(i, (int)c2);
-              offspring.get(1).setVariable(i, (int)c1);
+              offspring.get(0).setInt(i, (int)c2);
+              offspring.get(1).setInt(i, (int)c1);
             } else {
-              offspring.get(0).setVariable(i, (int)c1);
-              offspring.get(1).setVariable(i, (int)c2);
+              offspring.get(0).setInt(i, (int)c1);
+              offspring.get(1).setInt(i, (int)c2);
             }
           } else {
-            offspring.get(0).setVariable(i, valueX1);
-            offspring.get(1).setVariable(i, valueX2);
+            offspring.get(0).setInt(i, valueX1);
+            offspring.get(1).setInt(i, valueX2);
           }
         } else {
-          offspring.get(0).setVariable(i, valueX2);
-          offspring.get(1).setVariable(i, valueX1);
+          offspring.get(0).setInt(i, valueX2);
+          offspring.get(1).setInt(i, valueX1);
         }
       }
     }
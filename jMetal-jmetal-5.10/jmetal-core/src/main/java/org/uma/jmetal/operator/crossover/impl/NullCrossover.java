@@ -3,6 +3,7 @@ package org.uma.jmetal.operator.crossover.impl;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.checking.Check;
+import org.uma.jmetal.util.pool.SolutionPool;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -23,8 +24,8 @@ public class NullCrossover<S extends Solution<?>>
     Check.that(source.size() == 2, "There must be two parents instead of " + source.size());
 
     List<S> list = new ArrayList<>() ;
-    list.add((S) source.get(0).copy()) ;
-    list.add((S) source.get(1).copy()) ;
+    list.add(SolutionPool.copy(source.get(0))) ;
+    list.add(SolutionPool.copy(source.get(1))) ;
 
     return list ;
   }
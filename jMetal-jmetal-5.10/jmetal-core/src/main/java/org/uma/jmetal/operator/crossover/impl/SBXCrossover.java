@@ -6,6 +6,7 @@ import org.uma.jmetal.solution.util.repairsolution.RepairDoubleSolution;
 import org.uma.jmetal.solution.util.repairsolution.impl.RepairDoubleSolutionWithBoundValue;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.checking.Check;
+import org.uma.jmetal.util.pool.SolutionPool;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 import org.uma.jmetal.util.pseudorandom.RandomGenerator;
 
@@ -97,8 +98,8 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
       double probability, DoubleSolution parent1, DoubleSolution parent2) {
     List<DoubleSolution> offspring = new ArrayList<DoubleSolution>(2);
 
-    offspring.add((DoubleSolution) parent1.copy()) ;
-    offspring.add((DoubleSolution) parent2.copy()) ;
+    offspring.add(SolutionPool.copy(parent1)) ;
+    offspring.add(SolutionPool.copy(parent2)) ;
 
     int i;
     double rand;
@@ -109,8 +110,8 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
 
     if (randomGenerator.getRandomValue() <= probability) {
       for (i = 0; i < parent1.getNumberOfVariables(); i++) {
-        valueX1 = parent1.getVariable(i);
-        valueX2 = parent2.getVariable(i);
+        valueX1 = parent1.getDouble(i);
+        valueX2 = parent2.getDouble(i);
         if (randomGenerator.getRandomValue() <= 0.5) {
           if (Math.abs(valueX1 - valueX2) > EPS) {
             if (valueX1 < valueX2) {
@@ -151,19 +152,19 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
             c2 = solutionRepair.repairSolutionVariableValue(c2, lowerBound, upperBound) ;
 
             if (randomGenerator.getRandomValue() <= 0.5) {
-              offspring.get(0).setVariable(i, c2);
-              offspring.get(1).setVariable(i, c1);
+              offspring.get(0).setDouble(i, c2);
+              offspring.get(1).setDouble(i, c1);
             } else {
-              offspring.get(0).setVariable(i, c1);
-              offspring.get(1).setVariable(i, c2);
+              offspring.get(0).setDouble(i, c1);
+              offspring.get(1).setDouble(i, c2);
             }
           } else {
-            offspring.get(0).setVariable(i, valueX1);
-            offspring.get(1).setVariable(i, valueX2);
+            offspring.get(0).setDouble(i, valueX1);
+            offspring.get(1).setDouble(i, valueX2);
           }
         } else {
-          offspring.get(0).setVariable(i, valueX2);
-          offspring.get(1).setVariable(i, valueX1);
+          offspring.get(0).setDouble(i, valueX2);
+          offspring.get(1).setDouble(i, valueX1);
         }
       }
     }
@@ -98,12 +98,12 @@ public class IntegerPolynomialMutation implements MutationOperator<IntegerSoluti
 
   /** Perform the mutation operation */
   private void doMutation(double probability, IntegerSolution solution) {
-    Double rnd, delta1, delta2, mutPow, deltaq;
+    double rnd, delta1, delta2, mutPow, deltaq;
     double y, yl, yu, val, xy;
 
     for (int i = 0; i < solution.getNumberOfVariables(); i++) {
       if (randomGenerator.getRandomValue() <= probability) {
-        y = (double)solution.getVariable(i);
+        y = solution.getInt(i);
         yl = (double)solution.getLowerBound(i) ;
         yu = (double)solution.getUpperBound(i) ;
         if (yl == yu) {
@@ -125,7 +125,7 @@ public class IntegerPolynomialMutation implements MutationOperator<IntegerSoluti
           y = y + deltaq * (yu - yl);
           y = solutionRepair.repairSolutionVariableValue(y, yl, yu);
         }
-        solution.setVariable(i, (int) y);
+        solution.setInt(i, (int) y);
       }
     }
   }
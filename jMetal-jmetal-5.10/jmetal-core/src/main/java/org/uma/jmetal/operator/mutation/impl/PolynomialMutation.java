@@ -177,7 +177,7 @@ public class PolynomialMutation implements MutationOperator<DoubleSolution> {
 
     for (int i = 0; i < solution.getNumberOfVariables(); i++) {
       if (randomGenerator.getRandomValue() <= mutationProbability) {
-        y = solution.getVariable(i);
+        y = solution.getDouble(i);
         yl = solution.getLowerBound(i);
         yu = solution.getUpperBound(i);
         if (yl == yu) {
@@ -199,7 +199,7 @@ public class PolynomialMutation implements MutationOperator<DoubleSolution> {
           y = y + deltaq * (yu - yl);
           y = solutionRepair.repairSolutionVariableValue(y, yl, yu);
         }
-        solution.setVariable(i, y);
+        solution.setDouble(i, y);
       }
     }
   }
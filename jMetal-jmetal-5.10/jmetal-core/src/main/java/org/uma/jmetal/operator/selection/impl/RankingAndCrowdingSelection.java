@@ -26,7 +26,7 @@ public class RankingAndCrowdingSelection<S extends Solution<?>>
     implements SelectionOperator<List<S>,List<S>> {
   private final int solutionsToSelect ;
   private Comparator<S> dominanceComparator ;
-
+  private final CrowdingDistance<S> crowdingDistance = new CrowdingDistance<S>() ;
 
   /** Constructor */
   public RankingAndCrowdingSelection(int solutionsToSelect, Comparator<S> dominanceComparator) {
@@ -62,7 +62,6 @@ public class RankingAndCrowdingSelection<S extends Solution<?>>
   }
 
   protected List<S> crowdingDistanceSelection(Ranking<S> ranking) {
-    CrowdingDistance<S> crowdingDistance = new CrowdingDistance<S>() ;
     List<S> population = new ArrayList<>(solutionsToSelect) ;
     int rankingIndex = 0;
     while (population.size() < solutionsToSelect) {
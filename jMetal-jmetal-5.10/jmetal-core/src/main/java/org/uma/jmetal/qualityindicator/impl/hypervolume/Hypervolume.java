@@ -1,6 +1,7 @@
 package org.uma.jmetal.qualityindicator.impl.hypervolume;
 
 import org.uma.jmetal.qualityindicator.impl.GenericIndicator;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.DimensionSweepHypervolume;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.impl.ArrayFront;
 import org.uma.jmetal.util.front.util.FrontUtils;
@@ -56,6 +57,44 @@ public abstract class Hypervolume<S> extends GenericIndicator<S> {
 
   public abstract double getOffset();
 
+  /**
+   * Returns true if the fronts with the given number of objectives are computed by the
+   * dimension-sweep algorithms of {@link DimensionSweepHypervolume} instead of the general algorithm
+   * of the implementation
+   */
+  protected static boolean isComputedByDimensionSweep(int numberOfObjectives) {
+    return DimensionSweepHypervolume.canCompute(numberOfObjectives);
+  }
+
+  /**
+   * Returns the hypervolume of a front transformed to accommodate the assumptions of Zitzler's code
+   * (the objectives are maximized and the reference point is the origin), which must have two or
+   * three objectives
+   */
+  protected static double computeHypervolumeByDimensionSweep(double[][] front, int numberOfObjectives) {
+    return DimensionSweepHypervolume.computeHypervolume(
+        minimizationFront(front, numberOfObjectives), new double[numberOfObjectives]);
+  }
+
+  /**
+   * Returns the hypervolume contributions of the points of a front transformed to accommodate the
+   * assumptions of Zitzler's code, which must have two or three objectives
+   */
+  protected static double[] computeContributionsByDimensionSweep(double[][] front, int numberOfObjectives) {
+    return DimensionSweepHypervolume.computeContributions(
+        minimizationFront(front, numberOfObjectives), new double[numberOfObjectives]);
+  }
+
+  private static double[][] minimizationFront(double[][] front, int numberOfObjectives) {
+    double[][] minimizationFront = new double[front.length][numberOfObjectives];
+    for (int i = 0; i < front.length; i++) {
+      for (int j = 0; j < numberOfObjectives; j++) {
+        minimizationFront[i][j] = -front[i][j];
+      }
+    }
+    return minimizationFront;
+  }
+
   public abstract void setOffset(double offset);
 
   @Override
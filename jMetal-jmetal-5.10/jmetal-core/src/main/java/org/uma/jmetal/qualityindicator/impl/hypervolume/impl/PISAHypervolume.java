@@ -218,6 +218,11 @@ public class PISAHypervolume<S extends Solution<?>> extends Hypervolume<S> {
 
     int numberOfObjectives = referenceFront.getPoint(0).getDimension();
 
+    if (isComputedByDimensionSweep(numberOfObjectives)) {
+      return computeHypervolumeByDimensionSweep(
+          FrontUtils.convertFrontToArray(invertedFront), numberOfObjectives);
+    }
+
     // STEP4. The hypervolume (control is passed to the Java version of Zitzler code)
     return this.calculateHypervolume(
         FrontUtils.convertFrontToArray(invertedFront),
@@ -270,7 +275,10 @@ public class PISAHypervolume<S extends Solution<?>> extends Hypervolume<S> {
       HypervolumeContributionAttribute<S> hvContribution = new HypervolumeContributionAttribute<>();
 
       // calculate contributions and sort
-      double[] contributions = hvContributions(FrontUtils.convertFrontToArray(invertedFront));
+      double[][] transformedFront = FrontUtils.convertFrontToArray(invertedFront);
+      double[] contributions = isComputedByDimensionSweep(transformedFront[0].length)
+          ? computeContributionsByDimensionSweep(transformedFront, transformedFront[0].length)
+          : hvContributions(transformedFront);
       for (int i = 0; i < contributions.length; i++) {
         hvContribution.setAttribute(solutionList.get(i), contributions[i]);
       }
@@ -0,0 +1,138 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.impl;
+
+import org.uma.jmetal.solution.Solution;
+
+import java.io.FileNotFoundException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Fork-join version of {@link WFGHypervolume}. The slices of the top level of the WFG recursion are
+ * computed concurrently, as are the contributions in {@link #computeHypervolumeContribution}. Each
+ * worker thread reuses the scratch fronts of its own evaluator, and the slices are added in the same
+ * order as in the sequential version, so the values are identical to the ones of
+ * {@link WFGHypervolume}.
+ */
+@SuppressWarnings("serial")
+public class ParallelWFGHypervolume<S extends Solution<?>> extends WFGHypervolume<S> {
+  /** Fronts with fewer points are computed sequentially */
+  private static final int MINIMUM_NUMBER_OF_POINTS = 64;
+  private static final int SLICES_PER_TASK = 8;
+
+  private transient ForkJoinPool pool;
+
+  /** Default constructor */
+  public ParallelWFGHypervolume() {
+  }
+
+  /**
+   * Constructor with reference point
+   *
+   * @param referencePoint
+   */
+  public ParallelWFGHypervolume(double[] referencePoint) {
+    super(referencePoint);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param referenceParetoFrontFile
+   * @throws FileNotFoundException
+   */
+  public ParallelWFGHypervolume(String referenceParetoFrontFile) throws FileNotFoundException {
+    super(referenceParetoFrontFile);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param referenceParetoFront
+   */
+  public ParallelWFGHypervolume(org.uma.jmetal.util.front.Front referenceParetoFront) {
+    super(referenceParetoFront);
+  }
+
+  /**
+   * Sets the pool on which the hypervolume is computed. The pool belongs to the caller, who shuts it
+   * down when it is no longer needed. A null pool restores the common fork-join pool, which is the
+   * default.
+   */
+  public void setPool(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+
+  private ForkJoinPool getPool() {
+    return pool == null ? ForkJoinPool.commonPool() : pool;
+  }
+
+  @Override
+  double calculateHypervolume(double[][] front, int numberOfObjectives) {
+    if (front.length < MINIMUM_NUMBER_OF_POINTS || numberOfObjectives < 3) {
+      return super.calculateHypervolume(front, numberOfObjectives);
+    }
+
+    Front ps = new Front(front);
+    double volume = new Evaluator().headVolume(ps, numberOfObjectives);
+
+    double[] slices = new double[ps.nPoints];
+    ThreadLocal<Evaluator> evaluators = ThreadLocal.withInitial(Evaluator::new);
+    getPool().invoke(new IndexRangeTask(4, ps.nPoints, SLICES_PER_TASK,
+        i -> slices[i] = evaluators.get().sliceVolume(ps, i, numberOfObjectives)));
+
+    // the slices are added in the same order as in the sequential version
+    for (int i = 4; i < ps.nPoints; i++) {
+      volume += slices[i];
+    }
+    return volume;
+  }
+
+  @Override
+  double[] hvContributions(double[][] front) {
+    int numberOfObjectives = front[0].length;
+    double[] contributions = new double[front.length];
+    double totalVolume = calculateHypervolume(front, numberOfObjectives);
+
+    ThreadLocal<Evaluator> evaluators = ThreadLocal.withInitial(Evaluator::new);
+    getPool().invoke(new IndexRangeTask(0, front.length, 1, i -> {
+      double[][] frontSubset = frontWithout(front, i, new double[front.length - 1][]);
+      double hv = evaluators.get().calculateHypervolume(frontSubset, numberOfObjectives);
+      contributions[i] = totalVolume - hv;
+    }));
+
+    return contributions;
+  }
+
+  @Override
+  public String getDescription() {
+    return "Parallel WFG implementation of the hypervolume quality indicator";
+  }
+
+  /** Applies an action to the indices of a range, splitting it until it has at most grain indices */
+  private static class IndexRangeTask extends RecursiveAction {
+    private final int from;
+    private final int to;
+    private final int grain;
+    private final IntConsumer action;
+
+    IndexRangeTask(int from, int to, int grain, IntConsumer action) {
+      this.from = from;
+      this.to = to;
+      this.grain = grain;
+      this.action = action;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= grain) {
+        for (int i = from; i < to; i++) {
+          action.accept(i);
+        }
+      } else {
+        int middle = (from + to) >>> 1;
+        invokeAll(new IndexRangeTask(from, middle, grain, action), new IndexRangeTask(middle, to, grain, action));
+      }
+    }
+  }
+}
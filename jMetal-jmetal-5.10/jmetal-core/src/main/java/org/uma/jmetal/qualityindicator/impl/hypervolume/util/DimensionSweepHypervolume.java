@@ -0,0 +1,385 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.util;
+
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Exact hypervolume and hypervolume contributions of fronts of two and three objectives, computed by
+ * dimension-sweep algorithms in O(n log n) time. With two objectives the points are swept by the first
+ * objective; with three objectives they are swept by the third one, keeping the non-dominated points of
+ * the swept ones in the first two objectives in a balanced tree (as in the HV3D algorithm of Beume et
+ * al.).
+ *
+ * <p>The objectives are minimized and the volume is measured up to a reference point, so the points that
+ * do not strictly dominate it are ignored. The contribution of a point is the volume lost when it is
+ * removed, as in {@link org.uma.jmetal.qualityindicator.impl.hypervolume.Hypervolume#computeHypervolumeContribution(List, List)}:
+ * dominated and repeated points contribute nothing, but they reduce the contribution of the only point
+ * dominating them.
+ */
+public class DimensionSweepHypervolume {
+  private static final Comparator<double[]> BY_FIRST_OBJECTIVE = (point1, point2) -> {
+    int result = Double.compare(point1[0], point2[0]) ;
+    return (result != 0) ? result : Double.compare(point1[1], point2[1]) ;
+  } ;
+
+  /** Returns true if the fronts with the given number of objectives can be computed */
+  public static boolean canCompute(int numberOfObjectives) {
+    return (numberOfObjectives == 2) || (numberOfObjectives == 3) ;
+  }
+
+  /**
+   * Returns the hypervolume of a front
+   *
+   * @param front The objective values of the points
+   * @param referencePoint The reference point, whose length is the number of objectives
+   */
+  public static double computeHypervolume(double[][] front, double[] referencePoint) {
+    double[][] points = pointsDominating(front, referencePoint) ;
+    if (referencePoint.length == 2) {
+      return hypervolume2D(points, referencePoint) ;
+    } else if (referencePoint.length == 3) {
+      return hypervolume3D(points, referencePoint) ;
+    } else {
+      throw new JMetalException("The number of objectives is not two or three: " + referencePoint.length) ;
+    }
+  }
+
+  /**
+   * Returns the hypervolume contributions of the points of a front
+   *
+   * @param front The objective values of the points
+   * @param referencePoint The reference point, whose length is the number of objectives
+   * @return The contribution of every point of the front, in the same order
+   */
+  public static double[] computeContributions(double[][] front, double[] referencePoint) {
+    double[] contributions = new double[front.length] ;
+    double[][] points = pointsDominating(front, referencePoint) ;
+    double[] pointContributions ;
+    if (referencePoint.length == 2) {
+      pointContributions = contributions2D(points, referencePoint) ;
+    } else if (referencePoint.length == 3) {
+      pointContributions = contributions3D(points, referencePoint) ;
+    } else {
+      throw new JMetalException("The number of objectives is not two or three: " + referencePoint.length) ;
+    }
+
+    for (int i = 0, j = 0; i < front.length; i++) {
+      if (dominates(front[i], referencePoint)) {
+        contributions[i] = pointContributions[j++] ;
+      }
+    }
+    return contributions ;
+  }
+
+  private static boolean dominates(double[] point, double[] referencePoint) {
+    for (int j = 0; j < referencePoint.length; j++) {
+      if (!(point[j] < referencePoint[j])) {
+        return false ;
+      }
+    }
+    return true ;
+  }
+
+  /** Copies the points strictly dominating the reference point, adding 0.0 to turn -0.0 values into 0.0 */
+  private static double[][] pointsDominating(double[][] front, double[] referencePoint) {
+    List<double[]> points = new ArrayList<>(front.length) ;
+    for (double[] point : front) {
+      if (dominates(point, referencePoint)) {
+        double[] copy = new double[referencePoint.length] ;
+        for (int j = 0; j < referencePoint.length; j++) {
+          copy[j] = point[j] + 0.0 ;
+        }
+        points.add(copy) ;
+      }
+    }
+    return points.toArray(new double[points.size()][]) ;
+  }
+
+  /** Area dominated by the points, sweeping them by the first objective */
+  static double hypervolume2D(double[][] points, double[] referencePoint) {
+    double[][] sortedPoints = points.clone() ;
+    Arrays.sort(sortedPoints, BY_FIRST_OBJECTIVE) ;
+
+    double area = 0.0 ;
+    double lowestValue = referencePoint[1] ;
+    for (double[] point : sortedPoints) {
+      if (point[1] < lowestValue) {
+        area += (referencePoint[0] - point[0]) * (lowestValue - point[1]) ;
+        lowestValue = point[1] ;
+      }
+    }
+    return area ;
+  }
+
+  /**
+   * Volume dominated by the points, sweeping them by the third objective and keeping the area dominated
+   * in the first two ones in a staircase of non-dominated points
+   */
+  static double hypervolume3D(double[][] points, double[] referencePoint) {
+    double[][] sortedPoints = points.clone() ;
+    Arrays.sort(sortedPoints, Comparator.comparingDouble(point -> point[2])) ;
+
+    TreeMap<Double, Double> staircase = new TreeMap<>() ;
+    double volume = 0.0 ;
+    double area = 0.0 ;
+    for (int i = 0; i < sortedPoints.length; i++) {
+      double[] point = sortedPoints[i] ;
+      Map.Entry<Double, Double> left = staircase.floorEntry(point[0]) ;
+      if ((left == null) || (left.getValue() > point[1])) {
+        double top = (left == null) ? referencePoint[1] : left.getValue() ;
+        double x = point[0] ;
+        Map.Entry<Double, Double> right = staircase.ceilingEntry(point[0]) ;
+        while ((right != null) && (right.getValue() >= point[1])) {
+          area += (right.getKey() - x) * (top - point[1]) ;
+          x = right.getKey() ;
+          top = right.getValue() ;
+          staircase.remove(right.getKey()) ;
+          right = staircase.higherEntry(x) ;
+        }
+        area += (((right == null) ? referencePoint[0] : right.getKey()) - x) * (top - point[1]) ;
+        staircase.put(point[0], point[1]) ;
+      }
+
+      double nextValue = (i + 1 < sortedPoints.length) ? sortedPoints[i + 1][2] : referencePoint[2] ;
+      volume += area * (nextValue - point[2]) ;
+    }
+    return volume ;
+  }
+
+  /**
+   * Contributions in two objectives. The exclusive region of every point of the staircase of
+   * non-dominated points is the rectangle between it and its neighbors, minus the area dominated by the
+   * points that are only dominated by it, which are the ones falling into that rectangle. Sorting the
+   * points by the first objective, these come right after it and before the next point of the staircase.
+   */
+  static double[] contributions2D(double[][] points, double[] referencePoint) {
+    Integer[] order = sortedIndices(points, BY_FIRST_OBJECTIVE) ;
+    double[] contributions = new double[points.length] ;
+
+    int[] staircase = new int[points.length + 1] ;
+    int size = 0 ;
+    double lowestValue = referencePoint[1] ;
+    for (int k = 0; k < order.length; k++) {
+      if (points[order[k]][1] < lowestValue) {
+        lowestValue = points[order[k]][1] ;
+        staircase[size++] = k ;
+      }
+    }
+    staircase[size] = order.length ;
+
+    double top = referencePoint[1] ;
+    for (int s = 0; s < size; s++) {
+      double[] point = points[order[staircase[s]]] ;
+      double right = (s + 1 < size) ? points[order[staircase[s + 1]]][0] : referencePoint[0] ;
+
+      double coveredArea = 0.0 ;
+      double lowest = top ;
+      for (int k = staircase[s] + 1; k < staircase[s + 1]; k++) {
+        double[] dominated = points[order[k]] ;
+        if (dominated[1] < lowest) {
+          coveredArea += (right - dominated[0]) * (lowest - dominated[1]) ;
+          lowest = dominated[1] ;
+        }
+      }
+
+      contributions[order[staircase[s]]] = (right - point[0]) * (top - point[1]) - coveredArea ;
+      top = point[1] ;
+    }
+    return contributions ;
+  }
+
+  /**
+   * Contributions in three objectives. The points are swept by the third objective, keeping the
+   * staircase of the non-dominated swept points in the first two objectives in a balanced tree. In every
+   * slice of the sweep, the exclusive region of a point of the staircase is the rectangle between it and
+   * its neighbors, minus the area dominated by the swept points falling into that rectangle (which are
+   * dominated by it in the three objectives), kept in a second staircase of the point. The contribution
+   * of a point is the sum of its exclusive areas times the heights of the slices, and it is updated every
+   * time its rectangle or its second staircase change. The area covered by the second staircase is kept
+   * incrementally as its points are inserted and removed, and every swept point enters a second staircase
+   * at most once, so the sweep takes O(n log n) time. A point which is not inserted into the staircase is
+   * dominated by an already swept point, so its contribution is zero.
+   */
+  static double[] contributions3D(double[][] points, double[] referencePoint) {
+    Integer[] order = sortedIndices(points, Comparator.comparingDouble(point -> point[2])) ;
+    double[] contributions = new double[points.length] ;
+    TreeMap<Double, Cell> staircase = new TreeMap<>() ;
+
+    for (int index : order) {
+      double[] point = points[index] ;
+      double height = point[2] ;
+      Map.Entry<Double, Cell> left = staircase.floorEntry(point[0]) ;
+      if ((left != null) && (left.getValue().y <= point[1])) {
+        // dominated: it only matters if it falls into the rectangle of the point dominating it
+        Map.Entry<Double, Cell> upper = staircase.lowerEntry(left.getKey()) ;
+        double top = (upper == null) ? referencePoint[1] : upper.getValue().y ;
+        if (point[1] < top) {
+          Cell cell = left.getValue() ;
+          if (cell.insertDominated(point[0], point[1])) {
+            cell.accumulate(height, contributions) ;
+            cell.updateArea(staircase, referencePoint) ;
+          }
+        }
+      } else {
+        Cell cell = new Cell(index, point[0], point[1], height) ;
+        Map.Entry<Double, Cell> right = staircase.ceilingEntry(point[0]) ;
+        while ((right != null) && (right.getValue().y >= point[1])) {
+          right.getValue().accumulate(height, contributions) ;
+          cell.putDominated(right.getKey(), right.getValue().y) ;
+          staircase.remove(right.getKey()) ;
+          right = staircase.higherEntry(right.getKey()) ;
+        }
+        staircase.put(cell.x, cell) ;
+        cell.updateArea(staircase, referencePoint) ;
+
+        left = staircase.lowerEntry(cell.x) ;
+        if (left != null) {
+          Cell leftCell = left.getValue() ;
+          leftCell.accumulate(height, contributions) ;
+          leftCell.clipRight(cell.x) ;
+          leftCell.updateArea(staircase, referencePoint) ;
+        }
+        if (right != null) {
+          Cell rightCell = right.getValue() ;
+          rightCell.accumulate(height, contributions) ;
+          rightCell.clipTop(cell.y) ;
+          rightCell.updateArea(staircase, referencePoint) ;
+        }
+      }
+    }
+
+    for (Cell cell : staircase.values()) {
+      cell.accumulate(referencePoint[2], contributions) ;
+    }
+    return contributions ;
+  }
+
+  private static Integer[] sortedIndices(double[][] points, Comparator<double[]> comparator) {
+    Integer[] order = new Integer[points.length] ;
+    for (int i = 0; i < points.length; i++) {
+      order[i] = i ;
+    }
+    Arrays.sort(order, (index1, index2) -> comparator.compare(points[index1], points[index2])) ;
+    return order ;
+  }
+
+  /**
+   * A point of the staircase of the three objective sweep. Its second staircase holds the swept points
+   * dominated by it, with x values increasing and y values decreasing; gapArea is the sum of the areas
+   * between every one of them and the next one, above y, so the area they cover up to any top and right
+   * bounds is computed in constant time.
+   */
+  private static class Cell {
+    private final int index ;
+    private final double x ;
+    private final double y ;
+    private final TreeMap<Double, Double> dominated = new TreeMap<>() ;
+    private double gapArea ;
+    private double area ;
+    private double height ;
+
+    private Cell(int index, double x, double y, double height) {
+      this.index = index ;
+      this.x = x ;
+      this.y = y ;
+      this.height = height ;
+    }
+
+    /** Adds the volume of its exclusive region in the slice between the last update and the given height */
+    private void accumulate(double nextHeight, double[] contributions) {
+      contributions[index] += area * (nextHeight - height) ;
+      height = nextHeight ;
+    }
+
+    /** Computes the area of its exclusive region, given by its neighbors in the staircase */
+    private void updateArea(TreeMap<Double, Cell> staircase, double[] referencePoint) {
+      Map.Entry<Double, Cell> upper = staircase.lowerEntry(x) ;
+      Map.Entry<Double, Cell> right = staircase.higherEntry(x) ;
+      double top = (upper == null) ? referencePoint[1] : upper.getValue().y ;
+      double rightValue = (right == null) ? referencePoint[0] : right.getKey() ;
+
+      double coveredArea = 0.0 ;
+      if (!dominated.isEmpty()) {
+        double firstX = dominated.firstKey() ;
+        Map.Entry<Double, Double> last = dominated.lastEntry() ;
+        coveredArea = (top - y) * (last.getKey() - firstX) - gapArea
+            + (rightValue - last.getKey()) * (top - last.getValue()) ;
+      }
+      area = (rightValue - x) * (top - y) - coveredArea ;
+    }
+
+    /**
+     * Inserts a dominated point into the second staircase, removing the points it dominates; returns false
+     * if it is dominated by a point of the second staircase
+     */
+    private boolean insertDominated(double pointX, double pointY) {
+      Map.Entry<Double, Double> left = dominated.floorEntry(pointX) ;
+      if ((left != null) && (left.getValue() <= pointY)) {
+        return false ;
+      }
+      Map.Entry<Double, Double> right = dominated.ceilingEntry(pointX) ;
+      while ((right != null) && (right.getValue() >= pointY)) {
+        removeDominated(right.getKey()) ;
+        right = dominated.higherEntry(right.getKey()) ;
+      }
+      putDominated(pointX, pointY) ;
+      return true ;
+    }
+
+    /** Removes the dominated points beyond a new right bound */
+    private void clipRight(double rightValue) {
+      while (!dominated.isEmpty() && (dominated.lastKey() >= rightValue)) {
+        removeDominated(dominated.lastKey()) ;
+      }
+    }
+
+    /** Removes the dominated points above a new top bound */
+    private void clipTop(double top) {
+      while (!dominated.isEmpty() && (dominated.firstEntry().getValue() >= top)) {
+        removeDominated(dominated.firstKey()) ;
+      }
+    }
+
+    /** Adds a point to the second staircase, which must neither dominate nor be dominated by its points */
+    private void putDominated(double pointX, double pointY) {
+      Map.Entry<Double, Double> previous = dominated.lowerEntry(pointX) ;
+      Map.Entry<Double, Double> next = dominated.higherEntry(pointX) ;
+      if (previous != null) {
+        gapArea += (pointX - previous.getKey()) * (previous.getValue() - y) ;
+        if (next != null) {
+          gapArea -= (next.getKey() - previous.getKey()) * (previous.getValue() - y) ;
+        }
+      }
+      if (next != null) {
+        gapArea += (next.getKey() - pointX) * (pointY - y) ;
+      }
+      dominated.put(pointX, pointY) ;
+    }
+
+    private void removeDominated(double pointX) {
+      Map.Entry<Double, Double> previous = dominated.lowerEntry(pointX) ;
+      Map.Entry<Double, Double> next = dominated.higherEntry(pointX) ;
+      double pointY = dominated.remove(pointX) ;
+      if (dominated.size() < 2) {
+        // nothing is left between points, which also discards the accumulated rounding errors
+        gapArea = 0.0 ;
+        return ;
+      }
+      if (previous != null) {
+        gapArea -= (pointX - previous.getKey()) * (previous.getValue() - y) ;
+        if (next != null) {
+          gapArea += (next.getKey() - previous.getKey()) * (previous.getValue() - y) ;
+        }
+      }
+      if (next != null) {
+        gapArea -= (next.getKey() - pointX) * (pointY - y) ;
+      }
+    }
+  }
+}
@@ -0,0 +1,416 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.util;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.comparator.HypervolumeContributionComparator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.RandomGenerator;
+import org.uma.jmetal.util.solutionattribute.impl.HypervolumeContributionAttribute;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes the hypervolume contributions of a list of solutions as
+ * {@link org.uma.jmetal.qualityindicator.impl.hypervolume.Hypervolume#computeHypervolumeContribution(List, List)}
+ * does (the objectives are normalized with the bounds of the reference front and the reference point
+ * is placed at an offset from its maximum values), but keeping the contributions between calls: when
+ * the list changes in a few solutions, as in a bounded archive or in the steady-state replacement of
+ * SMS-EMOA, only the contributions of the solutions whose exclusive region is reached by the inserted or
+ * removed ones are computed again.
+ *
+ * <p>The exclusive region of every solution is bounded by a box given by its nearest neighbors in each
+ * objective, so a new or removed solution can only change the contributions of the solutions whose box
+ * it falls into. With two and three objectives the contributions are exact; with more objectives they
+ * are estimated by Monte Carlo sampling of the box, with a number of samples such that the standard
+ * error of each estimate is below a given fraction (the error budget) of the volume of its box. Without
+ * an error budget, {@link #canCompute(int)} returns false for more than three objectives.
+ *
+ * <p>The state kept between calls is not thread safe, so an instance must not be shared by several
+ * threads.
+ */
+@SuppressWarnings("serial")
+public class HypervolumeContributionTracker<S extends Solution<?>> implements Serializable {
+  private static final double DEFAULT_OFFSET = 100.0 ;
+
+  private final double errorBudget ;
+  private final RandomGenerator<Double> randomGenerator ;
+  private final HypervolumeContributionAttribute<S> hvContribution = new HypervolumeContributionAttribute<>() ;
+  private double offset = DEFAULT_OFFSET ;
+
+  private transient int numberOfObjectives ;
+  private transient double usedOffset ;
+  private transient double[] minimumValues ;
+  private transient double[] maximumValues ;
+  private transient double[] referencePoint ;
+  private transient List<Entry<S>> entries ;
+  private transient Map<S, Entry<S>> index ;
+  private transient int generation ;
+
+  /** Constructor of a tracker computing exact contributions, which supports two and three objectives */
+  public HypervolumeContributionTracker() {
+    this(0.0) ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param errorBudget Maximum standard error of the Monte Carlo estimates used with more than three
+   *     objectives, relative to the volume of the sampled boxes; 0.0 to support only two and three
+   *     objectives
+   */
+  public HypervolumeContributionTracker(double errorBudget) {
+    this(errorBudget, () -> JMetalRandom.getInstance().nextDouble()) ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param errorBudget Maximum standard error of the Monte Carlo estimates used with more than three
+   *     objectives, relative to the volume of the sampled boxes; 0.0 to support only two and three
+   *     objectives
+   * @param randomGenerator Generator of the samples of the Monte Carlo estimates
+   */
+  public HypervolumeContributionTracker(double errorBudget, RandomGenerator<Double> randomGenerator) {
+    if ((errorBudget < 0.0) || (errorBudget >= 1.0)) {
+      throw new JMetalException("The error budget " + errorBudget + " is not in the interval [0.0, 1.0)") ;
+    }
+    this.errorBudget = errorBudget ;
+    this.randomGenerator = randomGenerator ;
+  }
+
+  /** Returns true if the contributions of solutions with the given number of objectives can be computed */
+  public boolean canCompute(int numberOfObjectives) {
+    return (numberOfObjectives == 2) || (numberOfObjectives == 3) || ((numberOfObjectives > 3) && (errorBudget > 0.0)) ;
+  }
+
+  /**
+   * Computes the hypervolume contribution of the solutions, normalized with the minimum and maximum
+   * objective values of the reference front, and sorts the list by decreasing contribution
+   */
+  public List<S> computeHypervolumeContribution(List<S> solutionList, List<S> referenceFrontList) {
+    if (solutionList.size() > 1) {
+      int objectives = referenceFrontList.get(0).getNumberOfObjectives() ;
+      double[] minimum = new double[objectives] ;
+      double[] maximum = new double[objectives] ;
+      Arrays.fill(minimum, Double.POSITIVE_INFINITY);
+      Arrays.fill(maximum, Double.NEGATIVE_INFINITY);
+      for (S solution : referenceFrontList) {
+        for (int j = 0; j < objectives; j++) {
+          minimum[j] = Math.min(minimum[j], solution.getObjective(j)) ;
+          maximum[j] = Math.max(maximum[j], solution.getObjective(j)) ;
+        }
+      }
+      computeHypervolumeContribution(solutionList, minimum, maximum) ;
+    }
+    return solutionList ;
+  }
+
+  /**
+   * Computes the hypervolume contribution of the solutions, normalized with the given minimum and
+   * maximum objective values, and sorts the list by decreasing contribution
+   */
+  public List<S> computeHypervolumeContribution(List<S> solutionList, double[] minimumValues, double[] maximumValues) {
+    if (solutionList.size() > 1) {
+      int objectives = solutionList.get(0).getNumberOfObjectives() ;
+      if (!canCompute(objectives)) {
+        throw new JMetalException("The contributions of solutions with " + objectives + " objectives "
+            + "cannot be computed without an error budget") ;
+      } else if ((minimumValues.length != objectives) || (maximumValues.length != objectives)) {
+        throw new JMetalException("The length of the bounds (" + minimumValues.length + ", "
+            + maximumValues.length + ") is different from the number of objectives (" + objectives + ")") ;
+      }
+
+      double scale = 1.0 ;
+      for (int j = 0; j < objectives; j++) {
+        if ((maximumValues[j] - minimumValues[j]) == 0) {
+          throw new JMetalException("Maximum and minimum values of index " + j + " "
+              + "are the same: " + maximumValues[j]);
+        }
+        scale *= maximumValues[j] - minimumValues[j] ;
+      }
+
+      List<Entry<S>> listEntries = update(solutionList, minimumValues, maximumValues) ;
+      for (int i = 0; i < solutionList.size(); i++) {
+        hvContribution.setAttribute(solutionList.get(i), listEntries.get(i).contribution / scale);
+      }
+
+      Collections.sort(solutionList, new HypervolumeContributionComparator<S>());
+    }
+    return solutionList ;
+  }
+
+  public double getOffset() {
+    return offset ;
+  }
+
+  public void setOffset(double offset) {
+    this.offset = offset ;
+  }
+
+  /**
+   * Matches the entries with the solutions of the list, applies the removed and inserted ones, and
+   * returns the entries of the list, in its order
+   */
+  private List<Entry<S>> update(List<S> solutionList, double[] minimum, double[] maximum) {
+    int objectives = solutionList.get(0).getNumberOfObjectives() ;
+    boolean rebuild = (entries == null) || (objectives != numberOfObjectives) || (offset != usedOffset)
+        || !Arrays.equals(maximum, maximumValues) ;
+    if (!rebuild && !Arrays.equals(minimum, minimumValues)) {
+      minimumValues = minimum.clone() ;
+      rebuild = !reclamp() ;
+    }
+    if (rebuild) {
+      numberOfObjectives = objectives ;
+      usedOffset = offset ;
+      minimumValues = minimum.clone() ;
+      maximumValues = maximum.clone() ;
+      referencePoint = new double[objectives] ;
+      for (int j = 0; j < objectives; j++) {
+        referencePoint[j] = maximum[j] + offset ;
+      }
+      entries = new ArrayList<>() ;
+      index = new IdentityHashMap<>() ;
+    }
+
+    generation++ ;
+    List<Entry<S>> listEntries = new ArrayList<>(solutionList.size()) ;
+    List<Entry<S>> added = new ArrayList<>() ;
+    Map<S, Entry<S>> newIndex = new IdentityHashMap<>() ;
+    for (S solution : solutionList) {
+      Entry<S> entry = index.get(solution) ;
+      if ((entry == null) || (entry.generation == generation) || !entry.hasObjectivesOf(solution)) {
+        entry = new Entry<>(solution, objectives) ;
+        clamp(entry) ;
+        added.add(entry) ;
+      }
+      entry.generation = generation ;
+      listEntries.add(entry) ;
+      newIndex.putIfAbsent(solution, entry) ;
+    }
+    index = newIndex ;
+
+    List<Entry<S>> removed = new ArrayList<>() ;
+    for (Entry<S> entry : entries) {
+      if (entry.generation != generation) {
+        removed.add(entry) ;
+      }
+    }
+
+    if (2 * (removed.size() + added.size()) > listEntries.size()) {
+      // Computing all the contributions is cheaper than finding the ones that change
+      for (Entry<S> entry : entries) {
+        entry.position = -1 ;
+      }
+      entries = new ArrayList<>(listEntries.size()) ;
+      for (Entry<S> entry : listEntries) {
+        if (entry.position < 0) {
+          entry.position = entries.size() ;
+          entry.dirty = true ;
+          entries.add(entry) ;
+        }
+      }
+    } else {
+      for (Entry<S> entry : removed) {
+        removeEntry(entry);
+      }
+      for (Entry<S> entry : added) {
+        insertEntry(entry);
+      }
+    }
+
+    for (Entry<S> entry : entries) {
+      if (entry.dirty) {
+        computeContribution(entry);
+      }
+    }
+    return listEntries ;
+  }
+
+  /** Applies the new minimum values to the entries; returns false if any of them changes */
+  private boolean reclamp() {
+    for (Entry<S> entry : entries) {
+      for (int j = 0; j < numberOfObjectives; j++) {
+        double value = Math.min(Math.max(entry.objectives[j], minimumValues[j]), maximumValues[j]) ;
+        if (value != entry.values[j]) {
+          return false ;
+        }
+      }
+    }
+    return true ;
+  }
+
+  // The objective values out of the bounds are moved to them, as the hypervolume implementations do
+  private void clamp(Entry<S> entry) {
+    for (int j = 0; j < numberOfObjectives; j++) {
+      entry.values[j] = Math.min(Math.max(entry.objectives[j], minimumValues[j]), maximumValues[j]) ;
+    }
+  }
+
+  /*
+   * The contribution of a solution can only change if the removed or inserted one reaches its box: the
+   * removed one may be one of the solutions bounding it, and the inserted one must be inside it.
+   * Solutions weakly dominated by another one have no contribution and no box, so they are checked
+   * whenever a solution is removed.
+   */
+
+  private void removeEntry(Entry<S> removed) {
+    Entry<S> last = entries.remove(entries.size() - 1) ;
+    if (last != removed) {
+      entries.set(removed.position, last) ;
+      last.position = removed.position ;
+    }
+    removed.position = -1 ;
+
+    for (Entry<S> entry : entries) {
+      if (!entry.dirty && (entry.dominated || isInBox(removed.values, entry, false))) {
+        entry.dirty = true ;
+      }
+    }
+  }
+
+  private void insertEntry(Entry<S> inserted) {
+    for (Entry<S> entry : entries) {
+      if (!entry.dirty && !entry.dominated && isInBox(inserted.values, entry, true)) {
+        entry.dirty = true ;
+      }
+    }
+
+    inserted.position = entries.size() ;
+    entries.add(inserted) ;
+  }
+
+  private boolean isInBox(double[] point, Entry<S> entry, boolean strictly) {
+    for (int j = 0; j < numberOfObjectives; j++) {
+      double value = Math.max(point[j], entry.values[j]) ;
+      if (strictly ? (value >= entry.box[j]) : (value > entry.box[j])) {
+        return false ;
+      }
+    }
+    return true ;
+  }
+
+  /**
+   * Computes the volume of the region dominated by the entry, and by no other one, up to the reference
+   * point. It is inside a box whose upper corner, in every objective, is the value of the nearest
+   * solution that is better than or equal to the entry in all the other objectives, so only the
+   * solutions whose dominated region intersects the box are considered.
+   */
+  private void computeContribution(Entry<S> entry) {
+    double[] point = entry.values ;
+    double[] box = entry.box ;
+    System.arraycopy(referencePoint, 0, box, 0, numberOfObjectives);
+    entry.dirty = false ;
+    entry.dominated = false ;
+
+    for (Entry<S> other : entries) {
+      if (other != entry) {
+        int worseObjective = -1 ;
+        for (int j = 0; j < numberOfObjectives; j++) {
+          if (other.values[j] > point[j]) {
+            if (worseObjective >= 0) {
+              worseObjective = numberOfObjectives ;
+              break ;
+            }
+            worseObjective = j ;
+          }
+        }
+        if (worseObjective < 0) {
+          entry.dominated = true ;
+          entry.contribution = 0.0 ;
+          return ;
+        } else if (worseObjective < numberOfObjectives) {
+          box[worseObjective] = Math.min(box[worseObjective], other.values[worseObjective]) ;
+        }
+      }
+    }
+
+    double volume = 1.0 ;
+    for (int j = 0; j < numberOfObjectives; j++) {
+      volume *= box[j] - point[j] ;
+    }
+
+    List<double[]> corners = new ArrayList<>() ;
+    for (Entry<S> other : entries) {
+      if (other != entry) {
+        double[] corner = new double[numberOfObjectives] ;
+        boolean inside = true ;
+        for (int j = 0; (j < numberOfObjectives) && inside; j++) {
+          corner[j] = Math.max(point[j], other.values[j]) ;
+          inside = corner[j] < box[j] ;
+        }
+        if (inside) {
+          corners.add(corner) ;
+        }
+      }
+    }
+
+    if (corners.isEmpty()) {
+      entry.contribution = volume ;
+    } else if (numberOfObjectives == 2) {
+      entry.contribution = volume - DimensionSweepHypervolume.hypervolume2D(corners.toArray(new double[0][]), box) ;
+    } else if (numberOfObjectives == 3) {
+      entry.contribution = volume - DimensionSweepHypervolume.hypervolume3D(corners.toArray(new double[0][]), box) ;
+    } else {
+      entry.contribution = volume * estimateUndominatedFraction(corners, point, box) ;
+    }
+  }
+
+  /** Fraction of uniform samples of the box that are not dominated by any of the points */
+  private double estimateUndominatedFraction(List<double[]> points, double[] lower, double[] upper) {
+    int numberOfSamples = (int) Math.ceil(0.25 / (errorBudget * errorBudget)) ;
+    double[] sample = new double[numberOfObjectives] ;
+    int undominated = 0 ;
+    for (int i = 0; i < numberOfSamples; i++) {
+      for (int j = 0; j < numberOfObjectives; j++) {
+        sample[j] = lower[j] + randomGenerator.getRandomValue() * (upper[j] - lower[j]) ;
+      }
+      boolean dominated = false ;
+      for (int k = 0; (k < points.size()) && !dominated; k++) {
+        double[] point = points.get(k) ;
+        dominated = true ;
+        for (int j = 0; (j < numberOfObjectives) && dominated; j++) {
+          dominated = point[j] <= sample[j] ;
+        }
+      }
+      if (!dominated) {
+        undominated++ ;
+      }
+    }
+    return (double) undominated / numberOfSamples ;
+  }
+
+  private static class Entry<S extends Solution<?>> {
+    private final double[] objectives ;
+    private final double[] values ;
+    private final double[] box ;
+    private double contribution ;
+    private boolean dominated ;
+    private boolean dirty = true ;
+    private int position = -1 ;
+    private int generation ;
+
+    private Entry(S solution, int numberOfObjectives) {
+      objectives = solution.getObjectives().clone() ;
+      values = new double[numberOfObjectives] ;
+      box = new double[numberOfObjectives] ;
+    }
+
+    private boolean hasObjectivesOf(S solution) {
+      if (solution.getNumberOfObjectives() != objectives.length) {
+        return false ;
+      }
+      for (int i = 0; i < objectives.length; i++) {
+        if (Double.doubleToLongBits(objectives[i]) != Double.doubleToLongBits(solution.getObjective(i))) {
+          return false ;
+        }
+      }
+      return true ;
+    }
+  }
+}
@@ -1,14 +1,25 @@
 package org.uma.jmetal.solution;
 
+import org.uma.jmetal.solution.util.attribute.DoubleAttribute;
+import org.uma.jmetal.solution.util.attribute.IntAttribute;
 import org.uma.jmetal.util.JMetalException;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
- * Abstract class representing a generic solution
+ * Abstract class representing a generic solution.
+ *
+ * <p>The values of the attributes registered as {@link DoubleAttribute} or {@link IntAttribute} are
+ * kept in primitive arrays indexed by their slot, which are allocated when the first of them is set.
+ * The rest of the attributes are kept in a map that is also created on first use. Both kinds are
+ * visible through {@link #setAttribute(Object, Object)} and {@link #getAttribute(Object)}.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
@@ -18,8 +29,18 @@ public abstract class AbstractSolution<T> implements Solution<T> {
   private List<T> variables;
   private double[] constraints;
 
+  /** Attributes not stored in slots; null until the first one is set */
   protected Map<Object, Object> attributes;
 
+  private static final double[] NO_DOUBLE_ATTRIBUTES = new double[0] ;
+  private static final int[] NO_INT_ATTRIBUTES = new int[0] ;
+  private static final long[] NO_FLAGS = new long[0] ;
+
+  private transient double[] doubleAttributes = NO_DOUBLE_ATTRIBUTES ;
+  private transient long[] doubleAttributeFlags = NO_FLAGS ;
+  private transient int[] intAttributes = NO_INT_ATTRIBUTES ;
+  private transient long[] intAttributeFlags = NO_FLAGS ;
+
   /** Constructor */
   protected AbstractSolution(int numberOfVariables, int numberOfObjectives) {
     this(numberOfVariables, numberOfObjectives, 0);
@@ -28,8 +49,6 @@ public abstract class AbstractSolution<T> implements Solution<T> {
   /** Constructor */
   protected AbstractSolution(
       int numberOfVariables, int numberOfObjectives, int numberOfConstraints) {
-    attributes = new HashMap<>();
-
     variables = new ArrayList<>(numberOfVariables);
     for (int i = 0; i < numberOfVariables; i++) {
       variables.add(i, null);
@@ -44,8 +63,6 @@ public abstract class AbstractSolution<T> implements Solution<T> {
     for (int i = 0; i < numberOfConstraints; i++) {
       constraints[i] = 0.0;
     }
-
-    attributes = new HashMap<Object, Object>();
   }
 
   @Override
@@ -65,17 +82,124 @@ public abstract class AbstractSolution<T> implements Solution<T> {
 
   @Override
   public void setAttribute(Object id, Object value) {
+    DoubleAttribute doubleAttribute = DoubleAttribute.find(id) ;
+    if (doubleAttribute != null) {
+      if (value instanceof Double) {
+        setDoubleAttribute(doubleAttribute, (Double) value);
+        return;
+      }
+      clearFlag(doubleAttributeFlags, doubleAttribute.getSlot());
+    }
+
+    IntAttribute intAttribute = IntAttribute.find(id) ;
+    if (intAttribute != null) {
+      if (value instanceof Integer) {
+        setIntAttribute(intAttribute, (Integer) value);
+        return;
+      }
+      clearFlag(intAttributeFlags, intAttribute.getSlot());
+    }
+
+    if (attributes == null) {
+      attributes = new HashMap<>();
+    }
     attributes.put(id, value);
   }
 
   @Override
   public Object getAttribute(Object id) {
-    return attributes.get(id);
+    DoubleAttribute doubleAttribute = DoubleAttribute.find(id) ;
+    if (doubleAttribute != null && isFlagSet(doubleAttributeFlags, doubleAttribute.getSlot())) {
+      return doubleAttributes[doubleAttribute.getSlot()];
+    }
+
+    IntAttribute intAttribute = IntAttribute.find(id) ;
+    if (intAttribute != null && isFlagSet(intAttributeFlags, intAttribute.getSlot())) {
+      return intAttributes[intAttribute.getSlot()];
+    }
+
+    return attributes == null ? null : attributes.get(id);
   }
 
   @Override
   public boolean hasAttribute(Object id) {
-    return attributes.containsKey(id);
+    DoubleAttribute doubleAttribute = DoubleAttribute.find(id) ;
+    if (doubleAttribute != null && isFlagSet(doubleAttributeFlags, doubleAttribute.getSlot())) {
+      return true;
+    }
+
+    IntAttribute intAttribute = IntAttribute.find(id) ;
+    if (intAttribute != null && isFlagSet(intAttributeFlags, intAttribute.getSlot())) {
+      return true;
+    }
+
+    return attributes != null && attributes.containsKey(id);
+  }
+
+  @Override
+  public void setDoubleAttribute(DoubleAttribute attribute, double value) {
+    int slot = attribute.getSlot();
+    if (slot >= doubleAttributes.length) {
+      doubleAttributes = Arrays.copyOf(doubleAttributes, Math.max(slot + 1, 2 * doubleAttributes.length));
+    }
+    doubleAttributeFlags = setFlag(doubleAttributeFlags, slot);
+    doubleAttributes[slot] = value;
+  }
+
+  @Override
+  public double getDoubleAttribute(DoubleAttribute attribute, double defaultValue) {
+    if (isFlagSet(doubleAttributeFlags, attribute.getSlot())) {
+      return doubleAttributes[attribute.getSlot()];
+    }
+    return attributes == null ? defaultValue : Solution.super.getDoubleAttribute(attribute, defaultValue);
+  }
+
+  @Override
+  public void setIntAttribute(IntAttribute attribute, int value) {
+    int slot = attribute.getSlot();
+    if (slot >= intAttributes.length) {
+      intAttributes = Arrays.copyOf(intAttributes, Math.max(slot + 1, 2 * intAttributes.length));
+    }
+    intAttributeFlags = setFlag(intAttributeFlags, slot);
+    intAttributes[slot] = value;
+  }
+
+  @Override
+  public int getIntAttribute(IntAttribute attribute, int defaultValue) {
+    if (isFlagSet(intAttributeFlags, attribute.getSlot())) {
+      return intAttributes[attribute.getSlot()];
+    }
+    return attributes == null ? defaultValue : Solution.super.getIntAttribute(attribute, defaultValue);
+  }
+
+  private static boolean isFlagSet(long[] flags, int slot) {
+    return (slot >>> 6) < flags.length && (flags[slot >>> 6] & (1L << slot)) != 0;
+  }
+
+  private static long[] setFlag(long[] flags, int slot) {
+    if ((slot >>> 6) >= flags.length) {
+      flags = Arrays.copyOf(flags, (slot >>> 6) + 1);
+    }
+    flags[slot >>> 6] |= 1L << slot;
+    return flags;
+  }
+
+  private static void clearFlag(long[] flags, int slot) {
+    if ((slot >>> 6) < flags.length) {
+      flags[slot >>> 6] &= ~(1L << slot);
+    }
+  }
+
+  /**
+   * Copies the attributes of a solution into this one, replacing the current ones. Intended for the
+   * copy constructors of the subclasses.
+   */
+  protected void copyAttributes(AbstractSolution<?> solution) {
+    attributes = solution.attributes == null ? null : new HashMap<>(solution.attributes);
+    doubleAttributes = solution.doubleAttributes.length == 0 ? NO_DOUBLE_ATTRIBUTES : solution.doubleAttributes.clone();
+    doubleAttributeFlags = solution.doubleAttributeFlags.length == 0 ? NO_FLAGS : solution.doubleAttributeFlags.clone();
+    intAttributes = solution.intAttributes.length == 0 ? NO_INT_ATTRIBUTES : solution.intAttributes.clone();
+    intAttributeFlags = solution.intAttributeFlags.length == 0 ? NO_FLAGS : solution.intAttributeFlags.clone();
   }
 
   @Override
@@ -126,7 +250,7 @@ public abstract class AbstractSolution<T> implements Solution<T> {
   @Override
   public String toString() {
     String result = "Variables: ";
-    for (T var : variables) {
+    for (T var : getVariables()) {
       result += "" + var + " ";
     }
     result += "Objectives: ";
@@ -138,7 +262,7 @@ public abstract class AbstractSolution<T> implements Solution<T> {
       result += "" + obj + " ";
     }
     result += "\t";
-    result += "AlgorithmAttributes: " + attributes + "\n";
+    result += "AlgorithmAttributes: " + getAttributes() + "\n";
 
     return result;
   }
@@ -156,11 +280,102 @@ public abstract class AbstractSolution<T> implements Solution<T> {
 
   @Override
   public int hashCode() {
-    return variables.hashCode();
+    return getVariables().hashCode();
   }
 
+  /**
+   * Returns all the attributes of the solution. Attributes stored in slots are included boxed, so the
+   * map is a copy when there are any; otherwise it is the attribute map itself.
+   */
   @Override
   public Map<Object, Object> getAttributes() {
-    return attributes;
+    if (doubleAttributeFlags.length == 0 && intAttributeFlags.length == 0) {
+      if (attributes == null) {
+        attributes = new HashMap<>();
+      }
+      return attributes;
+    }
+
+    Map<Object, Object> allAttributes = attributes == null ? new HashMap<>() : new HashMap<>(attributes);
+    for (int slot = 0; slot < doubleAttributes.length; slot++) {
+      if (isFlagSet(doubleAttributeFlags, slot)) {
+        allAttributes.put(DoubleAttribute.ofSlot(slot).getId(), doubleAttributes[slot]);
+      }
+    }
+    for (int slot = 0; slot < intAttributes.length; slot++) {
+      if (isFlagSet(intAttributeFlags, slot)) {
+        allAttributes.put(IntAttribute.ofSlot(slot).getId(), intAttributes[slot]);
+      }
+    }
+    return allAttributes;
+  }
+
+  /**
+   * Copies the objectives, constraints and attributes of this solution into another one with the same
+   * number of objectives and constraints, reusing its arrays when they have the same length. Intended
+   * for the {@link Solution#copyInto(Solution)} implementations of the subclasses.
+   */
+  protected void copyStateInto(AbstractSolution<?> target) {
+    System.arraycopy(objectives, 0, target.objectives, 0, objectives.length);
+    System.arraycopy(constraints, 0, target.constraints, 0, constraints.length);
+
+    if (target.attributes != null) {
+      target.attributes.clear();
+    }
+    if (attributes != null && !attributes.isEmpty()) {
+      if (target.attributes == null) {
+        target.attributes = new HashMap<>();
+      }
+      target.attributes.putAll(attributes);
+    }
+
+    target.doubleAttributes = doubleAttributes.length == 0 ? NO_DOUBLE_ATTRIBUTES : reuse(doubleAttributes, target.doubleAttributes);
+    target.doubleAttributeFlags = doubleAttributeFlags.length == 0 ? NO_FLAGS : reuse(doubleAttributeFlags, target.doubleAttributeFlags);
+    target.intAttributes = intAttributes.length == 0 ? NO_INT_ATTRIBUTES : reuse(intAttributes, target.intAttributes);
+    target.intAttributeFlags = intAttributeFlags.length == 0 ? NO_FLAGS : reuse(intAttributeFlags, target.intAttributeFlags);
+  }
+
+  private static double[] reuse(double[] source, double[] target) {
+    if (source.length != target.length) {
+      return source.clone();
+    }
+    System.arraycopy(source, 0, target, 0, source.length);
+    return target;
+  }
+
+  private static int[] reuse(int[] source, int[] target) {
+    if (source.length != target.length) {
+      return source.clone();
+    }
+    System.arraycopy(source, 0, target, 0, source.length);
+    return target;
+  }
+
+  private static long[] reuse(long[] source, long[] target) {
+    if (source.length != target.length) {
+      return source.clone();
+    }
+    System.arraycopy(source, 0, target, 0, source.length);
+    return target;
+  }
+
+  // Slot indexes are only valid in the running JVM, so the slot attributes are serialized by identifier
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+    Map<Object, Object> slotAttributes = new HashMap<>(getAttributes());
+    if (attributes != null) {
+      slotAttributes.keySet().removeAll(attributes.keySet());
+    }
+    out.writeObject(slotAttributes);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    doubleAttributes = NO_DOUBLE_ATTRIBUTES;
+    doubleAttributeFlags = NO_FLAGS;
+    intAttributes = NO_INT_ATTRIBUTES;
+    intAttributeFlags = NO_FLAGS;
+    ((Map<Object, Object>) in.readObject()).forEach(this::setAttribute);
   }
 }
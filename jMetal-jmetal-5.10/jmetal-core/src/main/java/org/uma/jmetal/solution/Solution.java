@@ -1,5 +1,8 @@
 package org.uma.jmetal.solution;
 
+import org.uma.jmetal.solution.util.attribute.DoubleAttribute;
+import org.uma.jmetal.solution.util.attribute.IntAttribute;
+
 import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
@@ -29,9 +32,42 @@ public interface Solution<T> extends Serializable {
 
   Solution<T> copy() ;
 
+  /**
+   * Copies this solution into {@code target}, a solution that is no longer used, and returns it.
+   * Implementations that cannot reuse the target (e.g., because it is of another class) return a new
+   * copy instead, which is what this default method does.
+   */
+  default Solution<T> copyInto(Solution<T> target) {
+    return copy() ;
+  }
+
   void setAttribute(Object id, Object value) ;
   Object getAttribute(Object id) ;
   boolean hasAttribute(Object id) ;
   
   Map<Object, Object> getAttributes();
+
+  /**
+   * Typed access to an attribute. {@link AbstractSolution} keeps these values in primitive arrays
+   * indexed by the slot of the attribute; the default methods go through the attribute map.
+   */
+  default void setDoubleAttribute(DoubleAttribute attribute, double value) {
+    setAttribute(attribute.getId(), value) ;
+  }
+
+  /** Returns the value of the attribute, or {@code defaultValue} if the solution does not have it */
+  default double getDoubleAttribute(DoubleAttribute attribute, double defaultValue) {
+    Object value = getAttribute(attribute.getId()) ;
+    return value == null ? defaultValue : ((Number) value).doubleValue() ;
+  }
+
+  default void setIntAttribute(IntAttribute attribute, int value) {
+    setAttribute(attribute.getId(), value) ;
+  }
+
+  /** Returns the value of the attribute, or {@code defaultValue} if the solution does not have it */
+  default int getIntAttribute(IntAttribute attribute, int defaultValue) {
+    Object value = getAttribute(attribute.getId()) ;
+    return value == null ? defaultValue : ((Number) value).intValue() ;
+  }
 }
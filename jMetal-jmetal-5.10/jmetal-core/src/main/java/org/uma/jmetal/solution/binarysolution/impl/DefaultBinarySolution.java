@@ -5,9 +5,7 @@ import org.uma.jmetal.solution.binarysolution.BinarySolution;
 import org.uma.jmetal.util.binarySet.BinarySet;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Defines an implementation of a binary solution
@@ -47,7 +45,7 @@ public class DefaultBinarySolution
       setConstraint(i, solution.getConstraint(i));
     }
 
-    attributes = new HashMap<Object, Object>(solution.attributes) ;
+    copyAttributes(solution) ;
   }
 
   private static BinarySet createNewBitSet(int numberOfBits, JMetalRandom randomGenerator) {
@@ -89,9 +87,4 @@ public class DefaultBinarySolution
       setVariable(i, createNewBitSet(bitsPerVariable.get(i), randomGenerator));
     }
   }
-
-	@Override
-	public Map<Object, Object> getAttributes() {
-		return attributes;
-	}
 }
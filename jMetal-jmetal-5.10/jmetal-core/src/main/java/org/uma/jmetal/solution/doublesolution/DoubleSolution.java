@@ -10,4 +10,17 @@ import org.uma.jmetal.solution.Solution;
 public interface DoubleSolution extends Solution<Double> {
   Double getLowerBound(int index) ;
   Double getUpperBound(int index) ;
+
+  /**
+   * Unboxed access to a variable. Implementations backed by a {@code double[]}, such as
+   * {@link org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution}, override it to read
+   * the value without boxing.
+   */
+  default double getDouble(int index) {
+    return getVariable(index) ;
+  }
+
+  default void setDouble(int index, double value) {
+    setVariable(index, value) ;
+  }
 }
@@ -2,32 +2,40 @@ package org.uma.jmetal.solution.doublesolution.impl;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.uma.jmetal.solution.AbstractSolution;
+import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
-import java.util.HashMap;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
  * Defines an implementation of a double solution. Each variable is given by a pair <lower bound, upper bound>.
+ * The variables are stored in a {@code double[]}; {@link #getDouble(int)} and {@link #setDouble(int, double)}
+ * access them without boxing, and {@link #getVariables()} is a live view of the array.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 @SuppressWarnings("serial")
 public class DefaultDoubleSolution extends AbstractSolution<Double> implements DoubleSolution {
   protected List<Pair<Double, Double>> bounds ;
+  private final double[] values ;
+  private transient List<Double> variables ;
 
   /** Constructor */
   public DefaultDoubleSolution(
       List<Pair<Double, Double>> bounds,
       int numberOfObjectives,
       int numberOfConstraints) {
-    super(bounds.size(), numberOfObjectives, numberOfConstraints) ;
+    super(0, numberOfObjectives, numberOfConstraints) ;
 
     this.bounds = bounds ;
+    this.values = new double[bounds.size()] ;
 
     for (int i = 0 ; i < bounds.size(); i++) {
-      setVariable(i, JMetalRandom.getInstance().nextDouble(bounds.get(i).getLeft(), bounds.get(i).getRight())); ;
+      values[i] = JMetalRandom.getInstance().nextDouble(bounds.get(i).getLeft(), bounds.get(i).getRight()) ;
     }
   }
 
@@ -40,11 +48,9 @@ public class DefaultDoubleSolution extends AbstractSolution<Double> implements D
 
   /** Copy constructor */
   public DefaultDoubleSolution(DefaultDoubleSolution solution) {
-    super(solution.getNumberOfVariables(), solution.getNumberOfObjectives(), solution.getNumberOfConstraints()) ;
+    super(0, solution.getNumberOfObjectives(), solution.getNumberOfConstraints()) ;
 
-    for (int i = 0; i < solution.getNumberOfVariables(); i++) {
-      setVariable(i, solution.getVariable(i));
-    }
+    values = solution.values.clone() ;
 
     for (int i = 0; i < solution.getNumberOfObjectives(); i++) {
       setObjective(i, solution.getObjective(i)) ;
@@ -55,7 +61,40 @@ public class DefaultDoubleSolution extends AbstractSolution<Double> implements D
     }
 
     bounds = solution.bounds ;
-    attributes = new HashMap<Object, Object>(solution.attributes) ;
+    copyAttributes(solution) ;
+  }
+
+  @Override
+  public double getDouble(int index) {
+    return values[index] ;
+  }
+
+  @Override
+  public void setDouble(int index, double value) {
+    values[index] = value ;
+  }
+
+  @Override
+  public Double getVariable(int index) {
+    return values[index] ;
+  }
+
+  @Override
+  public void setVariable(int index, Double value) {
+    values[index] = value ;
+  }
+
+  @Override
+  public List<Double> getVariables() {
+    if (variables == null) {
+      variables = new VariableList() ;
+    }
+    return variables ;
+  }
+
+  @Override
+  public int getNumberOfVariables() {
+    return values.length ;
   }
 
   @Override
@@ -72,4 +111,59 @@ public class DefaultDoubleSolution extends AbstractSolution<Double> implements D
   public DefaultDoubleSolution copy() {
     return new DefaultDoubleSolution(this);
   }
+
+  /**
+   * Reuses the target if it is a {@code DefaultDoubleSolution} (and not a subclass) with the same number of
+   * variables, objectives and constraints.
+   */
+  @Override
+  public DefaultDoubleSolution copyInto(Solution<Double> target) {
+    if (target == this || getClass() != DefaultDoubleSolution.class || target.getClass() != DefaultDoubleSolution.class) {
+      return copy() ;
+    }
+    DefaultDoubleSolution solution = (DefaultDoubleSolution) target ;
+    if (solution.values.length != values.length
+        || solution.getNumberOfObjectives() != getNumberOfObjectives()
+        || solution.getNumberOfConstraints() != getNumberOfConstraints()) {
+      return copy() ;
+    }
+
+    System.arraycopy(values, 0, solution.values, 0, values.length);
+    solution.bounds = bounds ;
+    copyStateInto(solution) ;
+    return solution ;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o instanceof DefaultDoubleSolution) {
+      return Arrays.equals(values, ((DefaultDoubleSolution) o).values) ;
+    }
+    return super.equals(o) ;
+  }
+
+  /** Same value as the hash code of {@link #getVariables()} */
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(values) ;
+  }
+
+  private class VariableList extends AbstractList<Double> implements RandomAccess {
+    @Override
+    public Double get(int index) {
+      return values[index] ;
+    }
+
+    @Override
+    public Double set(int index, Double value) {
+      double previous = values[index] ;
+      values[index] = value ;
+      return previous ;
+    }
+
+    @Override
+    public int size() {
+      return values.length ;
+    }
+  }
 }
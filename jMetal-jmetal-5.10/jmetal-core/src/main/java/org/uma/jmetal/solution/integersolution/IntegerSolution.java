@@ -10,4 +10,17 @@ import org.uma.jmetal.solution.Solution;
 public interface IntegerSolution extends Solution<Integer> {
   Integer getLowerBound(int index) ;
   Integer getUpperBound(int index) ;
+
+  /**
+   * Unboxed access to a variable. Implementations backed by an {@code int[]}, such as
+   * {@link org.uma.jmetal.solution.integersolution.impl.DefaultIntegerSolution}, override it to read
+   * the value without boxing.
+   */
+  default int getInt(int index) {
+    return getVariable(index) ;
+  }
+
+  default void setInt(int index, int value) {
+    setVariable(index, value) ;
+  }
 }
@@ -2,30 +2,37 @@ package org.uma.jmetal.solution.integersolution.impl;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.uma.jmetal.solution.AbstractSolution;
+import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.solution.integersolution.IntegerSolution;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
-import java.util.HashMap;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
- * Defines an implementation of an integer solution
+ * Defines an implementation of an integer solution. The variables are stored in an {@code int[]};
+ * {@link #getInt(int)} and {@link #setInt(int, int)} access them without boxing, and
+ * {@link #getVariables()} is a live view of the array.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 @SuppressWarnings("serial")
 public class DefaultIntegerSolution extends AbstractSolution<Integer> implements IntegerSolution {
   protected List<Pair<Integer, Integer>> bounds;
+  private final int[] values;
+  private transient List<Integer> variables;
 
   /** Constructor */
   public DefaultIntegerSolution(List<Pair<Integer, Integer>> bounds, int numberOfObjectives, int numberOfConstraints) {
-    super(bounds.size(), numberOfObjectives, numberOfConstraints);
+    super(0, numberOfObjectives, numberOfConstraints);
 
     this.bounds = bounds ;
+    this.values = new int[bounds.size()];
 
     for (int i = 0; i < bounds.size(); i++) {
-      setVariable(
-          i, JMetalRandom.getInstance().nextInt(bounds.get(i).getLeft(), bounds.get(i).getRight()));
+      values[i] = JMetalRandom.getInstance().nextInt(bounds.get(i).getLeft(), bounds.get(i).getRight());
     }
   }
 
@@ -39,11 +46,9 @@ public class DefaultIntegerSolution extends AbstractSolution<Integer> implements
 
   /** Copy constructor */
   public DefaultIntegerSolution(DefaultIntegerSolution solution) {
-    super(solution.getNumberOfVariables(), solution.getNumberOfObjectives(), solution.getNumberOfConstraints());
+    super(0, solution.getNumberOfObjectives(), solution.getNumberOfConstraints());
 
-    for (int i = 0; i < solution.getNumberOfVariables(); i++) {
-      setVariable(i, solution.getVariable(i));
-    }
+    values = solution.values.clone();
 
     for (int i = 0; i < solution.getNumberOfObjectives(); i++) {
       setObjective(i, solution.getObjective(i));
@@ -55,7 +60,40 @@ public class DefaultIntegerSolution extends AbstractSolution<Integer> implements
 
     bounds = solution.bounds;
 
-    attributes = new HashMap<>(solution.attributes);
+    copyAttributes(solution);
+  }
+
+  @Override
+  public int getInt(int index) {
+    return values[index];
+  }
+
+  @Override
+  public void setInt(int index, int value) {
+    values[index] = value;
+  }
+
+  @Override
+  public Integer getVariable(int index) {
+    return values[index];
+  }
+
+  @Override
+  public void setVariable(int index, Integer value) {
+    values[index] = value;
+  }
+
+  @Override
+  public List<Integer> getVariables() {
+    if (variables == null) {
+      variables = new VariableList();
+    }
+    return variables;
+  }
+
+  @Override
+  public int getNumberOfVariables() {
+    return values.length;
   }
 
   @Override
@@ -72,4 +110,59 @@ public class DefaultIntegerSolution extends AbstractSolution<Integer> implements
   public DefaultIntegerSolution copy() {
     return new DefaultIntegerSolution(this);
   }
+
+  /**
+   * Reuses the target if it is a {@code DefaultIntegerSolution} (and not a subclass) with the same number of
+   * variables, objectives and constraints.
+   */
+  @Override
+  public DefaultIntegerSolution copyInto(Solution<Integer> target) {
+    if (target == this || getClass() != DefaultIntegerSolution.class || target.getClass() != DefaultIntegerSolution.class) {
+      return copy();
+    }
+    DefaultIntegerSolution solution = (DefaultIntegerSolution) target;
+    if (solution.values.length != values.length
+        || solution.getNumberOfObjectives() != getNumberOfObjectives()
+        || solution.getNumberOfConstraints() != getNumberOfConstraints()) {
+      return copy();
+    }
+
+    System.arraycopy(values, 0, solution.values, 0, values.length);
+    solution.bounds = bounds;
+    copyStateInto(solution);
+    return solution;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o instanceof DefaultIntegerSolution) {
+      return Arrays.equals(values, ((DefaultIntegerSolution) o).values);
+    }
+    return super.equals(o);
+  }
+
+  /** Same value as the hash code of {@link #getVariables()} */
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(values);
+  }
+
+  private class VariableList extends AbstractList<Integer> implements RandomAccess {
+    @Override
+    public Integer get(int index) {
+      return values[index];
+    }
+
+    @Override
+    public Integer set(int index, Integer value) {
+      int previous = values[index];
+      values[index] = value;
+      return previous;
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
   }
+}
@@ -4,9 +4,7 @@ import org.uma.jmetal.solution.AbstractSolution;
 import org.uma.jmetal.solution.permutationsolution.PermutationSolution;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Defines an implementation of solution composed of a permutation of integers. A permutation is
@@ -51,7 +49,7 @@ public class IntegerPermutationSolution extends AbstractSolution<Integer>
       setConstraint(i, solution.getConstraint(i));
     }
 
-    attributes = new HashMap<Object, Object>(solution.attributes);
+    copyAttributes(solution);
   }
 
   @Override
@@ -59,11 +57,6 @@ public class IntegerPermutationSolution extends AbstractSolution<Integer>
     return new IntegerPermutationSolution(this);
   }
 
-  @Override
-  public Map<Object, Object> getAttributes() {
-    return attributes;
-  }
-
   @Override
   public int getLength() {
     return getNumberOfVariables();
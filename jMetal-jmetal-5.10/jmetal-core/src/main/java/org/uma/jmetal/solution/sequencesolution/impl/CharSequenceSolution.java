@@ -3,9 +3,6 @@ package org.uma.jmetal.solution.sequencesolution.impl;
 import org.uma.jmetal.solution.AbstractSolution;
 import org.uma.jmetal.solution.sequencesolution.SequenceSolution;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Defines an implementation of solution representing sequences of chars.
  *
@@ -38,7 +35,7 @@ public class CharSequenceSolution extends AbstractSolution<Character> implements
       setConstraint(i, solution.getConstraint(i));
     }
 
-    attributes = new HashMap<Object, Object>(solution.attributes);
+    copyAttributes(solution);
   }
 
   @Override
@@ -46,11 +43,6 @@ public class CharSequenceSolution extends AbstractSolution<Character> implements
     return new CharSequenceSolution(this);
   }
 
-  @Override
-  public Map<Object, Object> getAttributes() {
-    return attributes;
-  }
-
   @Override
   public int getLength() {
     return getNumberOfVariables();
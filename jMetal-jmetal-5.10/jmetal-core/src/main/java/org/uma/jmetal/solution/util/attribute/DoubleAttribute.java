@@ -0,0 +1,44 @@
+package org.uma.jmetal.solution.util.attribute;
+
+import org.uma.jmetal.util.JMetalException;
+
+/**
+ * Key of a solution attribute with {@code double} values. Every attribute identifier is registered
+ * once and receives a fixed slot index, which {@link org.uma.jmetal.solution.AbstractSolution} uses to
+ * keep the values in a primitive array instead of its attribute map. Values set or read with the
+ * identifier through {@link org.uma.jmetal.solution.Solution#setAttribute(Object, Object)} and
+ * {@link org.uma.jmetal.solution.Solution#getAttribute(Object)} are the same ones.
+ */
+@SuppressWarnings("serial")
+public final class DoubleAttribute extends SlotAttribute {
+  private static final Registry<DoubleAttribute> registry =
+      new Registry<>("a double", DoubleAttribute::new, DoubleAttribute[]::new) ;
+
+  private DoubleAttribute(Object id, int slot) {
+    super(id, slot) ;
+  }
+
+  /**
+   * Returns the key of the attribute, registering it the first time
+   *
+   * @throws JMetalException if the identifier is already registered with another kind of attribute
+   */
+  public static DoubleAttribute of(Object id) {
+    return registry.of(id) ;
+  }
+
+  /** Returns the key of the attribute, or null if it has not been registered */
+  public static DoubleAttribute find(Object id) {
+    return registry.find(id) ;
+  }
+
+  /** Returns the key of the attribute registered with the given slot */
+  public static DoubleAttribute ofSlot(int slot) {
+    return registry.ofSlot(slot) ;
+  }
+
+  // Slots are assigned in registration order, which may differ between runs
+  private Object readResolve() {
+    return of(getId()) ;
+  }
+}
@@ -0,0 +1,90 @@
+package org.uma.jmetal.solution.util.attribute;
+
+import org.uma.jmetal.util.JMetalException;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiFunction;
+import java.util.function.IntFunction;
+
+/**
+ * Key of a solution attribute kept in a slot of a primitive array by
+ * {@link org.uma.jmetal.solution.AbstractSolution}. Every kind of key ({@link DoubleAttribute},
+ * {@link IntAttribute}) has its own {@link Registry}, which gives a fixed slot index to every
+ * identifier the first time it is registered; an identifier can only be registered with one kind.
+ */
+@SuppressWarnings("serial")
+public abstract class SlotAttribute implements Serializable {
+  private static final List<Registry<?>> registries = new CopyOnWriteArrayList<>() ;
+
+  private final Object id ;
+  private final transient int slot ;
+
+  SlotAttribute(Object id, int slot) {
+    this.id = id ;
+    this.slot = slot ;
+  }
+
+  public Object getId() {
+    return id ;
+  }
+
+  public int getSlot() {
+    return slot ;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "(" + id + ")" ;
+  }
+
+  /** Identifiers and slots of the keys of one kind */
+  static final class Registry<A extends SlotAttribute> {
+    private final String kind ;
+    private final BiFunction<Object, Integer, A> factory ;
+    private final Map<Object, A> attributes = new ConcurrentHashMap<>() ;
+    private volatile A[] slots ;
+
+    Registry(String kind, BiFunction<Object, Integer, A> factory, IntFunction<A[]> arrayFactory) {
+      this.kind = kind ;
+      this.factory = factory ;
+      this.slots = arrayFactory.apply(0) ;
+      registries.add(this) ;
+    }
+
+    A of(Object id) {
+      A attribute = attributes.get(id) ;
+      if (attribute == null) {
+        // All the kinds share a lock, so that an identifier is registered with a single kind
+        synchronized (SlotAttribute.class) {
+          attribute = attributes.get(id) ;
+          if (attribute == null) {
+            for (Registry<?> registry : registries) {
+              if ((registry != this) && (registry.find(id) != null)) {
+                throw new JMetalException("Attribute " + id + " is already registered as " + registry.kind + " attribute") ;
+              }
+            }
+            attribute = factory.apply(id, slots.length) ;
+            A[] newSlots = Arrays.copyOf(slots, slots.length + 1) ;
+            newSlots[attribute.getSlot()] = attribute ;
+            slots = newSlots ;
+            attributes.put(id, attribute) ;
+          }
+        }
+      }
+      return attribute ;
+    }
+
+    A find(Object id) {
+      return attributes.get(id) ;
+    }
+
+    A ofSlot(int slot) {
+      return slots[slot] ;
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package org.uma.jmetal.solution.util.attribute.util.attributecomparator.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.DoubleAttribute;
 import org.uma.jmetal.solution.util.attribute.util.attributecomparator.AttributeComparator;
 import org.uma.jmetal.util.checking.Check;
 
@@ -11,6 +12,8 @@ import org.uma.jmetal.util.checking.Check;
  * @author Antonio J. Nebro
  */
 public class DoubleValueAttributeComparator<S extends Solution<?>> extends AttributeComparator<S> {
+  // Resolved on first use, so that building a comparator never registers the attribute
+  private DoubleAttribute attribute;
 
   public DoubleValueAttributeComparator(String name, Ordering ordering) {
     super(name, ordering) ;
@@ -37,15 +40,8 @@ public class DoubleValueAttributeComparator<S extends Solution<?>> extends Attri
 
     int result ;
 
-    double value1 = 0 ;
-    double value2 = 0 ;
-
-    if (solution1.getAttribute(attributeName) != null) {
-      value1 = (double) solution1.getAttribute(attributeName);
-    }
-    if (solution2.getAttribute(attributeName) != null) {
-      value2 = (double) solution2.getAttribute(attributeName);
-    }
+    double value1 = getValue(solution1) ;
+    double value2 = getValue(solution2) ;
 
     if (ordering.equals(Ordering.DESCENDING)) {
       result = Double.compare(value2, value1);
@@ -55,4 +51,16 @@ public class DoubleValueAttributeComparator<S extends Solution<?>> extends Attri
 
     return result;
   }
+
+  /** Returns the value of the attribute, or 0 if the solution does not have it */
+  private double getValue(S solution) {
+    if (attribute == null) {
+      attribute = DoubleAttribute.find(attributeName) ;
+    }
+    if (attribute != null) {
+      return solution.getDoubleAttribute(attribute, 0) ;
+    }
+    Object value = solution.getAttribute(attributeName) ;
+    return (value == null) ? 0 : (double) value ;
+  }
 }
@@ -1,6 +1,7 @@
 package org.uma.jmetal.solution.util.attribute.util.attributecomparator.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.IntAttribute;
 import org.uma.jmetal.solution.util.attribute.util.attributecomparator.AttributeComparator;
 import org.uma.jmetal.util.checking.Check;
 
@@ -11,6 +12,8 @@ import org.uma.jmetal.util.checking.Check;
  * @author Antonio J. Nebro
  */
 public class IntegerValueAttributeComparator<S extends Solution<?>> extends AttributeComparator<S> {
+  // Resolved on first use, so that building a comparator never registers the attribute
+  private IntAttribute attribute;
 
   public IntegerValueAttributeComparator(String name, Ordering ordering) {
     super(name, ordering);
@@ -38,15 +41,8 @@ public class IntegerValueAttributeComparator<S extends Solution<?>> extends Attr
 
     int result ;
 
-    int value1 = 0 ;
-    int value2 = 0 ;
-
-    if (solution1.getAttribute(attributeName) != null) {
-      value1 = (int) solution1.getAttribute(attributeName);
-    }
-    if (solution2.getAttribute(attributeName) != null) {
-      value2 = (int) solution2.getAttribute(attributeName);
-    }
+    int value1 = getValue(solution1);
+    int value2 = getValue(solution2);
 
     if (ordering.equals(Ordering.DESCENDING)) {
       result = Double.compare(value2, value1);
@@ -56,4 +52,16 @@ public class IntegerValueAttributeComparator<S extends Solution<?>> extends Attr
 
     return result;
   }
+
+  /** Returns the value of the attribute, or 0 if the solution does not have it */
+  private int getValue(S solution) {
+    if (attribute == null) {
+      attribute = IntAttribute.find(attributeName);
+    }
+    if (attribute != null) {
+      return solution.getIntAttribute(attribute, 0);
+    }
+    Object value = solution.getAttribute(attributeName);
+    return (value == null) ? 0 : (int) value;
+  }
 }
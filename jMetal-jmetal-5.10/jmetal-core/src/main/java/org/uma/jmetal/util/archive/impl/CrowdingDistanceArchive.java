@@ -1,6 +1,7 @@
 package org.uma.jmetal.util.archive.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.DoubleAttribute;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.comparator.CrowdingDistanceComparator;
 import org.uma.jmetal.util.solutionattribute.DensityEstimator;
@@ -12,11 +13,16 @@ import java.util.Comparator;
 /**
  * Created by Antonio J. Nebro on 24/09/14.
  * Modified by Juanjo on 07/04/2015
+ *
+ * The crowding distances are kept up to date by a {@link CrowdingDistanceTracker} as solutions are
+ * added and removed, instead of being computed again on every prune; the pruned solutions and the
+ * distances assigned to the solutions are the same.
  */
 @SuppressWarnings("serial")
 public class CrowdingDistanceArchive<S extends Solution<?>> extends AbstractBoundedArchive<S> {
   private Comparator<S> crowdingDistanceComparator;
   private DensityEstimator<S> crowdingDistance ;
+  private transient CrowdingDistanceTracker<S> tracker ;
 
   public CrowdingDistanceArchive(int maxSize) {
     super(maxSize);
@@ -27,8 +33,14 @@ public class CrowdingDistanceArchive<S extends Solution<?>> extends AbstractBoun
   @Override
   public void prune() {
     if (getSolutionList().size() > getMaxSize()) {
-      computeDensityEstimator();
-      S worst = new SolutionListUtils().findWorstSolution(getSolutionList(), crowdingDistanceComparator) ;
+      if (tracker == null) {
+        tracker = new CrowdingDistanceTracker<>(DoubleAttribute.of(CrowdingDistance.class)) ;
+      }
+      S worst = tracker.findWorstSolution(getSolutionList()) ;
+      if (worst == null) {
+        computeDensityEstimator();
+        worst = new SolutionListUtils().findWorstSolution(getSolutionList(), crowdingDistanceComparator) ;
+      }
       getSolutionList().remove(worst);
     }
   }
@@ -0,0 +1,342 @@
+package org.uma.jmetal.util.archive.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.DoubleAttribute;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Keeps the crowding distances of the solutions of a {@link CrowdingDistanceArchive} up to date as
+ * solutions enter and leave it. Every objective has a sorted set of the solutions, so inserting or
+ * removing a solution only recomputes the distances of its neighbors (or of all the solutions, without
+ * sorting them, if it changes the extreme values of an objective), and a heap ordered by distance and
+ * list position gives the solution to prune.
+ *
+ * <p>The distances are computed with the same operations as
+ * {@link org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance}, so they are equal to the ones
+ * it would compute. When two solutions have the same value in an objective, or a value is not finite,
+ * the result of the crowding distance depends on how the list is sorted (and it may be NaN), so
+ * {@link #findWorstSolution} returns null and the archive computes it as before.
+ */
+class CrowdingDistanceTracker<S extends Solution<?>> {
+  private final DoubleAttribute distanceAttribute ;
+
+  private int numberOfObjectives = -1 ;
+  private final List<TreeSet<Entry<S>>> sortedEntries = new ArrayList<>() ;
+  private final List<Entry<S>> members = new ArrayList<>() ;
+  private final List<Entry<S>> heap = new ArrayList<>() ;
+  private final List<Entry<S>> affected = new ArrayList<>() ;
+
+  private long nextSequence ;
+  private int equalNeighbors ;
+  private int nonFiniteEntries ;
+  private boolean distancesValid ;
+
+  CrowdingDistanceTracker(DoubleAttribute distanceAttribute) {
+    this.distanceAttribute = distanceAttribute ;
+  }
+
+  /**
+   * Updates the distances to the current contents of the list, writes them in the solutions as the
+   * crowding distance does, and returns the first solution of the list with the lowest distance, or
+   * null if the distances cannot be computed incrementally.
+   */
+  S findWorstSolution(List<S> solutionList) {
+    if (solutionList.isEmpty()) {
+      return null ;
+    }
+    int objectives = solutionList.get(0).getNumberOfObjectives() ;
+    if (objectives != numberOfObjectives) {
+      reset(objectives) ;
+    }
+
+    synchronize(solutionList);
+
+    if ((equalNeighbors > 0) || (nonFiniteEntries > 0) || hasInfiniteRanges()) {
+      distancesValid = false ;
+      affected.clear();
+      return null ;
+    }
+
+    if (!distancesValid) {
+      computeAllDistances();
+    } else {
+      for (Entry<S> entry : affected) {
+        if (entry.heapIndex >= 0) {
+          entry.distance = computeDistance(entry) ;
+          siftUp(entry.heapIndex);
+          siftDown(entry.heapIndex);
+        }
+      }
+    }
+    affected.clear();
+
+    for (Entry<S> entry : members) {
+      entry.solution.setDoubleAttribute(distanceAttribute, entry.distance);
+    }
+
+    return heap.get(0).solution ;
+  }
+
+  /**
+   * Matches the entries with the list, whose order is kept by the archive: the solutions that are
+   * no longer in it are removed, the new ones are inserted, and the ones whose objectives have changed
+   * are moved. Solutions found out of order are removed and inserted again.
+   */
+  private void synchronize(List<S> solutionList) {
+    int oldSize = members.size() ;
+    int next = 0 ;
+    int kept = 0 ;
+    for (int i = 0; i < solutionList.size(); i++) {
+      S solution = solutionList.get(i) ;
+      while ((next < oldSize) && (members.get(next).solution != solution)) {
+        remove(members.get(next++));
+      }
+
+      Entry<S> entry ;
+      if (next < oldSize) {
+        entry = members.get(next++) ;
+        if (!entry.hasObjectivesOf(solution)) {
+          remove(entry);
+          entry.copyObjectives(solution);
+          insert(entry);
+        }
+      } else {
+        entry = new Entry<>(solution, numberOfObjectives, nextSequence++) ;
+        insert(entry);
+      }
+
+      if (kept < members.size()) {
+        members.set(kept, entry) ;
+      } else {
+        members.add(entry) ;
+      }
+      kept++ ;
+    }
+    while (next < oldSize) {
+      remove(members.get(next++));
+    }
+    members.subList(kept, members.size()).clear();
+  }
+
+  private boolean hasInfiniteRanges() {
+    for (int i = 0; i < numberOfObjectives; i++) {
+      TreeSet<Entry<S>> entries = sortedEntries.get(i) ;
+      if (Double.isInfinite(entries.last().objectives[i] - entries.first().objectives[i])) {
+        return true ;
+      }
+    }
+    return false ;
+  }
+
+  private void reset(int objectives) {
+    numberOfObjectives = objectives ;
+    sortedEntries.clear();
+    for (int i = 0; i < objectives; i++) {
+      final int objective = i ;
+      sortedEntries.add(new TreeSet<Entry<S>>((entry1, entry2) -> {
+        int result = Double.compare(entry1.objectives[objective], entry2.objectives[objective]) ;
+        return result != 0 ? result : Long.compare(entry1.sequence, entry2.sequence) ;
+      })) ;
+    }
+    members.clear();
+    heap.clear();
+    affected.clear();
+    equalNeighbors = 0 ;
+    nonFiniteEntries = 0 ;
+    distancesValid = false ;
+  }
+
+  private void insert(Entry<S> entry) {
+    for (int i = 0; i < numberOfObjectives; i++) {
+      TreeSet<Entry<S>> entries = sortedEntries.get(i) ;
+      entries.add(entry) ;
+      Entry<S> lower = entries.lower(entry) ;
+      Entry<S> higher = entries.higher(entry) ;
+      equalNeighbors += equal(lower, entry, i) + equal(entry, higher, i) - equal(lower, higher, i) ;
+      neighborsChanged(lower, higher);
+    }
+    if (entry.hasNonFiniteObjectives()) {
+      nonFiniteEntries++ ;
+    }
+    affected.add(entry) ;
+    heap.add(entry) ;
+    siftUp(heap.size() - 1);
+  }
+
+  private void remove(Entry<S> entry) {
+    for (int i = 0; i < numberOfObjectives; i++) {
+      TreeSet<Entry<S>> entries = sortedEntries.get(i) ;
+      Entry<S> lower = entries.lower(entry) ;
+      Entry<S> higher = entries.higher(entry) ;
+      entries.remove(entry) ;
+      equalNeighbors += equal(lower, higher, i) - equal(lower, entry, i) - equal(entry, higher, i) ;
+      neighborsChanged(lower, higher);
+    }
+    if (entry.hasNonFiniteObjectives()) {
+      nonFiniteEntries-- ;
+    }
+    removeFromHeap(entry);
+  }
+
+  // If the entry is or was an extreme one, the range of the objective changes, and so all the distances
+  private void neighborsChanged(Entry<S> lower, Entry<S> higher) {
+    if ((lower == null) || (higher == null)) {
+      distancesValid = false ;
+    } else if (distancesValid) {
+      affected.add(lower) ;
+      affected.add(higher) ;
+    }
+  }
+
+  private int equal(Entry<S> entry1, Entry<S> entry2, int objective) {
+    if ((entry1 == null) || (entry2 == null)) {
+      return 0 ;
+    }
+    // 0.0 and -0.0 are sorted as different values, but their difference is 0.0
+    return entry1.objectives[objective] == entry2.objectives[objective] ? 1 : 0 ;
+  }
+
+  private double computeDistance(Entry<S> entry) {
+    double distance = 0.0 ;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      TreeSet<Entry<S>> entries = sortedEntries.get(i) ;
+      Entry<S> lower = entries.lower(entry) ;
+      Entry<S> higher = entries.higher(entry) ;
+      if ((lower == null) || (higher == null)) {
+        distance = Double.POSITIVE_INFINITY ;
+      } else {
+        double range = entries.last().objectives[i] - entries.first().objectives[i] ;
+        distance += (higher.objectives[i] - lower.objectives[i]) / range ;
+      }
+    }
+    return distance ;
+  }
+
+  private void computeAllDistances() {
+    for (Entry<S> entry : members) {
+      entry.distance = 0.0 ;
+    }
+    for (int i = 0; i < numberOfObjectives; i++) {
+      TreeSet<Entry<S>> entries = sortedEntries.get(i) ;
+      double range = entries.last().objectives[i] - entries.first().objectives[i] ;
+      Entry<S> lower = null ;
+      Entry<S> current = null ;
+      for (Entry<S> higher : entries) {
+        if (current != null) {
+          if (lower == null) {
+            current.distance = Double.POSITIVE_INFINITY ;
+          } else {
+            current.distance += (higher.objectives[i] - lower.objectives[i]) / range ;
+          }
+        }
+        lower = current ;
+        current = higher ;
+      }
+      current.distance = Double.POSITIVE_INFINITY ;
+    }
+
+    for (int i = heap.size() / 2 - 1; i >= 0; i--) {
+      siftDown(i);
+    }
+    distancesValid = true ;
+  }
+
+  /* Binary heap whose top is the entry with the lowest distance, the first one in the list on ties */
+
+  private boolean isWorse(Entry<S> entry1, Entry<S> entry2) {
+    return (entry1.distance < entry2.distance)
+        || ((entry1.distance == entry2.distance) && (entry1.sequence < entry2.sequence)) ;
+  }
+
+  private void removeFromHeap(Entry<S> entry) {
+    int index = entry.heapIndex ;
+    Entry<S> last = heap.remove(heap.size() - 1) ;
+    entry.heapIndex = -1 ;
+    if (last != entry) {
+      heap.set(index, last) ;
+      last.heapIndex = index ;
+      siftUp(index);
+      siftDown(last.heapIndex);
+    }
+  }
+
+  private void siftUp(int index) {
+    Entry<S> entry = heap.get(index) ;
+    while (index > 0) {
+      int parent = (index - 1) / 2 ;
+      if (!isWorse(entry, heap.get(parent))) {
+        break ;
+      }
+      move(heap.get(parent), index);
+      index = parent ;
+    }
+    move(entry, index);
+  }
+
+  private void siftDown(int index) {
+    Entry<S> entry = heap.get(index) ;
+    int size = heap.size() ;
+    while (2 * index + 1 < size) {
+      int child = 2 * index + 1 ;
+      if ((child + 1 < size) && isWorse(heap.get(child + 1), heap.get(child))) {
+        child++ ;
+      }
+      if (!isWorse(heap.get(child), entry)) {
+        break ;
+      }
+      move(heap.get(child), index);
+      index = child ;
+    }
+    move(entry, index);
+  }
+
+  private void move(Entry<S> entry, int index) {
+    heap.set(index, entry) ;
+    entry.heapIndex = index ;
+  }
+
+  private static class Entry<S extends Solution<?>> {
+    private final S solution ;
+    private final double[] objectives ;
+    private final long sequence ;
+    private double distance ;
+    private int heapIndex = -1 ;
+
+    private Entry(S solution, int numberOfObjectives, long sequence) {
+      this.solution = solution ;
+      this.objectives = new double[numberOfObjectives] ;
+      this.sequence = sequence ;
+      copyObjectives(solution);
+    }
+
+    private void copyObjectives(S solution) {
+      for (int i = 0; i < objectives.length; i++) {
+        objectives[i] = solution.getObjective(i) ;
+      }
+    }
+
+    private boolean hasObjectivesOf(S solution) {
+      if (solution.getNumberOfObjectives() != objectives.length) {
+        return false ;
+      }
+      for (int i = 0; i < objectives.length; i++) {
+        if (Double.doubleToLongBits(objectives[i]) != Double.doubleToLongBits(solution.getObjective(i))) {
+          return false ;
+        }
+      }
+      return true ;
+    }
+
+    private boolean hasNonFiniteObjectives() {
+      for (double value : objectives) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+          return true ;
+        }
+      }
+      return false ;
+    }
+  }
+}
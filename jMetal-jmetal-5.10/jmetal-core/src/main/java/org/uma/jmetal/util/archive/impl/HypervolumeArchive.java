@@ -1,25 +1,48 @@
 package org.uma.jmetal.util.archive.impl;
 
 import org.uma.jmetal.qualityindicator.impl.hypervolume.Hypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.HypervolumeContributionTracker;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.comparator.HypervolumeContributionComparator;
 
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 
 /**
  * Created by Antonio J. Nebro on 24/09/14.
+ *
+ * The hypervolume contributions are kept by a {@link HypervolumeContributionTracker}, which only
+ * computes again the ones that change when a solution enters or leaves the archive, if it supports the
+ * number of objectives of the solutions; otherwise, the hypervolume implementation computes all of
+ * them every time the archive is pruned.
  */
 @SuppressWarnings("serial")
 public class HypervolumeArchive<S extends Solution<?>> extends AbstractBoundedArchive<S> {
   private Comparator<S> comparator;
   Hypervolume<S> hypervolume ;
+  private HypervolumeContributionTracker<S> contributionTracker ;
 
   public HypervolumeArchive(int maxSize, Hypervolume<S> hypervolume) {
+    this(maxSize, hypervolume, new HypervolumeContributionTracker<>()) ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param maxSize Maximum size of the archive
+   * @param hypervolume Hypervolume implementation, used when the tracker does not support the number
+   *     of objectives; its offset is also used by the tracker
+   * @param contributionTracker Tracker of the hypervolume contributions (e.g., one with an error budget
+   *     to estimate them with more than three objectives)
+   */
+  public HypervolumeArchive(int maxSize, Hypervolume<S> hypervolume,
+      HypervolumeContributionTracker<S> contributionTracker) {
     super(maxSize);
     comparator = new HypervolumeContributionComparator<S>() ;
     this.hypervolume = hypervolume ;
+    this.contributionTracker = contributionTracker ;
   }
 
   @Override
@@ -38,7 +61,13 @@ public class HypervolumeArchive<S extends Solution<?>> extends AbstractBoundedAr
 
   @Override
   public void computeDensityEstimator() {
-    hypervolume.computeHypervolumeContribution(archive.getSolutionList(), archive.getSolutionList()) ;
+    List<S> solutionList = archive.getSolutionList() ;
+    if (!solutionList.isEmpty() && contributionTracker.canCompute(solutionList.get(0).getNumberOfObjectives())) {
+      contributionTracker.setOffset(hypervolume.getOffset());
+      contributionTracker.computeHypervolumeContribution(solutionList, solutionList) ;
+    } else {
+      hypervolume.computeHypervolumeContribution(solutionList, solutionList) ;
+    }
   }
 
   @Override
@@ -0,0 +1,422 @@
+package org.uma.jmetal.util.archive.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.ConstraintHandling;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.archive.Archive;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class implements an archive containing non-dominated solutions, which are indexed by an
+ * ND-Tree (A. Jaszkiewicz, T. Lust: ND-Tree-based update: a fast algorithm for the dynamic
+ * nondominance problem. IEEE Transactions on Evolutionary Computation 22(5), 2018). Every node of the
+ * tree keeps the ideal and nadir points of its solutions, so whole subtrees can be skipped when
+ * checking whether a new solution is dominated or which solutions it dominates; with large archives,
+ * this is much faster than the linear scan of {@link NonDominatedSolutionListArchive}.
+ *
+ * <p>The archive accepts and keeps the same solutions as a {@link NonDominatedSolutionListArchive}
+ * with the default {@link org.uma.jmetal.util.comparator.DominanceComparator}, in the same order:
+ * a solution is not added if it is dominated by a member or has the same objective values, and it
+ * removes the members it dominates. As that comparator prefers the solutions with lower overall
+ * constraint violation, all the members have the same violation degree. Objective values must not
+ * be NaN.
+ *
+ * <p>{@link #getSolutionList()} returns an unmodifiable list of the members, in the order in which
+ * they were added.
+ */
+@SuppressWarnings("serial")
+public class NonDominatedTreeArchive<S extends Solution<?>> implements Archive<S> {
+  private static final int DEFAULT_MAX_LEAF_SIZE = 20 ;
+
+  private final int maxLeafSize ;
+
+  private transient int numberOfObjectives ;
+  private transient double violationDegree ;
+  private transient Node<S> root ;
+  private transient Entry<S> first ;
+  private transient Entry<S> last ;
+  private transient int size ;
+  private transient List<S> solutionList ;
+
+  /** Constructor */
+  public NonDominatedTreeArchive() {
+    this(DEFAULT_MAX_LEAF_SIZE) ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param maxLeafSize Number of solutions of a leaf of the tree above which it is split
+   */
+  public NonDominatedTreeArchive(int maxLeafSize) {
+    if (maxLeafSize < 1) {
+      throw new JMetalException("The maximum leaf size is lower than one: " + maxLeafSize) ;
+    }
+    this.maxLeafSize = maxLeafSize ;
+  }
+
+  /**
+   * Inserts a solution in the archive
+   *
+   * @param solution The solution to be inserted.
+   * @return true if the operation success, and false if the solution is dominated or if an
+   * identical individual exists.
+   */
+  @Override
+  public boolean add(S solution) {
+    double[] objectives = solution.getObjectives().clone() ;
+    double degree = ConstraintHandling.overallConstraintViolationDegree(solution) ;
+
+    if (size == 0) {
+      numberOfObjectives = objectives.length ;
+      violationDegree = degree ;
+    } else if (objectives.length != numberOfObjectives) {
+      throw new JMetalException("The solution has " + objectives.length + " objectives instead of "
+          + numberOfObjectives) ;
+    } else if (degree < violationDegree) {
+      return false ;
+    } else if (degree > violationDegree) {
+      clear();
+      violationDegree = degree ;
+    } else if (!update(root, objectives)) {
+      return false ;
+    } else if (root.isEmpty()) {
+      root = null ;
+    }
+
+    insert(new Entry<>(solution, objectives));
+    return true ;
+  }
+
+  public Archive<S> join(Archive<S> archive) {
+    return this.addAll(archive.getSolutionList());
+  }
+
+  public Archive<S> addAll(List<S> list) {
+    for (S solution : list) {
+      this.add(solution) ;
+    }
+
+    return this ;
+  }
+
+  @Override
+  public List<S> getSolutionList() {
+    if (solutionList == null) {
+      List<S> members = new ArrayList<>(size) ;
+      for (Entry<S> entry = first; entry != null; entry = entry.next) {
+        members.add(entry.solution) ;
+      }
+      solutionList = Collections.unmodifiableList(members) ;
+    }
+    return solutionList ;
+  }
+
+  @Override
+  public int size() {
+    return size ;
+  }
+
+  @Override
+  public S get(int index) {
+    return getSolutionList().get(index) ;
+  }
+
+  /**
+   * Removes the members dominated by a point from the subtree, and returns false if the point is
+   * dominated by, or equal to, one of them
+   */
+  private boolean update(Node<S> node, double[] point) {
+    if (weaklyDominates(node.nadir, point)) {
+      return false ;
+    }
+    if (weaklyDominates(point, node.ideal) && !equals(point, node.ideal)) {
+      removeAll(node);
+      return true ;
+    }
+    if (!weaklyDominates(node.ideal, point) && !weaklyDominates(point, node.nadir)) {
+      return true ;
+    }
+
+    if (node.isLeaf()) {
+      for (int i = 0; i < node.entries.size(); ) {
+        Entry<S> entry = node.entries.get(i) ;
+        if (weaklyDominates(entry.objectives, point)) {
+          return false ;
+        } else if (weaklyDominates(point, entry.objectives)) {
+          unlink(entry);
+          node.entries.set(i, node.entries.get(node.entries.size() - 1)) ;
+          node.entries.remove(node.entries.size() - 1) ;
+        } else {
+          i++ ;
+        }
+      }
+    } else {
+      for (int i = 0; i < node.children.size(); ) {
+        Node<S> child = node.children.get(i) ;
+        if (!update(child, point)) {
+          return false ;
+        }
+        if (child.isEmpty()) {
+          node.children.set(i, node.children.get(node.children.size() - 1)) ;
+          node.children.remove(node.children.size() - 1) ;
+        } else {
+          i++ ;
+        }
+      }
+      if (node.children.size() == 1) {
+        node.replaceBy(node.children.get(0));
+      }
+    }
+    return true ;
+  }
+
+  private void insert(Entry<S> entry) {
+    link(entry);
+    if (root == null) {
+      root = new Node<>(entry.objectives) ;
+    }
+
+    Node<S> node = root ;
+    while (!node.isLeaf()) {
+      node.expand(entry.objectives);
+      node = closestChild(node.children, entry.objectives) ;
+    }
+    node.expand(entry.objectives);
+    node.entries.add(entry) ;
+    if (node.entries.size() > maxLeafSize) {
+      split(node);
+    }
+  }
+
+  /**
+   * Splits a leaf into numberOfObjectives + 1 children: the first one gets the solution farthest, on
+   * average, from the other ones, each of the next ones gets the solution farthest from the previous
+   * ones, and the remaining solutions are put into the closest child
+   */
+  private void split(Node<S> node) {
+    List<Entry<S>> entries = node.entries ;
+    int numberOfChildren = Math.min(numberOfObjectives + 1, entries.size()) ;
+    node.entries = null ;
+    node.children = new ArrayList<>(numberOfChildren) ;
+
+    double[] distanceSums = new double[entries.size()] ;
+    for (int i = 0; i < entries.size(); i++) {
+      for (int j = i + 1; j < entries.size(); j++) {
+        double distance = distance(entries.get(i).objectives, entries.get(j).objectives) ;
+        distanceSums[i] += distance ;
+        distanceSums[j] += distance ;
+      }
+    }
+
+    boolean[] assigned = new boolean[entries.size()] ;
+    int seed = indexOfMaximum(distanceSums, assigned) ;
+    double[] seedDistanceSums = new double[entries.size()] ;
+    while (true) {
+      Entry<S> entry = entries.get(seed) ;
+      Node<S> child = new Node<>(entry.objectives) ;
+      child.entries.add(entry) ;
+      node.children.add(child) ;
+      assigned[seed] = true ;
+      if (node.children.size() == numberOfChildren) {
+        break ;
+      }
+
+      for (int i = 0; i < entries.size(); i++) {
+        seedDistanceSums[i] += distance(entries.get(i).objectives, entry.objectives) ;
+      }
+      seed = indexOfMaximum(seedDistanceSums, assigned) ;
+    }
+
+    for (int i = 0; i < entries.size(); i++) {
+      if (!assigned[i]) {
+        Entry<S> entry = entries.get(i) ;
+        Node<S> child = closestChild(node.children, entry.objectives) ;
+        child.expand(entry.objectives);
+        child.entries.add(entry) ;
+      }
+    }
+  }
+
+  private static int indexOfMaximum(double[] values, boolean[] excluded) {
+    int index = -1 ;
+    for (int i = 0; i < values.length; i++) {
+      if (!excluded[i] && ((index < 0) || (values[i] > values[index]))) {
+        index = i ;
+      }
+    }
+    return index ;
+  }
+
+  /** Returns the child whose middle point (between its ideal and nadir points) is the closest one */
+  private Node<S> closestChild(List<Node<S>> children, double[] point) {
+    Node<S> closest = null ;
+    double minDistance = Double.POSITIVE_INFINITY ;
+    for (Node<S> child : children) {
+      double distance = 0.0 ;
+      for (int i = 0; i < numberOfObjectives; i++) {
+        double difference = point[i] - (child.ideal[i] + child.nadir[i]) / 2.0 ;
+        distance += difference * difference ;
+      }
+      if ((closest == null) || (distance < minDistance)) {
+        closest = child ;
+        minDistance = distance ;
+      }
+    }
+    return closest ;
+  }
+
+  private void removeAll(Node<S> node) {
+    if (node.isLeaf()) {
+      for (Entry<S> entry : node.entries) {
+        unlink(entry);
+      }
+      node.entries.clear();
+    } else {
+      for (Node<S> child : node.children) {
+        removeAll(child);
+      }
+      node.children.clear();
+    }
+  }
+
+  private void clear() {
+    root = null ;
+    first = null ;
+    last = null ;
+    size = 0 ;
+    solutionList = null ;
+  }
+
+  /* Members in the order in which they were added */
+
+  private void link(Entry<S> entry) {
+    entry.previous = last ;
+    if (last == null) {
+      first = entry ;
+    } else {
+      last.next = entry ;
+    }
+    last = entry ;
+    size++ ;
+    solutionList = null ;
+  }
+
+  private void unlink(Entry<S> entry) {
+    if (entry.previous == null) {
+      first = entry.next ;
+    } else {
+      entry.previous.next = entry.next ;
+    }
+    if (entry.next == null) {
+      last = entry.previous ;
+    } else {
+      entry.next.previous = entry.previous ;
+    }
+    entry.previous = null ;
+    entry.next = null ;
+    size-- ;
+    solutionList = null ;
+  }
+
+  /** Returns true if the first point is lower than or equal to the second one in every objective */
+  private static boolean weaklyDominates(double[] point1, double[] point2) {
+    for (int i = 0; i < point1.length; i++) {
+      if (point1[i] > point2[i]) {
+        return false ;
+      }
+    }
+    return true ;
+  }
+
+  private static boolean equals(double[] point1, double[] point2) {
+    for (int i = 0; i < point1.length; i++) {
+      if (point1[i] != point2[i]) {
+        return false ;
+      }
+    }
+    return true ;
+  }
+
+  private static double distance(double[] point1, double[] point2) {
+    double distance = 0.0 ;
+    for (int i = 0; i < point1.length; i++) {
+      distance += (point1[i] - point2[i]) * (point1[i] - point2[i]) ;
+    }
+    return Math.sqrt(distance) ;
+  }
+
+  // The tree is not serialized, but built again from the members
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+    out.writeObject(new ArrayList<>(getSolutionList()));
+  }
+
+  @SuppressWarnings("unchecked")
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    addAll((List<S>) in.readObject()) ;
+  }
+
+  /**
+   * Node of the tree. The ideal and nadir points bound the solutions of the node; they are extended
+   * when a solution is inserted, but not reduced when solutions are removed, so they may be looser
+   * than the actual ones, which is safe for the tests above.
+   */
+  private static class Node<S> {
+    private double[] ideal ;
+    private double[] nadir ;
+    private List<Node<S>> children ;
+    private List<Entry<S>> entries ;
+
+    private Node(double[] point) {
+      ideal = point.clone() ;
+      nadir = point.clone() ;
+      entries = new ArrayList<>() ;
+    }
+
+    private boolean isLeaf() {
+      return entries != null ;
+    }
+
+    private boolean isEmpty() {
+      return isLeaf() ? entries.isEmpty() : children.isEmpty() ;
+    }
+
+    private void expand(double[] point) {
+      for (int i = 0; i < point.length; i++) {
+        if (point[i] < ideal[i]) {
+          ideal[i] = point[i] ;
+        }
+        if (point[i] > nadir[i]) {
+          nadir[i] = point[i] ;
+        }
+      }
+    }
+
+    private void replaceBy(Node<S> node) {
+      ideal = node.ideal ;
+      nadir = node.nadir ;
+      children = node.children ;
+      entries = node.entries ;
+    }
+  }
+
+  private static class Entry<S> {
+    private final S solution ;
+    private final double[] objectives ;
+    private Entry<S> previous ;
+    private Entry<S> next ;
+
+    private Entry(S solution, double[] objectives) {
+      this.solution = solution ;
+      this.objectives = objectives ;
+    }
+  }
+}
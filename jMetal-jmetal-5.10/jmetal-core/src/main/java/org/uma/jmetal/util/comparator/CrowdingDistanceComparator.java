@@ -1,6 +1,7 @@
 package org.uma.jmetal.util.comparator;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.DoubleAttribute;
 import org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance;
 
 import java.io.Serializable;
@@ -14,7 +15,7 @@ import java.util.Comparator;
  */
 @SuppressWarnings("serial")
 public class CrowdingDistanceComparator<S extends Solution<?>> implements Comparator<S>, Serializable {
-  private final CrowdingDistance<S> crowdingDistance = new CrowdingDistance<S>() ;
+  private final DoubleAttribute distanceAttribute = DoubleAttribute.of(CrowdingDistance.class) ;
 
   /**
    * Compare two solutions.
@@ -36,16 +37,8 @@ public class CrowdingDistanceComparator<S extends Solution<?>> implements Compar
     } else if (solution2 == null) {
       result = -1;
     } else {
-      double distance1 = Double.MIN_VALUE ;
-      double distance2 = Double.MIN_VALUE ;
-
-      if (crowdingDistance.getAttribute(solution1) != null) {
-        distance1 = (double) crowdingDistance.getAttribute(solution1);
-      }
-
-      if (crowdingDistance.getAttribute(solution2) != null) {
-        distance2 = (double) crowdingDistance.getAttribute(solution2);
-      }
+      double distance1 = solution1.getDoubleAttribute(distanceAttribute, Double.MIN_VALUE) ;
+      double distance2 = solution2.getDoubleAttribute(distanceAttribute, Double.MIN_VALUE) ;
 
       if (distance1 > distance2) {
         result = -1;
@@ -26,6 +26,10 @@ public class DominanceComparator<S extends Solution<?>> implements Comparator<S>
     this.constraintViolationComparator = constraintComparator;
   }
 
+  public ConstraintViolationComparator<S> getConstraintViolationComparator() {
+    return constraintViolationComparator;
+  }
+
   /**
    * Compares two solutions.
    *
@@ -1,7 +1,7 @@
 package org.uma.jmetal.util.comparator;
 
 import org.uma.jmetal.solution.Solution;
-import org.uma.jmetal.util.solutionattribute.Ranking;
+import org.uma.jmetal.solution.util.attribute.IntAttribute;
 import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
 
 import java.io.Serializable;
@@ -13,7 +13,7 @@ import java.util.Comparator;
  */
 @SuppressWarnings("serial")
 public class RankingComparator<S extends Solution<?>> implements Comparator<S>, Serializable {
-  private Ranking<S> ranking = new DominanceRanking<S>();
+  private final IntAttribute rankAttribute = IntAttribute.of(DominanceRanking.class);
 
   /**
    * Compares two solutions according to the ranking attribute. The lower the ranking the better
@@ -34,16 +34,8 @@ public class RankingComparator<S extends Solution<?>> implements Comparator<S>,
     } else if (solution2 == null) {
       result = -1;
     } else {
-      int rank1 = Integer.MAX_VALUE;
-      int rank2 = Integer.MAX_VALUE;
-
-      if (ranking.getAttribute(solution1) != null) {
-        rank1 = (int) ranking.getAttribute(solution1);
-      }
-
-      if (ranking.getAttribute(solution2) != null) {
-        rank2 = (int) ranking.getAttribute(solution2);
-      }
+      int rank1 = solution1.getIntAttribute(rankAttribute, Integer.MAX_VALUE);
+      int rank2 = solution2.getIntAttribute(rankAttribute, Integer.MAX_VALUE);
 
       result = Integer.compare(rank1, rank2);
     }
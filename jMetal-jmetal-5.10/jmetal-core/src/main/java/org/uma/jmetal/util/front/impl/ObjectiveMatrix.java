@@ -0,0 +1,324 @@
+package org.uma.jmetal.util.front.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.checking.Check;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.comparator.impl.OverallConstraintViolationComparator;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.point.Point;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * This class implements the {@link Front} interface over a list of solutions, whose objective values
+ * are copied into a single row-major array (row i holds the objectives of solution i). The constraint
+ * values can be stored in the same way, and the overall constraint violation degree of every
+ * solution is always stored. The points of the front are views of the rows, so rankings, density
+ * estimators and quality indicators that scan the whole population read contiguous memory instead of
+ * reaching every solution and its objective array.
+ *
+ * <p>The matrix is a snapshot of the solutions: later changes to them are not seen until
+ * {@link #refresh()} is called, and values set through the points are not written back to them.
+ */
+@SuppressWarnings("serial")
+public class ObjectiveMatrix<S extends Solution<?>> implements Front {
+  private final List<S> solutions ;
+  private final int numberOfObjectives ;
+  private final int numberOfConstraints ;
+  private final double[] objectives ;
+  private final double[] constraints ;
+  private final double[] overallConstraintViolationDegrees ;
+  private final Point[] points ;
+
+  /** Constructor */
+  public ObjectiveMatrix(List<S> solutionList) {
+    this(solutionList, false) ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param solutionList The solutions, which must have the same number of objectives
+   * @param storeConstraints If true, the constraint values are also copied into a matrix
+   */
+  public ObjectiveMatrix(List<S> solutionList, boolean storeConstraints) {
+    Check.isNotNull(solutionList);
+
+    solutions = new ArrayList<>(solutionList) ;
+    int size = solutions.size() ;
+    numberOfObjectives = size == 0 ? 0 : solutions.get(0).getNumberOfObjectives() ;
+    numberOfConstraints = (size == 0 || !storeConstraints) ? 0 : solutions.get(0).getNumberOfConstraints() ;
+
+    objectives = new double[size * numberOfObjectives] ;
+    constraints = new double[size * numberOfConstraints] ;
+    overallConstraintViolationDegrees = new double[size] ;
+    points = new Point[size] ;
+    for (int i = 0; i < size; i++) {
+      points[i] = new RowPoint(i) ;
+      refresh(i) ;
+    }
+  }
+
+  /**
+   * Returns true if ranking with {@link #dominanceTest(int, int)} gives the same result as the
+   * comparator, which is the case of a {@link DominanceComparator} using the overall constraint
+   * violation degree.
+   */
+  public static boolean isEquivalentTo(Comparator<?> dominanceComparator) {
+    return dominanceComparator != null
+        && dominanceComparator.getClass() == DominanceComparator.class
+        && ((DominanceComparator<?>) dominanceComparator).getConstraintViolationComparator().getClass()
+            == OverallConstraintViolationComparator.class ;
+  }
+
+  /** Copies again the values of all the solutions */
+  public void refresh() {
+    for (int i = 0; i < solutions.size(); i++) {
+      refresh(i) ;
+    }
+  }
+
+  /** Copies again the values of a solution */
+  public void refresh(int index) {
+    S solution = getSolution(index) ;
+    if (solution.getNumberOfObjectives() != numberOfObjectives) {
+      throw new JMetalException("The solution has " + solution.getNumberOfObjectives()
+          + " objectives instead of " + numberOfObjectives) ;
+    }
+
+    System.arraycopy(solution.getObjectives(), 0, objectives, index * numberOfObjectives, numberOfObjectives);
+
+    double overallConstraintViolation = 0.0 ;
+    for (int j = 0; j < solution.getNumberOfConstraints(); j++) {
+      double constraint = solution.getConstraint(j) ;
+      if (j < numberOfConstraints) {
+        constraints[index * numberOfConstraints + j] = constraint ;
+      }
+      if (constraint < 0.0) {
+        overallConstraintViolation += constraint ;
+      }
+    }
+    overallConstraintViolationDegrees[index] = overallConstraintViolation ;
+  }
+
+  public S getSolution(int index) {
+    checkIndex(index) ;
+    return solutions.get(index) ;
+  }
+
+  public List<S> getSolutions() {
+    return Collections.unmodifiableList(solutions) ;
+  }
+
+  public int getNumberOfObjectives() {
+    return numberOfObjectives ;
+  }
+
+  /** Returns the number of stored constraints, which is 0 if they were not stored */
+  public int getNumberOfConstraints() {
+    return numberOfConstraints ;
+  }
+
+  public double getObjective(int index, int objective) {
+    return objectives[index * numberOfObjectives + objective] ;
+  }
+
+  /** Returns the objective matrix itself, in row-major order */
+  public double[] getObjectives() {
+    return objectives ;
+  }
+
+  public double getConstraint(int index, int constraint) {
+    return constraints[index * numberOfConstraints + constraint] ;
+  }
+
+  /** Returns the constraint matrix itself, in row-major order */
+  public double[] getConstraints() {
+    return constraints ;
+  }
+
+  public double getOverallConstraintViolationDegree(int index) {
+    return overallConstraintViolationDegrees[index] ;
+  }
+
+  /**
+   * Compares two solutions as a {@link DominanceComparator} with the default constraint handling
+   * does.
+   *
+   * @return -1, or 0, or 1 if solution i dominates solution j, both are non-dominated, or solution i
+   *     is dominated by solution j, respectively.
+   */
+  public int dominanceTest(int i, int j) {
+    // The violation degrees are 0 or negative, and the higher the better
+    double violation1 = overallConstraintViolationDegrees[i] ;
+    double violation2 = overallConstraintViolationDegrees[j] ;
+    if (violation1 > violation2) {
+      return -1 ;
+    } else if (violation2 > violation1) {
+      return 1 ;
+    }
+
+    boolean bestIsOne = false ;
+    boolean bestIsTwo = false ;
+    int offset1 = i * numberOfObjectives ;
+    int offset2 = j * numberOfObjectives ;
+    for (int k = 0; k < numberOfObjectives; k++) {
+      double value1 = objectives[offset1 + k] ;
+      double value2 = objectives[offset2 + k] ;
+      if (value1 < value2) {
+        bestIsOne = true ;
+      } else if (value2 < value1) {
+        bestIsTwo = true ;
+      }
+    }
+
+    if (bestIsOne == bestIsTwo) {
+      return 0 ;
+    }
+    return bestIsOne ? -1 : 1 ;
+  }
+
+  @Override
+  public int getNumberOfPoints() {
+    return solutions.size() ;
+  }
+
+  @Override
+  public int getPointDimensions() {
+    return numberOfObjectives ;
+  }
+
+  @Override
+  public Point getPoint(int index) {
+    checkIndex(index) ;
+    return points[index] ;
+  }
+
+  @Override
+  public void setPoint(int index, Point point) {
+    checkIndex(index) ;
+    Check.isNotNull(point);
+    for (int j = 0; j < numberOfObjectives; j++) {
+      objectives[index * numberOfObjectives + j] = point.getValue(j) ;
+    }
+  }
+
+  /** Sorts the rows, and the solutions with them */
+  @Override
+  public void sort(Comparator<Point> comparator) {
+    int size = solutions.size() ;
+    Integer[] order = new Integer[size] ;
+    for (int i = 0; i < size; i++) {
+      order[i] = i ;
+    }
+    Arrays.sort(order, (i, j) -> comparator.compare(points[i], points[j]));
+
+    double[] sortedObjectives = objectives.clone() ;
+    double[] sortedConstraints = constraints.clone() ;
+    double[] sortedDegrees = overallConstraintViolationDegrees.clone() ;
+    List<S> sortedSolutions = new ArrayList<>(size) ;
+    for (int i = 0; i < size; i++) {
+      int row = order[i] ;
+      System.arraycopy(sortedObjectives, row * numberOfObjectives, objectives, i * numberOfObjectives, numberOfObjectives);
+      System.arraycopy(sortedConstraints, row * numberOfConstraints, constraints, i * numberOfConstraints, numberOfConstraints);
+      overallConstraintViolationDegrees[i] = sortedDegrees[row] ;
+      sortedSolutions.add(solutions.get(row)) ;
+    }
+    for (int i = 0; i < size; i++) {
+      solutions.set(i, sortedSolutions.get(i)) ;
+    }
+  }
+
+  @Override
+  public double[][] getMatrix() {
+    double[][] matrix = new double[solutions.size()][] ;
+    for (int i = 0; i < matrix.length; i++) {
+      matrix[i] = Arrays.copyOfRange(objectives, i * numberOfObjectives, (i + 1) * numberOfObjectives) ;
+    }
+    return matrix ;
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0) {
+      throw new JMetalException("The index value is negative");
+    } else if (index >= solutions.size()) {
+      throw new JMetalException(
+          "The index value (" + index + ") is greater than the number of points (" + solutions.size() + ")");
+    }
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder result = new StringBuilder() ;
+    for (Point point : points) {
+      result.append(point).append("\n") ;
+    }
+    return result.toString() ;
+  }
+
+  /** View of a row of the matrix */
+  private class RowPoint implements Point {
+    private final int row ;
+
+    private RowPoint(int row) {
+      this.row = row ;
+    }
+
+    @Override
+    public int getDimension() {
+      return numberOfObjectives ;
+    }
+
+    /** Returns a copy of the row */
+    @Override
+    public double[] getValues() {
+      return Arrays.copyOfRange(objectives, row * numberOfObjectives, (row + 1) * numberOfObjectives) ;
+    }
+
+    @Override
+    public double getValue(int index) {
+      checkDimension(index) ;
+      return objectives[row * numberOfObjectives + index] ;
+    }
+
+    @Override
+    public void setValue(int index, double value) {
+      checkDimension(index) ;
+      objectives[row * numberOfObjectives + index] = value ;
+    }
+
+    // The message is only built on failure, since the views are read in the inner loops of the indicators
+    private void checkDimension(int index) {
+      if ((index < 0) || (index >= numberOfObjectives)) {
+        throw new JMetalException("Index value invalid: " + index + ". The point length is: " + numberOfObjectives) ;
+      }
+    }
+
+    @Override
+    public void update(double[] point) {
+      this.set(point);
+    }
+
+    @Override
+    public void set(double[] point) {
+      Check.that(point.length == numberOfObjectives, "The point to be update have a dimension of " + point.length + " "
+          + "while the row has a dimension of " + numberOfObjectives);
+
+      System.arraycopy(point, 0, objectives, row * numberOfObjectives, numberOfObjectives);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder result = new StringBuilder() ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        result.append(getValue(j)).append(" ") ;
+      }
+      return result.toString() ;
+    }
+  }
+}
@@ -5,6 +5,7 @@ import org.uma.jmetal.util.distance.Distance;
 import org.uma.jmetal.util.distance.impl.EuclideanDistanceBetweenVectors;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.impl.ArrayFront;
+import org.uma.jmetal.util.front.impl.ObjectiveMatrix;
 import org.uma.jmetal.util.point.Point;
 import org.uma.jmetal.util.point.PointSolution;
 
@@ -37,6 +38,16 @@ public class FrontUtils {
       maximumValue[i] = Double.NEGATIVE_INFINITY;
     }
 
+    if (front instanceof ObjectiveMatrix) {
+      double[] matrix = ((ObjectiveMatrix<?>) front).getObjectives();
+      for (int k = 0; k < matrix.length; k++) {
+        if (matrix[k] > maximumValue[k % numberOfObjectives]) {
+          maximumValue[k % numberOfObjectives] = matrix[k];
+        }
+      }
+      return maximumValue;
+    }
+
     for (int i = 0; i < front.getNumberOfPoints(); i++) {
       for (int j = 0; j < numberOfObjectives; j++) {
         if (front.getPoint(i).getValue(j) > maximumValue[j]) {
@@ -68,6 +79,16 @@ public class FrontUtils {
       minimumValue[i] = Double.MAX_VALUE;
     }
 
+    if (front instanceof ObjectiveMatrix) {
+      double[] matrix = ((ObjectiveMatrix<?>) front).getObjectives();
+      for (int k = 0; k < matrix.length; k++) {
+        if (matrix[k] < minimumValue[k % numberOfObjectives]) {
+          minimumValue[k % numberOfObjectives] = matrix[k];
+        }
+      }
+      return minimumValue;
+    }
+
     for (int i = 0; i < front.getNumberOfPoints(); i++) {
       for (int j = 0; j < numberOfObjectives; j++) {
         if (front.getPoint(i).getValue(j) < minimumValue[j]) {
@@ -205,6 +226,10 @@ public class FrontUtils {
       throw new NullFrontException();
     }
 
+    if (front instanceof ObjectiveMatrix) {
+      return front.getMatrix();
+    }
+
     double[][] arrayFront = new double[front.getNumberOfPoints()][];
 
     for (int i = 0; i < front.getNumberOfPoints(); i++) {
@@ -0,0 +1,178 @@
+package org.uma.jmetal.util.pool;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalLogger;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.logging.Level;
+
+/**
+ * Pool of solutions that are no longer used, whose objects are reused to hold new solutions instead
+ * of allocating them. An algorithm puts in the pool the solutions discarded by its replacement, and
+ * activates the pool on its thread while it creates the offspring; the crossover operators make
+ * their offspring with {@link #copy(Solution)}, which then copies the parents into pooled solutions
+ * with {@link Solution#copyInto(Solution)}.
+ *
+ * <p>Only solutions that are not referenced any more can be recycled: algorithms that keep the
+ * offspring or the discarded solutions elsewhere (e.g., in an archive that does not copy them) must
+ * exclude those. The pool also counts, per generation, the reused and allocated solutions and the
+ * bytes allocated by the thread of the algorithm, when the JVM can measure them.
+ */
+public class SolutionPool {
+  private static final ThreadLocal<SolutionPool> activePool = new ThreadLocal<>() ;
+
+  private final int capacity ;
+  private final ArrayDeque<Solution<?>> solutions ;
+
+  private int generation ;
+  private int reusedSolutions ;
+  private int newSolutions ;
+  private long generationStartBytes ;
+  private int lastReusedSolutions ;
+  private int lastNewSolutions ;
+  private long lastAllocatedBytes ;
+
+  /**
+   * Constructor
+   *
+   * @param capacity Maximum number of solutions kept in the pool
+   */
+  public SolutionPool(int capacity) {
+    this.capacity = capacity ;
+    this.solutions = new ArrayDeque<>(capacity) ;
+    reset() ;
+  }
+
+  /**
+   * Empties the pool and restarts the statistics. Algorithms call it on their own thread when they
+   * start a run.
+   */
+  public void reset() {
+    solutions.clear();
+    generation = 0 ;
+    reusedSolutions = 0 ;
+    newSolutions = 0 ;
+    lastReusedSolutions = 0 ;
+    lastNewSolutions = 0 ;
+    lastAllocatedBytes = -1 ;
+    generationStartBytes = allocatedBytes() ;
+  }
+
+  /**
+   * Returns a copy of the solution, made into a pooled solution if a pool is active on the current
+   * thread.
+   */
+  @SuppressWarnings("unchecked")
+  public static <S extends Solution<?>> S copy(S solution) {
+    SolutionPool pool = activePool.get() ;
+    return pool == null ? (S) solution.copy() : pool.copyOf(solution) ;
+  }
+
+  /** Returns a copy of the solution, made into a pooled solution if there is one */
+  @SuppressWarnings("unchecked")
+  public <S extends Solution<?>> S copyOf(S solution) {
+    Solution<?> target = solutions.pollLast() ;
+    S copy = target == null ? (S) solution.copy() : (S) copyInto(solution, target) ;
+    if (copy == target) {
+      reusedSolutions++ ;
+    } else {
+      newSolutions++ ;
+    }
+    return copy ;
+  }
+
+  // Solutions of another class are not reused by copyInto, so the raw types are safe
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Solution<?> copyInto(Solution<?> solution, Solution<?> target) {
+    return ((Solution) solution).copyInto(target) ;
+  }
+
+  /** Makes {@link #copy(Solution)} use this pool on the current thread */
+  public void activate() {
+    activePool.set(this) ;
+  }
+
+  public void deactivate() {
+    activePool.remove() ;
+  }
+
+  /**
+   * Puts in the pool the solutions of the candidate collections that are not among the survivors.
+   * Solutions are compared by identity, and each one is put once.
+   */
+  public void recycle(Collection<?> survivors, Collection<?>... candidates) {
+    Set<Object> excluded = Collections.newSetFromMap(new IdentityHashMap<>()) ;
+    excluded.addAll(survivors) ;
+    for (Collection<?> collection : candidates) {
+      for (Object candidate : collection) {
+        if (solutions.size() >= capacity) {
+          return ;
+        }
+        if (candidate instanceof Solution && excluded.add(candidate)) {
+          solutions.addLast((Solution<?>) candidate) ;
+        }
+      }
+    }
+  }
+
+  /** Closes the statistics of the current generation, and logs them */
+  public void endGeneration() {
+    long bytes = allocatedBytes() ;
+    lastReusedSolutions = reusedSolutions ;
+    lastNewSolutions = newSolutions ;
+    lastAllocatedBytes = (bytes < 0 || generationStartBytes < 0) ? -1 : bytes - generationStartBytes ;
+
+    generation++ ;
+    reusedSolutions = 0 ;
+    newSolutions = 0 ;
+    generationStartBytes = bytes ;
+
+    if (JMetalLogger.logger.isLoggable(Level.FINE)) {
+      JMetalLogger.logger.fine("Generation " + generation + ": " + lastReusedSolutions + " solutions reused, "
+          + lastNewSolutions + " allocated, " + lastAllocatedBytes + " bytes allocated") ;
+    }
+  }
+
+  public int size() {
+    return solutions.size() ;
+  }
+
+  public int getCapacity() {
+    return capacity ;
+  }
+
+  /** Number of copies made into pooled solutions in the last generation */
+  public int getReusedSolutions() {
+    return lastReusedSolutions ;
+  }
+
+  /** Number of copies that allocated a new solution in the last generation */
+  public int getNewSolutions() {
+    return lastNewSolutions ;
+  }
+
+  /**
+   * Bytes allocated by the thread of the algorithm in the last generation, or -1 if the JVM does not
+   * measure them. Allocations of other threads, such as those of a parallel evaluator, are not included.
+   */
+  public long getAllocatedBytes() {
+    return lastAllocatedBytes ;
+  }
+
+  private static long allocatedBytes() {
+    ThreadMXBean bean = ManagementFactory.getThreadMXBean() ;
+    if (bean instanceof com.sun.management.ThreadMXBean) {
+      com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean ;
+      if (threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled()) {
+        return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId()) ;
+      }
+    }
+    return -1 ;
+  }
+}
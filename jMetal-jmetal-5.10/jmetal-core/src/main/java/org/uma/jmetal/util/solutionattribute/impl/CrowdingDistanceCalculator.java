@@ -0,0 +1,172 @@
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.DoubleAttribute;
+import org.uma.jmetal.util.front.impl.ObjectiveMatrix;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Computes the crowding distance of a list of solutions on primitive arrays: the objective values
+ * are copied once into a matrix, an array of indexes is sorted by every objective, the distances are
+ * accumulated into an array and every solution attribute is written once at the end. The arrays are
+ * kept between calls, so an instance must not be shared by several threads.
+ *
+ * <p>The indexes are sorted with a stable merge sort that starts from the order of the previous
+ * objective, as the former implementations did by sorting the same list again with an
+ * {@link org.uma.jmetal.util.comparator.ObjectiveComparator}, so solutions with equal objective values
+ * get the same distances as before.
+ */
+@SuppressWarnings("serial")
+public class CrowdingDistanceCalculator implements Serializable {
+  private final boolean skipConstantObjectives ;
+
+  private transient double[] objectives ;
+  private transient double[] values ;
+  private transient double[] distances ;
+  private transient int[] order ;
+  private transient int[] buffer ;
+
+  /**
+   * Constructor
+   *
+   * @param skipConstantObjectives If true, objectives having the same value in all the solutions are
+   *     ignored; otherwise, they make the distances of the intermediate solutions NaN (0.0 / 0.0).
+   */
+  public CrowdingDistanceCalculator(boolean skipConstantObjectives) {
+    this.skipConstantObjectives = skipConstantObjectives ;
+  }
+
+  /** Computes the crowding distances of the solutions and stores them in the attribute */
+  public <S extends Solution<?>> void compute(List<S> solutionList, DoubleAttribute attribute) {
+    int size = solutionList.size() ;
+    if (size == 0) {
+      return ;
+    }
+    if (size <= 2) {
+      for (S solution : solutionList) {
+        solution.setDoubleAttribute(attribute, Double.POSITIVE_INFINITY);
+      }
+      return ;
+    }
+
+    int numberOfObjectives = solutionList.get(0).getNumberOfObjectives() ;
+    ensureCapacity(size, numberOfObjectives);
+    for (int i = 0; i < size; i++) {
+      S solution = solutionList.get(i) ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        objectives[i * numberOfObjectives + j] = solution.getObjective(j) ;
+      }
+    }
+
+    compute(objectives, size, numberOfObjectives);
+
+    for (int i = 0; i < size; i++) {
+      solutionList.get(i).setDoubleAttribute(attribute, distances[i]);
+    }
+  }
+
+  /**
+   * Computes the crowding distances of the solutions of an objective matrix, reading the objective
+   * values from the matrix, and stores them in the attribute of the solutions
+   */
+  public void compute(ObjectiveMatrix<?> matrix, DoubleAttribute attribute) {
+    int size = matrix.getNumberOfPoints() ;
+    if (size == 0) {
+      return ;
+    }
+    if (size <= 2) {
+      for (int i = 0; i < size; i++) {
+        matrix.getSolution(i).setDoubleAttribute(attribute, Double.POSITIVE_INFINITY);
+      }
+      return ;
+    }
+
+    ensureCapacity(size, 0);
+    compute(matrix.getObjectives(), size, matrix.getNumberOfObjectives());
+
+    for (int i = 0; i < size; i++) {
+      matrix.getSolution(i).setDoubleAttribute(attribute, distances[i]);
+    }
+  }
+
+  private void compute(double[] objectiveMatrix, int size, int numberOfObjectives) {
+    for (int i = 0; i < size; i++) {
+      distances[i] = 0.0 ;
+      order[i] = i ;
+    }
+
+    for (int j = 0; j < numberOfObjectives; j++) {
+      for (int i = 0; i < size; i++) {
+        values[i] = objectiveMatrix[i * numberOfObjectives + j] ;
+      }
+      sort(0, size);
+
+      double minObjective = values[order[0]] ;
+      double maxObjective = values[order[size - 1]] ;
+      // It may be beneficial to change this according to https://dl.acm.org/citation.cfm?doid=2463372.2463456.
+      // The additional change that may be beneficial is that if we have only two distinct objective values,
+      //   we also don't update the crowding distance, as they all will "go to eleven",
+      //   which makes no sense as this objective just appears to be non-discriminating.
+      if (skipConstantObjectives && (minObjective == maxObjective)) {
+        continue ;
+      }
+
+      distances[order[0]] = Double.POSITIVE_INFINITY ;
+      distances[order[size - 1]] = Double.POSITIVE_INFINITY ;
+
+      for (int i = 1; i < size - 1; i++) {
+        double distance = values[order[i + 1]] - values[order[i - 1]] ;
+        distance = distance / (maxObjective - minObjective) ;
+        distances[order[i]] += distance ;
+      }
+    }
+  }
+
+  /** Stable sort of order[from, to) by the values, as Double.compare orders them */
+  private void sort(int from, int to) {
+    if (to - from <= 16) {
+      for (int i = from + 1; i < to; i++) {
+        int index = order[i] ;
+        int k = i - 1 ;
+        while ((k >= from) && (Double.compare(values[order[k]], values[index]) > 0)) {
+          order[k + 1] = order[k] ;
+          k-- ;
+        }
+        order[k + 1] = index ;
+      }
+      return ;
+    }
+
+    int middle = (from + to) >>> 1 ;
+    sort(from, middle);
+    sort(middle, to);
+    if (Double.compare(values[order[middle - 1]], values[order[middle]]) <= 0) {
+      return ;
+    }
+
+    System.arraycopy(order, from, buffer, from, to - from);
+    int left = from ;
+    int right = middle ;
+    for (int i = from; i < to; i++) {
+      if ((right >= to) || ((left < middle) && (Double.compare(values[buffer[left]], values[buffer[right]]) <= 0))) {
+        order[i] = buffer[left++] ;
+      } else {
+        order[i] = buffer[right++] ;
+      }
+    }
+  }
+
+  private void ensureCapacity(int size, int numberOfObjectives) {
+    if ((order == null) || (order.length < size)) {
+      values = new double[size] ;
+      distances = new double[size] ;
+      order = new int[size] ;
+      buffer = new int[size] ;
+    }
+    if ((numberOfObjectives > 0) && ((objectives == null) || (objectives.length < size * numberOfObjectives))) {
+      objectives = new double[size * numberOfObjectives] ;
+    }
+  }
+}
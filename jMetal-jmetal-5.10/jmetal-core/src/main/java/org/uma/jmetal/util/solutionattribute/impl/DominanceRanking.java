@@ -1,9 +1,11 @@
 package org.uma.jmetal.util.solutionattribute.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.attribute.IntAttribute;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.comparator.impl.OverallConstraintViolationComparator;
+import org.uma.jmetal.util.front.impl.ObjectiveMatrix;
 import org.uma.jmetal.util.solutionattribute.Ranking;
 
 import java.util.*;
@@ -26,6 +28,7 @@ public class DominanceRanking <S extends Solution<?>>
     extends GenericSolutionAttribute<S, Integer> implements Ranking<S> {
 
   private Comparator<S> dominanceComparator ;
+  private final IntAttribute rankAttribute = IntAttribute.of(getAttributeIdentifier()) ;
   private static final Comparator<Solution<?>> CONSTRAINT_VIOLATION_COMPARATOR =
       new OverallConstraintViolationComparator<Solution<?>>();
 
@@ -78,14 +81,22 @@ public class DominanceRanking <S extends Solution<?>>
       dominateMe[p] = 0;
     }
 
+    // With the default dominance comparator the objectives are compared on a contiguous matrix
+    ObjectiveMatrix<S> matrix =
+        ObjectiveMatrix.isEquivalentTo(dominanceComparator) ? new ObjectiveMatrix<>(population) : null;
+
     int flagDominate;
     for (int p = 0; p < (population.size() - 1); p++) {
       // For all q individuals , calculate if p dominates q or vice versa
       for (int q = p + 1; q < population.size(); q++) {
-        flagDominate =
-            CONSTRAINT_VIOLATION_COMPARATOR.compare(solutionSet.get(p), solutionSet.get(q));
-        if (flagDominate == 0) {
-          flagDominate = dominanceComparator.compare(solutionSet.get(p), solutionSet.get(q));
+        if (matrix != null) {
+          flagDominate = matrix.dominanceTest(p, q);
+        } else {
+          flagDominate =
+              CONSTRAINT_VIOLATION_COMPARATOR.compare(solutionSet.get(p), solutionSet.get(q));
+          if (flagDominate == 0) {
+            flagDominate = dominanceComparator.compare(solutionSet.get(p), solutionSet.get(q));
+          }
         }
         if (flagDominate == -1) {
           iDominate.get(p).add(q);
@@ -100,7 +111,7 @@ public class DominanceRanking <S extends Solution<?>>
     for (int i = 0; i < population.size(); i++) {
       if (dominateMe[i] == 0) {
         front.get(0).add(i);
-        solutionSet.get(i).setAttribute(getAttributeIdentifier(), 0);
+        solutionSet.get(i).setIntAttribute(rankAttribute, 0);
       }
     }
 
@@ -118,7 +129,7 @@ public class DominanceRanking <S extends Solution<?>>
           if (dominateMe[index] == 0) {
             front.get(i).add(index);
             //RankingAndCrowdingAttr.getAttributes(solutionSet.get(index)).setRank(i);
-            solutionSet.get(index).setAttribute(getAttributeIdentifier(), i);
+            solutionSet.get(index).setIntAttribute(rankAttribute, i);
           }
         }
       }
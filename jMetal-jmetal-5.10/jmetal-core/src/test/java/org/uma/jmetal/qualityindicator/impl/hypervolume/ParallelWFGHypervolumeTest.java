@@ -0,0 +1,121 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume;
+
+import org.junit.Test;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.ParallelWFGHypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.WFGHypervolume;
+import org.uma.jmetal.util.front.impl.ArrayFront;
+import org.uma.jmetal.util.point.PointSolution;
+import org.uma.jmetal.util.point.impl.ArrayPoint;
+import org.uma.jmetal.util.solutionattribute.impl.HypervolumeContributionAttribute;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+public class ParallelWFGHypervolumeTest {
+  private static final double EPSILON = 0.000000001 ;
+
+  /**
+   * Adds the points of the simplex lattice with the given number of divisions: all the points whose
+   * coordinates are multiples of 1 / divisions and add up to 1. None of them dominates another one.
+   */
+  private static void addSimplexLattice(List<PointSolution> front, double[] point, int objective, int remaining, int divisions) {
+    if (objective == point.length - 1) {
+      point[objective] = (double) remaining / divisions ;
+      PointSolution solution = new PointSolution(point.length) ;
+      for (int i = 0; i < point.length; i++) {
+        solution.setObjective(i, point[i]);
+      }
+      front.add(solution) ;
+    } else {
+      for (int i = 0; i <= remaining; i++) {
+        point[objective] = (double) i / divisions ;
+        addSimplexLattice(front, point, objective + 1, remaining - i, divisions) ;
+      }
+    }
+  }
+
+  /**
+   * CASE 1: the 99 points [i / 100, 1 - i / 100, 0.5, ...], i = 1..99. Reference point: [1.0, ..., 1.0].
+   * The area of the staircase in the first two objectives is the sum of (1 / 100) * (i / 100) for
+   * i = 0..99, that is 99 / 200, and each further objective multiplies it by 0.5
+   */
+  @Test
+  public void shouldEvaluateReturnTheVolumeOfAStaircase() {
+    for (int numberOfObjectives = 3; numberOfObjectives <= 5; numberOfObjectives++) {
+      List<PointSolution> front = new ArrayList<>() ;
+      for (int i = 1; i < 100; i++) {
+        double[] point = new double[numberOfObjectives] ;
+        point[0] = i / 100.0 ;
+        point[1] = 1.0 - i / 100.0 ;
+        for (int j = 2; j < numberOfObjectives; j++) {
+          point[j] = 0.5 ;
+        }
+        front.add(new PointSolution(new ArrayPoint(point))) ;
+      }
+      double[] referencePoint = new double[] {1.0, 1.0, 1.0, 1.0, 1.0} ;
+
+      double result = new ParallelWFGHypervolume<PointSolution>(
+          Arrays.copyOf(referencePoint, numberOfObjectives)).evaluate(front) ;
+
+      assertEquals(99.0 / 200.0 * Math.pow(0.5, numberOfObjectives - 2), result, EPSILON) ;
+    }
+  }
+
+  /**
+   * CASE 2: the simplex lattices with 66 points for three objectives (10 divisions), 84 for four (6
+   * divisions) and 70 for five (4 divisions). Reference point: [1.5, ..., 1.5]
+   */
+  @Test
+  public void shouldEvaluateReturnTheSameValueAsTheSequentialVersion() {
+    int[] divisions = {0, 0, 0, 10, 6, 4} ;
+    for (int numberOfObjectives = 3; numberOfObjectives <= 5; numberOfObjectives++) {
+      List<PointSolution> front = new ArrayList<>() ;
+      addSimplexLattice(front, new double[numberOfObjectives], 0, divisions[numberOfObjectives],
+          divisions[numberOfObjectives]) ;
+      double[] referencePoint = new double[numberOfObjectives] ;
+      Arrays.fill(referencePoint, 1.5);
+
+      double expected = new WFGHypervolume<PointSolution>(referencePoint).evaluate(front) ;
+      double result = new ParallelWFGHypervolume<PointSolution>(referencePoint).evaluate(front) ;
+
+      assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(result)) ;
+    }
+  }
+
+  /**
+   * CASE 3: the simplex lattices of case 2, plus the one with 11 points for two objectives. The
+   * contributions are computed on a pool of two threads
+   */
+  @Test
+  public void shouldComputeHypervolumeContributionReturnTheSameValuesAsTheSequentialVersion() {
+    HypervolumeContributionAttribute<PointSolution> hvContribution = new HypervolumeContributionAttribute<>() ;
+    int[] divisions = {0, 0, 10, 10, 6, 4} ;
+    for (int numberOfObjectives = 2; numberOfObjectives <= 5; numberOfObjectives++) {
+      List<PointSolution> expected = new ArrayList<>() ;
+      addSimplexLattice(expected, new double[numberOfObjectives], 0, divisions[numberOfObjectives],
+          divisions[numberOfObjectives]) ;
+      List<PointSolution> result = new ArrayList<>() ;
+      addSimplexLattice(result, new double[numberOfObjectives], 0, divisions[numberOfObjectives],
+          divisions[numberOfObjectives]) ;
+
+      new WFGHypervolume<PointSolution>().computeHypervolumeContribution(expected, expected) ;
+      ParallelWFGHypervolume<PointSolution> hypervolume = new ParallelWFGHypervolume<>(new ArrayFront(result)) ;
+      ForkJoinPool pool = new ForkJoinPool(2) ;
+      try {
+        hypervolume.setPool(pool);
+        hypervolume.computeHypervolumeContribution(result, result) ;
+      } finally {
+        pool.shutdown();
+      }
+
+      for (int i = 0; i < expected.size(); i++) {
+        assertEquals(Double.doubleToLongBits(hvContribution.getAttribute(expected.get(i))),
+            Double.doubleToLongBits(hvContribution.getAttribute(result.get(i)))) ;
+      }
+    }
+  }
+}
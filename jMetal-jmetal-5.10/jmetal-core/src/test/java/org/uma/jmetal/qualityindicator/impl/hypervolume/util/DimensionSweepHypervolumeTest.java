@@ -0,0 +1,98 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.util;
+
+import org.junit.Test;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.point.PointSolution;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class DimensionSweepHypervolumeTest {
+  private static final double EPSILON = 0.000000001 ;
+
+  /** Computes the hypervolume with the general PISA algorithm, which maximizes up to the origin */
+  private static double computeWithPISA(double[][] front, double[] referencePoint) {
+    double[][] points = new double[front.length][referencePoint.length] ;
+    for (int i = 0; i < front.length; i++) {
+      for (int j = 0; j < referencePoint.length; j++) {
+        points[i][j] = Math.max(0.0, referencePoint[j] - front[i][j]) ;
+      }
+    }
+    return new PISAHypervolume<PointSolution>().calculateHypervolume(points, points.length, referencePoint.length) ;
+  }
+
+  /** Random front with dominated, repeated and tied points */
+  private static double[][] createRandomFront(Random random, int numberOfObjectives, int numberOfPoints) {
+    double[][] front = new double[numberOfPoints][numberOfObjectives] ;
+    for (int i = 0; i < numberOfPoints; i++) {
+      if ((i > 0) && (random.nextInt(5) == 0)) {
+        front[i] = front[random.nextInt(i)].clone() ;
+        front[i][random.nextInt(numberOfObjectives)] += random.nextInt(2) * 0.1 ;
+      } else {
+        for (int j = 0; j < numberOfObjectives; j++) {
+          front[i][j] = Math.round(random.nextDouble() * 20) / 20.0 ;
+        }
+      }
+    }
+    return front ;
+  }
+
+  private static void computeTheSameValuesAsPISA(int numberOfObjectives) {
+    Random random = new Random(numberOfObjectives) ;
+    double[] referencePoint = new double[numberOfObjectives] ;
+    Arrays.fill(referencePoint, 1.0);
+
+    for (int k = 0; k < 200; k++) {
+      double[][] front = createRandomFront(random, numberOfObjectives, 1 + random.nextInt(30)) ;
+      double hypervolume = computeWithPISA(front, referencePoint) ;
+      assertEquals(hypervolume, DimensionSweepHypervolume.computeHypervolume(front, referencePoint), EPSILON) ;
+
+      double[] contributions = DimensionSweepHypervolume.computeContributions(front, referencePoint) ;
+      for (int i = 0; i < front.length; i++) {
+        double[][] frontSubset = new double[front.length - 1][] ;
+        for (int j = 0, l = 0; j < front.length; j++) {
+          if (j != i) {
+            frontSubset[l++] = front[j] ;
+          }
+        }
+        assertEquals(hypervolume - computeWithPISA(frontSubset, referencePoint), contributions[i], EPSILON) ;
+      }
+    }
+  }
+
+  @Test
+  public void shouldCanComputeReturnTrueOnlyWithTwoAndThreeObjectives() {
+    assertFalse(DimensionSweepHypervolume.canCompute(1)) ;
+    assertTrue(DimensionSweepHypervolume.canCompute(2)) ;
+    assertTrue(DimensionSweepHypervolume.canCompute(3)) ;
+    assertFalse(DimensionSweepHypervolume.canCompute(4)) ;
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldComputeHypervolumeRaiseAnExceptionWithFourObjectives() {
+    DimensionSweepHypervolume.computeHypervolume(new double[][] {{0.5, 0.5, 0.5, 0.5}}, new double[] {1.0, 1.0, 1.0, 1.0}) ;
+  }
+
+  @Test
+  public void shouldComputeTheHypervolumeAndTheContributionsOfASimpleFront() {
+    double[][] front = {{0.25, 0.75}, {0.75, 0.25}, {0.5, 0.5}, {0.5, 0.5}, {1.5, 0.0}} ;
+    double[] referencePoint = {1.0, 1.0} ;
+
+    assertEquals(0.25 * 0.75 + 0.25 * 0.5 + 0.25 * 0.25, DimensionSweepHypervolume.computeHypervolume(front, referencePoint), EPSILON) ;
+    assertArrayEquals(new double[] {0.0625, 0.0625, 0.0, 0.0, 0.0},
+        DimensionSweepHypervolume.computeContributions(front, referencePoint), EPSILON) ;
+  }
+
+  @Test
+  public void shouldComputeTheSameValuesAsPISAWithTwoObjectives() {
+    computeTheSameValuesAsPISA(2);
+  }
+
+  @Test
+  public void shouldComputeTheSameValuesAsPISAWithThreeObjectives() {
+    computeTheSameValuesAsPISA(3);
+  }
+}
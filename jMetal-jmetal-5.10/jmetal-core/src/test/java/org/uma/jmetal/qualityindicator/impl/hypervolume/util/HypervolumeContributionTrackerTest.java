@@ -0,0 +1,195 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.util;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.point.PointSolution;
+import org.uma.jmetal.util.solutionattribute.impl.HypervolumeContributionAttribute;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class HypervolumeContributionTrackerTest {
+  private static final double EPSILON = 0.000000001 ;
+  private final HypervolumeContributionAttribute<PointSolution> hvContribution = new HypervolumeContributionAttribute<>() ;
+
+  @Test
+  public void shouldCanComputeReturnFalseWithMoreThanThreeObjectivesAndNoErrorBudget() {
+    assertTrue(new HypervolumeContributionTracker<PointSolution>().canCompute(2)) ;
+    assertTrue(new HypervolumeContributionTracker<PointSolution>().canCompute(3)) ;
+    assertFalse(new HypervolumeContributionTracker<PointSolution>().canCompute(4)) ;
+    assertTrue(new HypervolumeContributionTracker<PointSolution>(0.01).canCompute(4)) ;
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheErrorBudgetIsNotLowerThanOne() {
+    new HypervolumeContributionTracker<PointSolution>(1.0) ;
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldComputeHypervolumeContributionRaiseAnExceptionWithFourObjectivesAndNoErrorBudget() {
+    PointSolution solution1 = new PointSolution(4) ;
+    solution1.setObjective(0, 1.0);
+    PointSolution solution2 = new PointSolution(4) ;
+    solution2.setObjective(1, 1.0);
+    List<PointSolution> solutionList = Arrays.asList(solution1, solution2) ;
+
+    new HypervolumeContributionTracker<PointSolution>().computeHypervolumeContribution(solutionList, solutionList) ;
+  }
+
+  /**
+   * CASE 1: solutions [0.0, 1.0], [0.5, 0.5] and [1.0, 0.0]. Reference point: [2.0, 2.0]
+   */
+  @Test
+  public void shouldComputeTheContributionsOfThreeSolutionsAndSortThem() {
+    PointSolution solution1 = new PointSolution(2) ;
+    solution1.setObjective(0, 0.0);
+    solution1.setObjective(1, 1.0);
+
+    PointSolution solution2 = new PointSolution(2) ;
+    solution2.setObjective(0, 0.5);
+    solution2.setObjective(1, 0.5);
+
+    PointSolution solution3 = new PointSolution(2) ;
+    solution3.setObjective(0, 1.0);
+    solution3.setObjective(1, 0.0);
+
+    List<PointSolution> solutionList = new ArrayList<>(Arrays.asList(solution2, solution1, solution3)) ;
+
+    HypervolumeContributionTracker<PointSolution> tracker = new HypervolumeContributionTracker<>() ;
+    tracker.setOffset(1.0);
+    tracker.computeHypervolumeContribution(solutionList, solutionList) ;
+
+    assertEquals(0.5 * 1.0, hvContribution.getAttribute(solution1), EPSILON) ;
+    assertEquals(0.5 * 0.5, hvContribution.getAttribute(solution2), EPSILON) ;
+    assertEquals(1.0 * 0.5, hvContribution.getAttribute(solution3), EPSILON) ;
+    assertSame(solution2, solutionList.get(2)) ;
+  }
+
+  /**
+   * CASE 2: starting from the solutions of case 1, [0.5, 0.5] is removed, [0.25, 0.25] is inserted and
+   * then the dominated solution [0.5, 0.5] is inserted again. Reference point: [2.0, 2.0]
+   */
+  @Test
+  public void shouldUpdateTheContributionsWhenSolutionsAreRemovedAndInserted() {
+    PointSolution solution1 = new PointSolution(2) ;
+    solution1.setObjective(0, 0.0);
+    solution1.setObjective(1, 1.0);
+
+    PointSolution solution2 = new PointSolution(2) ;
+    solution2.setObjective(0, 0.5);
+    solution2.setObjective(1, 0.5);
+
+    PointSolution solution3 = new PointSolution(2) ;
+    solution3.setObjective(0, 1.0);
+    solution3.setObjective(1, 0.0);
+
+    PointSolution solution4 = new PointSolution(2) ;
+    solution4.setObjective(0, 0.25);
+    solution4.setObjective(1, 0.25);
+
+    HypervolumeContributionTracker<PointSolution> tracker = new HypervolumeContributionTracker<>() ;
+    tracker.setOffset(1.0);
+    List<PointSolution> solutionList = new ArrayList<>(Arrays.asList(solution1, solution2, solution3)) ;
+    tracker.computeHypervolumeContribution(solutionList, solutionList) ;
+
+    solutionList.remove(solution2) ;
+    tracker.computeHypervolumeContribution(solutionList, solutionList) ;
+
+    assertEquals(1.0 * 1.0, hvContribution.getAttribute(solution1), EPSILON) ;
+    assertEquals(1.0 * 1.0, hvContribution.getAttribute(solution3), EPSILON) ;
+
+    solutionList.add(solution4) ;
+    tracker.computeHypervolumeContribution(solutionList, solutionList) ;
+
+    assertEquals(0.25 * 1.0, hvContribution.getAttribute(solution1), EPSILON) ;
+    assertEquals(0.75 * 0.75, hvContribution.getAttribute(solution4), EPSILON) ;
+    assertEquals(1.0 * 0.25, hvContribution.getAttribute(solution3), EPSILON) ;
+
+    solutionList.add(solution2) ;
+    tracker.computeHypervolumeContribution(solutionList, solutionList) ;
+
+    assertEquals(0.25 * 1.0, hvContribution.getAttribute(solution1), EPSILON) ;
+    assertEquals(0.75 * 0.75 - 0.5 * 0.5, hvContribution.getAttribute(solution4), EPSILON) ;
+    assertEquals(1.0 * 0.25, hvContribution.getAttribute(solution3), EPSILON) ;
+    assertEquals(0.0, hvContribution.getAttribute(solution2), EPSILON) ;
+    assertSame(solution2, solutionList.get(3)) ;
+  }
+
+  /**
+   * CASE 3: solutions [1.0, 0.0, 0.0], [0.0, 1.0, 0.0], [0.0, 0.0, 1.0] and [0.5, 0.5, 0.5]. Reference
+   * point: [2.0, 2.0, 2.0]. The exclusive region of [0.5, 0.5, 0.5] is the cube [0.5, 1.0)^3, and the one
+   * of each of the other solutions is a 1 x 1 x 1 box without that cube's 0.5 x 0.5 section.
+   */
+  @Test
+  public void shouldComputeTheContributionsOfFourSolutionsWithThreeObjectives() {
+    PointSolution solution1 = new PointSolution(3) ;
+    solution1.setObjective(0, 1.0);
+    solution1.setObjective(1, 0.0);
+    solution1.setObjective(2, 0.0);
+
+    PointSolution solution2 = new PointSolution(3) ;
+    solution2.setObjective(0, 0.0);
+    solution2.setObjective(1, 1.0);
+    solution2.setObjective(2, 0.0);
+
+    PointSolution solution3 = new PointSolution(3) ;
+    solution3.setObjective(0, 0.0);
+    solution3.setObjective(1, 0.0);
+    solution3.setObjective(2, 1.0);
+
+    PointSolution solution4 = new PointSolution(3) ;
+    solution4.setObjective(0, 0.5);
+    solution4.setObjective(1, 0.5);
+    solution4.setObjective(2, 0.5);
+
+    List<PointSolution> solutionList = new ArrayList<>(Arrays.asList(solution1, solution2, solution3, solution4)) ;
+
+    HypervolumeContributionTracker<PointSolution> tracker = new HypervolumeContributionTracker<>() ;
+    tracker.setOffset(1.0);
+    tracker.computeHypervolumeContribution(solutionList, solutionList) ;
+
+    assertEquals(1.0 - 0.5 * 0.5, hvContribution.getAttribute(solution1), EPSILON) ;
+    assertEquals(1.0 - 0.5 * 0.5, hvContribution.getAttribute(solution2), EPSILON) ;
+    assertEquals(1.0 - 0.5 * 0.5, hvContribution.getAttribute(solution3), EPSILON) ;
+    assertEquals(0.5 * 0.5 * 0.5, hvContribution.getAttribute(solution4), EPSILON) ;
+    assertSame(solution4, solutionList.get(3)) ;
+  }
+
+  /**
+   * CASE 4: solutions [1.0, 0.0, 0.0, 0.0], [0.0, 1.0, 0.0, 0.0] and [0.5, 0.5, 0.5, 0.5]. Reference point:
+   * [2.0, 2.0, 2.0, 2.0]. The contributions are estimated by sampling, with a standard error of at most
+   * 0.002 times the volume of the boxes, which is 4.0 for the first two solutions.
+   */
+  @Test
+  public void shouldEstimateTheContributionsWithFourObjectives() {
+    PointSolution solution1 = new PointSolution(4) ;
+    solution1.setObjective(0, 1.0);
+
+    PointSolution solution2 = new PointSolution(4) ;
+    solution2.setObjective(1, 1.0);
+
+    PointSolution solution3 = new PointSolution(4) ;
+    solution3.setObjective(0, 0.5);
+    solution3.setObjective(1, 0.5);
+    solution3.setObjective(2, 0.5);
+    solution3.setObjective(3, 0.5);
+
+    List<PointSolution> solutionList = new ArrayList<>(Arrays.asList(solution1, solution2, solution3)) ;
+
+    HypervolumeContributionTracker<PointSolution> tracker =
+        new HypervolumeContributionTracker<>(0.002, new Random(1)::nextDouble) ;
+    tracker.setOffset(1.0);
+    tracker.computeHypervolumeContribution(solutionList, new double[] {0.0, 0.0, 0.0, 0.0},
+        new double[] {1.0, 1.0, 1.0, 1.0}) ;
+
+    // [1.0, 0.0, 0.0, 0.0]: x0 in [1, 2), x1 in [0, 1), x2 and x3 in [0, 2), minus x1, x2 and x3 >= 0.5
+    assertEquals(1.0 * 1.0 * 2.0 * 2.0 - 1.0 * 0.5 * 1.5 * 1.5, hvContribution.getAttribute(solution1), 0.05) ;
+    assertEquals(1.0 * 1.0 * 2.0 * 2.0 - 1.0 * 0.5 * 1.5 * 1.5, hvContribution.getAttribute(solution2), 0.05) ;
+    // [0.5, 0.5, 0.5, 0.5]: x0 and x1 in [0.5, 1), x2 and x3 in [0.5, 2)
+    assertEquals(0.5 * 0.5 * 1.5 * 1.5, hvContribution.getAttribute(solution3), 0.05) ;
+  }
+}
@@ -0,0 +1,68 @@
+package org.uma.jmetal.solution.impl;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.Test;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class DefaultDoubleSolutionTest {
+  private static List<Pair<Double, Double>> bounds(int numberOfVariables) {
+    List<Pair<Double, Double>> bounds = new ArrayList<>(numberOfVariables) ;
+    for (int i = 0; i < numberOfVariables; i++) {
+      bounds.add(new ImmutablePair<>(-1.0, 1.0 + i)) ;
+    }
+    return bounds ;
+  }
+
+  @Test
+  public void shouldConstructorCreateVariablesWithinTheBounds() {
+    DoubleSolution solution = new DefaultDoubleSolution(bounds(10), 2) ;
+
+    assertEquals(10, solution.getNumberOfVariables()) ;
+    for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+      assertTrue(solution.getDouble(i) >= solution.getLowerBound(i)) ;
+      assertTrue(solution.getDouble(i) <= solution.getUpperBound(i)) ;
+      assertEquals(solution.getDouble(i), solution.getVariable(i), 0.0) ;
+    }
+  }
+
+  @Test
+  public void shouldGetVariablesBeAViewOfThePrimitiveValues() {
+    DoubleSolution solution = new DefaultDoubleSolution(bounds(3), 2) ;
+    List<Double> variables = solution.getVariables() ;
+
+    solution.setDouble(0, 0.25) ;
+    solution.setVariable(1, 0.5) ;
+    variables.set(2, 0.75) ;
+
+    assertEquals(Arrays.asList(0.25, 0.5, 0.75), variables) ;
+    assertEquals(0.75, solution.getDouble(2), 0.0) ;
+  }
+
+  @Test
+  public void shouldCopyNotShareTheVariables() {
+    DefaultDoubleSolution solution = new DefaultDoubleSolution(bounds(3), 2) ;
+    solution.setObjective(1, 4.0) ;
+    DefaultDoubleSolution copy = solution.copy() ;
+
+    assertEquals(solution, copy) ;
+    assertEquals(4.0, copy.getObjective(1), 0.0) ;
+
+    copy.setDouble(0, 2.0) ;
+    assertFalse(solution.equals(copy)) ;
+  }
+
+  @Test
+  public void shouldHashCodeBeTheHashCodeOfTheVariableList() {
+    DoubleSolution solution = new DefaultDoubleSolution(bounds(5), 2) ;
+
+    assertEquals(new ArrayList<>(solution.getVariables()).hashCode(), solution.hashCode()) ;
+  }
+}
@@ -0,0 +1,68 @@
+package org.uma.jmetal.solution.impl;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.Test;
+import org.uma.jmetal.solution.integersolution.IntegerSolution;
+import org.uma.jmetal.solution.integersolution.impl.DefaultIntegerSolution;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class DefaultIntegerSolutionTest {
+  private static List<Pair<Integer, Integer>> bounds(int numberOfVariables) {
+    List<Pair<Integer, Integer>> bounds = new ArrayList<>(numberOfVariables) ;
+    for (int i = 0; i < numberOfVariables; i++) {
+      bounds.add(new ImmutablePair<>(-5, 5 + i)) ;
+    }
+    return bounds ;
+  }
+
+  @Test
+  public void shouldConstructorCreateVariablesWithinTheBounds() {
+    IntegerSolution solution = new DefaultIntegerSolution(bounds(10), 2) ;
+
+    assertEquals(10, solution.getNumberOfVariables()) ;
+    for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+      assertTrue(solution.getInt(i) >= solution.getLowerBound(i)) ;
+      assertTrue(solution.getInt(i) <= solution.getUpperBound(i)) ;
+      assertEquals(solution.getInt(i), (int) solution.getVariable(i)) ;
+    }
+  }
+
+  @Test
+  public void shouldGetVariablesBeAViewOfThePrimitiveValues() {
+    IntegerSolution solution = new DefaultIntegerSolution(bounds(3), 2) ;
+    List<Integer> variables = solution.getVariables() ;
+
+    solution.setInt(0, 1) ;
+    solution.setVariable(1, 2) ;
+    variables.set(2, 3) ;
+
+    assertEquals(Arrays.asList(1, 2, 3), variables) ;
+    assertEquals(3, solution.getInt(2)) ;
+  }
+
+  @Test
+  public void shouldCopyNotShareTheVariables() {
+    DefaultIntegerSolution solution = new DefaultIntegerSolution(bounds(3), 2) ;
+    solution.setObjective(1, 4.0) ;
+    DefaultIntegerSolution copy = solution.copy() ;
+
+    assertEquals(solution, copy) ;
+    assertEquals(4.0, copy.getObjective(1), 0.0) ;
+
+    copy.setInt(0, solution.getInt(0) + 1) ;
+    assertFalse(solution.equals(copy)) ;
+  }
+
+  @Test
+  public void shouldHashCodeBeTheHashCodeOfTheVariableList() {
+    IntegerSolution solution = new DefaultIntegerSolution(bounds(5), 2) ;
+
+    assertEquals(new ArrayList<>(solution.getVariables()).hashCode(), solution.hashCode()) ;
+  }
+}
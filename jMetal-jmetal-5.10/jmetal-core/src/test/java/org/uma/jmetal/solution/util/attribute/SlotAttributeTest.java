@@ -0,0 +1,146 @@
+package org.uma.jmetal.solution.util.attribute;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.Test;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.solution.util.attribute.util.attributecomparator.impl.DoubleValueAttributeComparator;
+import org.uma.jmetal.solution.util.attribute.util.attributecomparator.impl.IntegerValueAttributeComparator;
+import org.uma.jmetal.util.JMetalException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SlotAttributeTest {
+  private static DoubleSolution createSolution() {
+    List<Pair<Double, Double>> bounds = Arrays.asList(new ImmutablePair<>(0.0, 1.0), new ImmutablePair<>(0.0, 1.0)) ;
+    return new DefaultDoubleSolution(bounds, 2) ;
+  }
+
+  @Test
+  public void shouldOfReturnTheSameKeyForTheSameIdentifier() {
+    DoubleAttribute attribute = DoubleAttribute.of("slot-test-same") ;
+
+    assertSame(attribute, DoubleAttribute.of("slot-test-same")) ;
+    assertSame(attribute, DoubleAttribute.find("slot-test-same")) ;
+    assertSame(attribute, DoubleAttribute.ofSlot(attribute.getSlot())) ;
+    assertNull(IntAttribute.find("slot-test-same")) ;
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldOfRaiseAnExceptionIfTheIdentifierHasTheOtherKind() {
+    IntAttribute.of("slot-test-kind") ;
+    DoubleAttribute.of("slot-test-kind") ;
+  }
+
+  @Test
+  public void shouldTypedAndLegacyAccessorsSeeTheSameValues() {
+    DoubleAttribute distance = DoubleAttribute.of("slot-test-distance") ;
+    IntAttribute rank = IntAttribute.of("slot-test-rank") ;
+    DoubleSolution solution = createSolution() ;
+
+    assertFalse(solution.hasAttribute("slot-test-distance")) ;
+    assertEquals(-1.0, solution.getDoubleAttribute(distance, -1.0), 0.0) ;
+
+    solution.setDoubleAttribute(distance, 2.5) ;
+    solution.setAttribute("slot-test-rank", 3) ;
+
+    assertTrue(solution.hasAttribute("slot-test-distance")) ;
+    assertEquals(2.5, (double) solution.getAttribute("slot-test-distance"), 0.0) ;
+    assertEquals(3, solution.getIntAttribute(rank, -1)) ;
+    assertEquals(2.5, solution.getAttributes().get("slot-test-distance")) ;
+    assertEquals(3, solution.getAttributes().get("slot-test-rank")) ;
+  }
+
+  @Test
+  public void shouldValuesOfAnotherTypeBeKeptInTheAttributeMap() {
+    DoubleAttribute distance = DoubleAttribute.of("slot-test-other-type") ;
+    DoubleSolution solution = createSolution() ;
+
+    solution.setDoubleAttribute(distance, 1.0) ;
+    solution.setAttribute("slot-test-other-type", "far") ;
+
+    assertEquals("far", solution.getAttribute("slot-test-other-type")) ;
+    assertEquals("far", solution.getAttributes().get("slot-test-other-type")) ;
+
+    solution.setAttribute("slot-test-other-type", 4.0) ;
+
+    assertEquals(4.0, solution.getDoubleAttribute(distance, 0.0), 0.0) ;
+  }
+
+  @Test
+  public void shouldCopyHaveTheAttributesOfTheSolution() {
+    DoubleAttribute distance = DoubleAttribute.of("slot-test-copy") ;
+    DoubleSolution solution = createSolution() ;
+    solution.setDoubleAttribute(distance, 1.5) ;
+    solution.setAttribute("slot-test-copy-map", "value") ;
+
+    DoubleSolution copy = (DoubleSolution) solution.copy() ;
+    copy.setDoubleAttribute(distance, 7.0) ;
+
+    assertEquals(1.5, solution.getDoubleAttribute(distance, 0.0), 0.0) ;
+    assertEquals(7.0, copy.getDoubleAttribute(distance, 0.0), 0.0) ;
+    assertEquals("value", copy.getAttribute("slot-test-copy-map")) ;
+  }
+
+  @Test
+  public void shouldSerializationKeepTheAttributes() throws Exception {
+    IntAttribute rank = IntAttribute.of("slot-test-serialization") ;
+    DoubleSolution solution = createSolution() ;
+    solution.setIntAttribute(rank, 5) ;
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream() ;
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(solution) ;
+    }
+    DoubleSolution deserialized ;
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      deserialized = (DoubleSolution) in.readObject() ;
+    }
+
+    assertEquals(5, deserialized.getIntAttribute(rank, 0)) ;
+    assertEquals(solution, deserialized) ;
+  }
+
+  @Test
+  public void shouldValueAttributeComparatorsNotRegisterTheirAttribute() {
+    IntAttribute.of("slot-test-comparator-int") ;
+    DoubleValueAttributeComparator<DoubleSolution> doubleComparator =
+        new DoubleValueAttributeComparator<>("slot-test-comparator-int") ;
+    IntegerValueAttributeComparator<DoubleSolution> intComparator =
+        new IntegerValueAttributeComparator<>("slot-test-comparator-map") ;
+
+    assertNull(DoubleAttribute.find("slot-test-comparator-int")) ;
+    assertNull(IntAttribute.find("slot-test-comparator-map")) ;
+
+    DoubleSolution solution1 = createSolution() ;
+    DoubleSolution solution2 = createSolution() ;
+    solution1.setAttribute("slot-test-comparator-map", 1) ;
+    solution2.setAttribute("slot-test-comparator-map", 2) ;
+
+    assertEquals(1, intComparator.compare(solution1, solution2)) ;
+    assertEquals(0, doubleComparator.compare(solution1, solution2)) ;
+    assertNull(IntAttribute.find("slot-test-comparator-map")) ;
+  }
+
+  @Test
+  public void shouldValueAttributeComparatorsReadTheSlotsOfRegisteredAttributes() {
+    DoubleAttribute distance = DoubleAttribute.of("slot-test-comparator-double") ;
+    DoubleValueAttributeComparator<DoubleSolution> comparator =
+        new DoubleValueAttributeComparator<>("slot-test-comparator-double") ;
+
+    DoubleSolution solution1 = createSolution() ;
+    DoubleSolution solution2 = createSolution() ;
+    solution1.setDoubleAttribute(distance, 3.0) ;
+    solution2.setDoubleAttribute(distance, 2.0) ;
+
+    assertEquals(-1, comparator.compare(solution1, solution2)) ;
+  }
+}
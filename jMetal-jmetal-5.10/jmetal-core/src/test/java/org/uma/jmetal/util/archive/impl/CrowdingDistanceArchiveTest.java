@@ -0,0 +1,157 @@
+package org.uma.jmetal.util.archive.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.solution.util.attribute.DoubleAttribute;
+import org.uma.jmetal.util.point.PointSolution;
+import org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance;
+
+import static org.junit.Assert.*;
+
+public class CrowdingDistanceArchiveTest {
+  private static final double EPSILON = 0.000000000001 ;
+  private static final DoubleAttribute distanceAttribute = DoubleAttribute.of(CrowdingDistance.class) ;
+
+  /**
+   * CASE 1: solutions [0, 4], [1, 3], [2, 2] and [4, 0], maximum size 3. The crowding distances are
+   * 1/4 + 1/4 + 1/4 + 1/4 = 1.0 for [1, 3] and 3/4 + 3/4 = 1.5 for [2, 2], so [1, 3] is removed
+   */
+  @Test
+  public void shouldPruneTheSolutionWithTheLowestCrowdingDistanceWithTwoObjectives() {
+    CrowdingDistanceArchive<PointSolution> archive = new CrowdingDistanceArchive<>(3) ;
+    PointSolution solution1 = new PointSolution(2) ;
+    solution1.setObjective(0, 0.0);
+    solution1.setObjective(1, 4.0);
+    PointSolution solution2 = new PointSolution(2) ;
+    solution2.setObjective(0, 1.0);
+    solution2.setObjective(1, 3.0);
+    PointSolution solution3 = new PointSolution(2) ;
+    solution3.setObjective(0, 2.0);
+    solution3.setObjective(1, 2.0);
+    PointSolution solution4 = new PointSolution(2) ;
+    solution4.setObjective(0, 4.0);
+    solution4.setObjective(1, 0.0);
+
+    assertTrue(archive.add(solution1)) ;
+    assertTrue(archive.add(solution2)) ;
+    assertTrue(archive.add(solution3)) ;
+    assertTrue(archive.add(solution4)) ;
+
+    assertEquals(3, archive.size()) ;
+    assertSame(solution1, archive.get(0)) ;
+    assertSame(solution3, archive.get(1)) ;
+    assertSame(solution4, archive.get(2)) ;
+    assertEquals(Double.POSITIVE_INFINITY, solution1.getDoubleAttribute(distanceAttribute, 0.0), 0.0) ;
+    assertEquals(3.0 / 4.0 + 3.0 / 4.0, solution3.getDoubleAttribute(distanceAttribute, 0.0), EPSILON) ;
+    assertEquals(Double.POSITIVE_INFINITY, solution4.getDoubleAttribute(distanceAttribute, 0.0), 0.0) ;
+  }
+
+  /**
+   * CASE 2: the solutions of case 1 without [1, 3], and then [3, 1]. Its crowding distance is
+   * 2/4 + 2/4 = 1.0, and the one of [2, 2] is 3/4 + 3/4 = 1.5, so the new solution is removed
+   */
+  @Test
+  public void shouldPruneTheAddedSolutionIfItHasTheLowestCrowdingDistance() {
+    CrowdingDistanceArchive<PointSolution> archive = new CrowdingDistanceArchive<>(3) ;
+    PointSolution solution1 = new PointSolution(2) ;
+    solution1.setObjective(0, 0.0);
+    solution1.setObjective(1, 4.0);
+    PointSolution solution2 = new PointSolution(2) ;
+    solution2.setObjective(0, 2.0);
+    solution2.setObjective(1, 2.0);
+    PointSolution solution3 = new PointSolution(2) ;
+    solution3.setObjective(0, 4.0);
+    solution3.setObjective(1, 0.0);
+    archive.add(solution1) ;
+    archive.add(solution2) ;
+    archive.add(solution3) ;
+
+    PointSolution solution = new PointSolution(2) ;
+    solution.setObjective(0, 3.0);
+    solution.setObjective(1, 1.0);
+    assertTrue(archive.add(solution)) ;
+
+    assertEquals(3, archive.size()) ;
+    assertFalse(archive.getSolutionList().contains(solution)) ;
+    assertEquals(3.0 / 4.0 + 3.0 / 4.0, solution2.getDoubleAttribute(distanceAttribute, 0.0), EPSILON) ;
+  }
+
+  /**
+   * CASE 3: solutions on the plane x + y + z = 1, maximum size 4. The three solutions with an extreme
+   * value have an infinite distance; [0.4, 0.35, 0.25] has 0.4/0.6 + 0.3/0.55 + 0.1/0.65 and
+   * [0.3, 0.5, 0.2] has 0.2/0.6 + 0.25/0.55 + 0.15/0.65, so the latter is removed
+   */
+  @Test
+  public void shouldPruneTheSolutionWithTheLowestCrowdingDistanceWithThreeObjectives() {
+    CrowdingDistanceArchive<PointSolution> archive = new CrowdingDistanceArchive<>(4) ;
+    PointSolution solution1 = new PointSolution(3) ;
+    solution1.setObjective(0, 0.7);
+    solution1.setObjective(1, 0.2);
+    solution1.setObjective(2, 0.1);
+    PointSolution solution2 = new PointSolution(3) ;
+    solution2.setObjective(0, 0.1);
+    solution2.setObjective(1, 0.6);
+    solution2.setObjective(2, 0.3);
+    PointSolution solution3 = new PointSolution(3) ;
+    solution3.setObjective(0, 0.2);
+    solution3.setObjective(1, 0.05);
+    solution3.setObjective(2, 0.75);
+    PointSolution solution4 = new PointSolution(3) ;
+    solution4.setObjective(0, 0.4);
+    solution4.setObjective(1, 0.35);
+    solution4.setObjective(2, 0.25);
+    PointSolution solution5 = new PointSolution(3) ;
+    solution5.setObjective(0, 0.3);
+    solution5.setObjective(1, 0.5);
+    solution5.setObjective(2, 0.2);
+
+    archive.add(solution1) ;
+    archive.add(solution2) ;
+    archive.add(solution3) ;
+    archive.add(solution4) ;
+    archive.add(solution5) ;
+
+    assertEquals(4, archive.size()) ;
+    assertFalse(archive.getSolutionList().contains(solution5)) ;
+    assertEquals((0.7 - 0.3) / (0.7 - 0.1) + (0.5 - 0.2) / (0.6 - 0.05) + (0.3 - 0.2) / (0.75 - 0.1),
+        solution4.getDoubleAttribute(distanceAttribute, 0.0), EPSILON) ;
+    assertEquals(Double.POSITIVE_INFINITY, solution3.getDoubleAttribute(distanceAttribute, 0.0), 0.0) ;
+  }
+
+  /**
+   * CASE 4: adding [1.5, 3.5] to the solutions of case 2 prunes it (distance 2/4 + 2/4 = 1.0). Then the
+   * archived solution [2, 2] is moved to [3.5, 0.6] and [1, 3] is added. With the new values, the distance of [1, 3] is 3.5/4 + 3.4/4 = 1.725 and the one of [3.5, 0.6] is 3/4 + 3/4 = 1.5,
+   * so the moved solution is removed; with the old values, [1, 3] would have been removed
+   */
+  @Test
+  public void shouldPruneWithTheCurrentValuesOfAModifiedSolution() {
+    CrowdingDistanceArchive<PointSolution> archive = new CrowdingDistanceArchive<>(3) ;
+    PointSolution solution1 = new PointSolution(2) ;
+    solution1.setObjective(0, 0.0);
+    solution1.setObjective(1, 4.0);
+    PointSolution modified = new PointSolution(2) ;
+    modified.setObjective(0, 2.0);
+    modified.setObjective(1, 2.0);
+    PointSolution solution3 = new PointSolution(2) ;
+    solution3.setObjective(0, 4.0);
+    solution3.setObjective(1, 0.0);
+    PointSolution solution4 = new PointSolution(2) ;
+    solution4.setObjective(0, 1.5);
+    solution4.setObjective(1, 3.5);
+    archive.add(solution1) ;
+    archive.add(modified) ;
+    archive.add(solution3) ;
+    archive.add(solution4) ;
+    assertFalse(archive.getSolutionList().contains(solution4)) ;
+
+    modified.setObjective(0, 3.5);
+    modified.setObjective(1, 0.6);
+    PointSolution solution = new PointSolution(2) ;
+    solution.setObjective(0, 1.0);
+    solution.setObjective(1, 3.0);
+    archive.add(solution) ;
+
+    assertEquals(3, archive.size()) ;
+    assertFalse(archive.getSolutionList().contains(modified)) ;
+    assertTrue(archive.getSolutionList().contains(solution)) ;
+  }
+}
@@ -0,0 +1,164 @@
+package org.uma.jmetal.util.archive.impl;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.Test;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.point.PointSolution;
+import org.uma.jmetal.util.point.impl.ArrayPoint;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class NonDominatedTreeArchiveTest {
+  private static final List<Pair<Double, Double>> bounds = Arrays.asList(new ImmutablePair<>(0.0, 1.0)) ;
+
+  @Test
+  public void shouldAddOnAnEmptyArchiveHaveSizeOne() {
+    NonDominatedTreeArchive<PointSolution> archive = new NonDominatedTreeArchive<>() ;
+
+    assertTrue(archive.add(new PointSolution(new ArrayPoint(new double[] {1.0, 2.0})))) ;
+    assertEquals(1, archive.size()) ;
+  }
+
+  @Test
+  public void shouldAddNotInsertADominatedOrAnEqualSolution() {
+    NonDominatedTreeArchive<PointSolution> archive = new NonDominatedTreeArchive<>() ;
+    archive.add(new PointSolution(new ArrayPoint(new double[] {1.0, 2.0}))) ;
+
+    assertFalse(archive.add(new PointSolution(new ArrayPoint(new double[] {1.0, 3.0})))) ;
+    assertFalse(archive.add(new PointSolution(new ArrayPoint(new double[] {1.0, 2.0})))) ;
+    assertEquals(1, archive.size()) ;
+  }
+
+  @Test
+  public void shouldAddRemoveTheDominatedSolutions() {
+    NonDominatedTreeArchive<PointSolution> archive = new NonDominatedTreeArchive<>() ;
+    archive.add(new PointSolution(new ArrayPoint(new double[] {1.0, 4.0}))) ;
+    archive.add(new PointSolution(new ArrayPoint(new double[] {2.0, 3.0}))) ;
+    archive.add(new PointSolution(new ArrayPoint(new double[] {4.0, 1.0}))) ;
+
+    PointSolution solution = new PointSolution(new ArrayPoint(new double[] {1.5, 2.5})) ;
+    assertTrue(archive.add(solution)) ;
+
+    assertEquals(3, archive.size()) ;
+    assertSame(solution, archive.get(2)) ;
+  }
+
+  /**
+   * With leaves of one solution, the tree is split on every insertion. The staircase [1, 6], [2, 5], ...,
+   * [6, 1] is added, then [2.5, 2.5] removes [3, 4] and [4, 3], [3, 3] is dominated by it, [6, 1] is
+   * already a member and [0.5, 7] is not dominated by any member.
+   */
+  @Test
+  public void shouldKeepTheNonDominatedSolutionsInInsertionOrderWhenTheLeavesAreSplit() {
+    NonDominatedTreeArchive<PointSolution> archive = new NonDominatedTreeArchive<>(1) ;
+    for (int i = 1; i <= 6; i++) {
+      assertTrue(archive.add(new PointSolution(new ArrayPoint(new double[] {i, 7 - i})))) ;
+    }
+
+    assertTrue(archive.add(new PointSolution(new ArrayPoint(new double[] {2.5, 2.5})))) ;
+    assertFalse(archive.add(new PointSolution(new ArrayPoint(new double[] {3.0, 3.0})))) ;
+    assertFalse(archive.add(new PointSolution(new ArrayPoint(new double[] {6.0, 1.0})))) ;
+    assertTrue(archive.add(new PointSolution(new ArrayPoint(new double[] {0.5, 7.0})))) ;
+
+    double[][] expected = {{1.0, 6.0}, {2.0, 5.0}, {5.0, 2.0}, {6.0, 1.0}, {2.5, 2.5}, {0.5, 7.0}} ;
+    assertEquals(expected.length, archive.size()) ;
+    for (int i = 0; i < expected.length; i++) {
+      assertArrayEquals(expected[i], archive.get(i).getObjectives(), 0.0) ;
+    }
+
+    assertTrue(archive.add(new PointSolution(new ArrayPoint(new double[] {0.0, 0.0})))) ;
+    assertEquals(1, archive.size()) ;
+  }
+
+  /**
+   * Three objectives, with leaves of two solutions: [1, 1, 3] removes [1, 2, 3], and [2, 2, 1] removes
+   * [2, 3, 1] and [2, 2, 2]
+   */
+  @Test
+  public void shouldAddRemoveTheDominatedSolutionsWithThreeObjectives() {
+    NonDominatedTreeArchive<PointSolution> archive = new NonDominatedTreeArchive<>(2) ;
+    assertTrue(archive.add(new PointSolution(new ArrayPoint(new double[] {1.0, 2.0, 3.0})))) ;
+    assertTrue(archive.add(new PointSolution(new ArrayPoint(new double[] {2.0, 3.0, 1.0})))) ;
+    assertTrue(archive.add(new PointSolution(new ArrayPoint(new double[] {3.0, 1.0, 2.0})))) ;
+    assertTrue(archive.add(new PointSolution(new ArrayPoint(new double[] {2.0, 2.0, 2.0})))) ;
+    assertFalse(archive.add(new PointSolution(new ArrayPoint(new double[] {1.0, 3.0, 3.0})))) ;
+
+    assertTrue(archive.add(new PointSolution(new ArrayPoint(new double[] {1.0, 1.0, 3.0})))) ;
+    assertEquals(4, archive.size()) ;
+
+    assertTrue(archive.add(new PointSolution(new ArrayPoint(new double[] {2.0, 2.0, 1.0})))) ;
+
+    double[][] expected = {{3.0, 1.0, 2.0}, {1.0, 1.0, 3.0}, {2.0, 2.0, 1.0}} ;
+    assertEquals(expected.length, archive.size()) ;
+    for (int i = 0; i < expected.length; i++) {
+      assertArrayEquals(expected[i], archive.get(i).getObjectives(), 0.0) ;
+    }
+  }
+
+  /**
+   * A feasible solution replaces the infeasible ones, and an infeasible solution is not added to an
+   * archive of feasible ones, even if it dominates them
+   */
+  @Test
+  public void shouldKeepTheSolutionsWithTheLowestConstraintViolation() {
+    NonDominatedTreeArchive<DoubleSolution> archive = new NonDominatedTreeArchive<>(1) ;
+
+    DoubleSolution solution1 = new DefaultDoubleSolution(bounds, 2, 1) ;
+    solution1.setObjective(0, 1.0);
+    solution1.setObjective(1, 1.0);
+    solution1.setConstraint(0, -1.0);
+
+    DoubleSolution solution2 = new DefaultDoubleSolution(bounds, 2, 1) ;
+    solution2.setObjective(0, 2.0);
+    solution2.setObjective(1, 2.0);
+    solution2.setConstraint(0, 0.0);
+
+    DoubleSolution solution3 = new DefaultDoubleSolution(bounds, 2, 1) ;
+    solution3.setObjective(0, 0.0);
+    solution3.setObjective(1, 0.0);
+    solution3.setConstraint(0, -0.5);
+
+    DoubleSolution solution4 = new DefaultDoubleSolution(bounds, 2, 1) ;
+    solution4.setObjective(0, 3.0);
+    solution4.setObjective(1, 1.0);
+    solution4.setConstraint(0, 0.0);
+
+    assertTrue(archive.add(solution1)) ;
+    assertTrue(archive.add(solution2)) ;
+    assertFalse(archive.add(solution3)) ;
+    assertTrue(archive.add(solution4)) ;
+
+    assertEquals(Arrays.asList(solution2, solution4), archive.getSolutionList()) ;
+  }
+
+  @Test
+  public void shouldASerializedArchiveKeepItsSolutions() throws Exception {
+    NonDominatedTreeArchive<PointSolution> archive = new NonDominatedTreeArchive<>(2) ;
+    for (int i = 1; i <= 6; i++) {
+      archive.add(new PointSolution(new ArrayPoint(new double[] {i, 7 - i, i % 3}))) ;
+    }
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream() ;
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(archive);
+    }
+    @SuppressWarnings("unchecked")
+    NonDominatedTreeArchive<PointSolution> copy = (NonDominatedTreeArchive<PointSolution>)
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject() ;
+
+    assertEquals(6, copy.size()) ;
+    for (int i = 0; i < archive.size(); i++) {
+      assertArrayEquals(archive.get(i).getObjectives(), copy.get(i).getObjectives(), 0.0) ;
+    }
+    assertFalse(copy.add(archive.get(0))) ;
+  }
+}
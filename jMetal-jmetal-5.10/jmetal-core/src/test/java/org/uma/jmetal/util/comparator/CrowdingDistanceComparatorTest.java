@@ -2,15 +2,14 @@ package org.uma.jmetal.util.comparator;
 
 import org.junit.Before;
 import org.junit.Test;
-import org.springframework.test.util.ReflectionTestUtils;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.solution.binarysolution.BinarySolution;
-import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.binarysolution.impl.DefaultBinarySolution;
 import org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance;
 
+import java.util.Arrays;
+
 import static org.junit.Assert.assertEquals;
-import static org.mockito.Matchers.any;
-import static org.mockito.Mockito.*;
 
 /**
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
@@ -18,19 +17,25 @@ import static org.mockito.Mockito.*;
  */
 public class CrowdingDistanceComparatorTest {
   private CrowdingDistanceComparator<Solution<?>> comparator ;
+  private CrowdingDistance<Solution<?>> crowdingDistance ;
 
   @Before public void setup() {
     comparator = new CrowdingDistanceComparator<Solution<?>>() ;
+    crowdingDistance = new CrowdingDistance<Solution<?>>() ;
+  }
+
+  private BinarySolution createSolution() {
+    return new DefaultBinarySolution(Arrays.asList(1), 2) ;
   }
 
   @Test public void shouldCompareReturnOneIfTheFirstSolutionIsNull() {
-    Solution<?> solution2 = mock(Solution.class) ;
+    Solution<?> solution2 = createSolution() ;
 
     assertEquals(1, comparator.compare(null, solution2)) ;
   }
 
   @Test public void shouldCompareReturnMinusOneIfTheSecondSolutionIsNull() {
-    Solution<?> solution1 = mock(Solution.class) ;
+    Solution<?> solution1 = createSolution() ;
 
     assertEquals(-1, comparator.compare(solution1, null)) ;
   }
@@ -40,58 +45,44 @@ public class CrowdingDistanceComparatorTest {
   }
 
   @Test public void shouldCompareReturnZeroIfBothSolutionsHaveNoCrowdingDistanceAttribute() {
-    @SuppressWarnings("unchecked")
-    CrowdingDistance<Solution<?>> distance = mock(CrowdingDistance.class) ;
-    when(distance.getAttribute(any(Solution.class))).thenReturn((Double) null, (Double) null) ;
-
-    ReflectionTestUtils.setField(comparator, "crowdingDistance", distance);
-
-    Solution<?> solution1 = mock(Solution.class) ;
-    Solution<?> solution2 = mock(Solution.class) ;
+    Solution<?> solution1 = createSolution() ;
+    Solution<?> solution2 = createSolution() ;
 
     assertEquals(0, comparator.compare(solution1, solution2));
-    verify(distance, times(2)).getAttribute(any(Solution.class)) ;
   }
 
   @Test public void shouldCompareReturnZeroIfBothSolutionsHaveTheSameDistance() {
-    @SuppressWarnings("unchecked")
-    CrowdingDistance<Solution<?>> distance = mock(CrowdingDistance.class) ;
-    when(distance.getAttribute(any(DoubleSolution.class))).thenReturn(2.0, 2.0, 2.0, 2.0) ;
-
-    ReflectionTestUtils.setField(comparator, "crowdingDistance", distance);
-
-    DoubleSolution solution1 = mock(DoubleSolution.class) ;
-    DoubleSolution solution2 = mock(DoubleSolution.class) ;
+    Solution<?> solution1 = createSolution() ;
+    Solution<?> solution2 = createSolution() ;
+    crowdingDistance.setAttribute(solution1, 2.0);
+    crowdingDistance.setAttribute(solution2, 2.0);
 
     assertEquals(0, comparator.compare(solution1, solution2));
-    verify(distance, times(4)).getAttribute(any(Solution.class)) ;
   }
 
   @Test public void shouldCompareReturnOneIfSolutionAHasLessDistance() {
-    @SuppressWarnings("unchecked")
-    CrowdingDistance<Solution<?>> distance = mock(CrowdingDistance.class) ;
-    when(distance.getAttribute(any(BinarySolution.class))).thenReturn(0.0, 0.0, 2.0, 2.0) ;
-
-    ReflectionTestUtils.setField(comparator, "crowdingDistance", distance);
-
-    BinarySolution solution1 = mock(BinarySolution.class) ;
-    BinarySolution solution2 = mock(BinarySolution.class) ;
+    Solution<?> solution1 = createSolution() ;
+    Solution<?> solution2 = createSolution() ;
+    crowdingDistance.setAttribute(solution1, 0.0);
+    crowdingDistance.setAttribute(solution2, 2.0);
 
     assertEquals(1, comparator.compare(solution1, solution2));
-    verify(distance, times(4)).getAttribute(any(Solution.class)) ;
   }
 
   @Test public void shouldCompareReturnMinusOneIfSolutionBHasHigherDistance() {
-    @SuppressWarnings("unchecked")
-    CrowdingDistance<Solution<?>> distance = mock(CrowdingDistance.class) ;
-    when(distance.getAttribute(any(BinarySolution.class))).thenReturn(3.0, 3.0, 2.0, 2.0) ;
+    Solution<?> solution1 = createSolution() ;
+    Solution<?> solution2 = createSolution() ;
+    crowdingDistance.setAttribute(solution1, 3.0);
+    crowdingDistance.setAttribute(solution2, 2.0);
 
-    ReflectionTestUtils.setField(comparator, "crowdingDistance", distance);
+    assertEquals(-1, comparator.compare(solution1, solution2));
+  }
 
-    BinarySolution solution1 = mock(BinarySolution.class) ;
-    BinarySolution solution2 = mock(BinarySolution.class) ;
+  @Test public void shouldCompareReturnMinusOneIfOnlySolutionAHasADistance() {
+    Solution<?> solution1 = createSolution() ;
+    Solution<?> solution2 = createSolution() ;
+    crowdingDistance.setAttribute(solution1, 1.0);
 
     assertEquals(-1, comparator.compare(solution1, solution2));
-    verify(distance, times(4)).getAttribute(any(Solution.class)) ;
   }
 }
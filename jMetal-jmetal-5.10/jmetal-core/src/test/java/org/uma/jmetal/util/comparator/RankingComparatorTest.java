@@ -2,15 +2,15 @@ package org.uma.jmetal.util.comparator;
 
 import org.junit.Before;
 import org.junit.Test;
-import org.springframework.test.util.ReflectionTestUtils;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.solution.binarysolution.BinarySolution;
-import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.binarysolution.impl.DefaultBinarySolution;
 import org.uma.jmetal.util.solutionattribute.Ranking;
+import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
+
+import java.util.Arrays;
 
 import static org.junit.Assert.assertEquals;
-import static org.mockito.Matchers.any;
-import static org.mockito.Mockito.*;
 
 /**
  * @author Antonio J. Nebro
@@ -18,19 +18,25 @@ import static org.mockito.Mockito.*;
  */
 public class RankingComparatorTest {
   private RankingComparator<Solution<?>> comparator ;
+  private Ranking<Solution<?>> ranking ;
 
   @Before public void setup() {
     comparator = new RankingComparator<Solution<?>>() ;
+    ranking = new DominanceRanking<Solution<?>>() ;
+  }
+
+  private BinarySolution createSolution() {
+    return new DefaultBinarySolution(Arrays.asList(1), 2) ;
   }
 
   @Test public void shouldCompareReturnOneIfTheFirstSolutionIsNull() {
-    Solution<?> solution2 = mock(Solution.class) ;
+    Solution<?> solution2 = createSolution() ;
 
     assertEquals(1, comparator.compare(null, solution2)) ;
   }
 
   @Test public void shouldCompareReturnMinusOneIfTheSecondSolutionIsNull() {
-    Solution<?> solution1 = mock(Solution.class) ;
+    Solution<?> solution1 = createSolution() ;
 
     assertEquals(-1, comparator.compare(solution1, null)) ;
   }
@@ -40,59 +46,44 @@ public class RankingComparatorTest {
   }
 
   @Test public void shouldCompareReturnZeroIfBothSolutionsHaveNoRankingAttribute() {
-    @SuppressWarnings("unchecked")
-    Ranking<Solution<?>> ranking = mock(Ranking.class) ;
-    when(ranking.getAttribute(any(Solution.class))).thenReturn((Integer) null, (Integer) null) ;
-
-    ReflectionTestUtils.setField(comparator, "ranking", ranking);
-
-    Solution<?> solution1 = mock(Solution.class) ;
-    Solution<?> solution2 = mock(Solution.class) ;
+    Solution<?> solution1 = createSolution() ;
+    Solution<?> solution2 = createSolution() ;
 
     assertEquals(0, comparator.compare(solution1, solution2));
-    verify(ranking, times(2)).getAttribute(any(Solution.class)) ;
   }
 
   @Test public void shouldCompareReturnZeroIfBothSolutionsHaveTheSameRanking() {
-    @SuppressWarnings("unchecked")
-    Ranking<Solution<?>> ranking = mock(Ranking.class) ;
-    when(ranking.getAttribute(any(DoubleSolution.class))).thenReturn(1, 1, 1, 1) ;
-
-    ReflectionTestUtils.setField(comparator, "ranking", ranking);
-
-    DoubleSolution solution1 = mock(DoubleSolution.class) ;
-    DoubleSolution solution2 = mock(DoubleSolution.class) ;
+    Solution<?> solution1 = createSolution() ;
+    Solution<?> solution2 = createSolution() ;
+    ranking.setAttribute(solution1, 1);
+    ranking.setAttribute(solution2, 1);
 
     assertEquals(0, comparator.compare(solution1, solution2));
-    verify(ranking, times(4)).getAttribute(any(Solution.class)) ;
   }
 
   @Test public void shouldCompareReturnMinusOneIfSolutionAHasLessRanking() {
-    @SuppressWarnings("unchecked")
-    Ranking<Solution<?>> ranking = mock(Ranking.class) ;
-    when(ranking.getAttribute(any(BinarySolution.class))).thenReturn(0, 0, 2, 2) ;
-
-    ReflectionTestUtils.setField(comparator, "ranking", ranking);
-
-    BinarySolution solution1 = mock(BinarySolution.class) ;
-    BinarySolution solution2 = mock(BinarySolution.class) ;
+    Solution<?> solution1 = createSolution() ;
+    Solution<?> solution2 = createSolution() ;
+    ranking.setAttribute(solution1, 0);
+    ranking.setAttribute(solution2, 2);
 
     assertEquals(-1, comparator.compare(solution1, solution2));
-    verify(ranking, times(4)).getAttribute(any(Solution.class)) ;
   }
 
   @Test public void shouldCompareReturnOneIfSolutionBHasLessRanking() {
-    @SuppressWarnings("unchecked")
-    Ranking<Solution<?>> ranking = mock(Ranking.class) ;
-    when(ranking.getAttribute(any(BinarySolution.class))).thenReturn(3, 3, 2, 2) ;
-
-    ReflectionTestUtils.setField(comparator, "ranking", ranking);
-
-    BinarySolution solution1 = mock(BinarySolution.class) ;
-    BinarySolution solution2 = mock(BinarySolution.class) ;
+    Solution<?> solution1 = createSolution() ;
+    Solution<?> solution2 = createSolution() ;
+    ranking.setAttribute(solution1, 3);
+    ranking.setAttribute(solution2, 2);
 
     assertEquals(1, comparator.compare(solution1, solution2));
-    verify(ranking, times(4)).getAttribute(any(Solution.class)) ;
   }
 
+  @Test public void shouldCompareReturnMinusOneIfOnlySolutionAHasARanking() {
+    Solution<?> solution1 = createSolution() ;
+    Solution<?> solution2 = createSolution() ;
+    ranking.setAttribute(solution1, 5);
+
+    assertEquals(-1, comparator.compare(solution1, solution2));
+  }
 }
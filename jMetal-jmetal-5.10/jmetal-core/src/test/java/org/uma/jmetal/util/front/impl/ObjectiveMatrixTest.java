@@ -0,0 +1,113 @@
+package org.uma.jmetal.util.front.impl;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.Test;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.front.util.FrontUtils;
+import org.uma.jmetal.util.point.util.comparator.LexicographicalPointComparator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ObjectiveMatrixTest {
+  private static final double EPSILON = 0.0000000000001;
+
+  private static List<DoubleSolution> createSolutions(int size, int numberOfObjectives, int numberOfConstraints, long seed) {
+    Random random = new Random(seed) ;
+    List<Pair<Double, Double>> bounds = Arrays.asList(new ImmutablePair<>(0.0, 1.0)) ;
+    List<DoubleSolution> solutions = new ArrayList<>(size) ;
+    for (int i = 0; i < size; i++) {
+      DoubleSolution solution = new DefaultDoubleSolution(bounds, numberOfObjectives, numberOfConstraints) ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        // Few distinct values, so that there are equal objectives and dominated solutions
+        solution.setObjective(j, random.nextInt(5));
+      }
+      for (int j = 0; j < numberOfConstraints; j++) {
+        solution.setConstraint(j, random.nextBoolean() ? 0.0 : -random.nextInt(3));
+      }
+      solutions.add(solution) ;
+    }
+    return solutions ;
+  }
+
+  @Test
+  public void shouldConstructorCopyTheObjectivesIntoRows() {
+    List<DoubleSolution> solutions = createSolutions(10, 3, 2, 1) ;
+    ObjectiveMatrix<DoubleSolution> matrix = new ObjectiveMatrix<>(solutions, true) ;
+
+    assertEquals(10, matrix.getNumberOfPoints()) ;
+    assertEquals(3, matrix.getPointDimensions()) ;
+    assertEquals(2, matrix.getNumberOfConstraints()) ;
+    for (int i = 0; i < solutions.size(); i++) {
+      assertSame(solutions.get(i), matrix.getSolution(i)) ;
+      for (int j = 0; j < 3; j++) {
+        assertEquals(solutions.get(i).getObjective(j), matrix.getObjective(i, j), EPSILON) ;
+        assertEquals(solutions.get(i).getObjective(j), matrix.getPoint(i).getValue(j), EPSILON) ;
+        assertEquals(solutions.get(i).getObjective(j), matrix.getObjectives()[i * 3 + j], EPSILON) ;
+      }
+      for (int j = 0; j < 2; j++) {
+        assertEquals(solutions.get(i).getConstraint(j), matrix.getConstraint(i, j), EPSILON) ;
+      }
+    }
+  }
+
+  @Test
+  public void shouldDominanceTestAgreeWithTheDominanceComparator() {
+    List<DoubleSolution> solutions = createSolutions(40, 3, 2, 2) ;
+    ObjectiveMatrix<DoubleSolution> matrix = new ObjectiveMatrix<>(solutions) ;
+    DominanceComparator<DoubleSolution> comparator = new DominanceComparator<>() ;
+
+    assertTrue(ObjectiveMatrix.isEquivalentTo(comparator)) ;
+    for (int i = 0; i < solutions.size(); i++) {
+      for (int j = 0; j < solutions.size(); j++) {
+        assertEquals(comparator.compare(solutions.get(i), solutions.get(j)), matrix.dominanceTest(i, j)) ;
+      }
+    }
+  }
+
+  @Test
+  public void shouldRefreshCopyTheNewValuesOfASolution() {
+    List<DoubleSolution> solutions = createSolutions(5, 2, 0, 3) ;
+    ObjectiveMatrix<DoubleSolution> matrix = new ObjectiveMatrix<>(solutions) ;
+
+    solutions.get(3).setObjective(1, 42.0);
+    assertFalse(42.0 == matrix.getObjective(3, 1)) ;
+
+    matrix.refresh(3);
+    assertEquals(42.0, matrix.getObjective(3, 1), EPSILON) ;
+  }
+
+  @Test
+  public void shouldSortMoveTheSolutionsWithTheirRows() {
+    List<DoubleSolution> solutions = createSolutions(20, 2, 0, 4) ;
+    ObjectiveMatrix<DoubleSolution> matrix = new ObjectiveMatrix<>(solutions) ;
+
+    matrix.sort(new LexicographicalPointComparator());
+
+    for (int i = 0; i < matrix.getNumberOfPoints(); i++) {
+      assertEquals(matrix.getSolution(i).getObjective(0), matrix.getObjective(i, 0), EPSILON) ;
+      assertEquals(matrix.getSolution(i).getObjective(1), matrix.getObjective(i, 1), EPSILON) ;
+      if (i > 0) {
+        assertTrue(new LexicographicalPointComparator().compare(matrix.getPoint(i - 1), matrix.getPoint(i)) <= 0) ;
+      }
+    }
+  }
+
+  @Test
+  public void shouldFrontUtilsGiveTheSameValuesAsWithAnArrayFront() {
+    List<DoubleSolution> solutions = createSolutions(30, 4, 0, 5) ;
+    ObjectiveMatrix<DoubleSolution> matrix = new ObjectiveMatrix<>(solutions) ;
+    ArrayFront front = new ArrayFront(solutions) ;
+
+    assertArrayEquals(FrontUtils.getMaximumValues(front), FrontUtils.getMaximumValues(matrix), EPSILON) ;
+    assertArrayEquals(FrontUtils.getMinimumValues(front), FrontUtils.getMinimumValues(matrix), EPSILON) ;
+    assertArrayEquals(FrontUtils.convertFrontToArray(front), FrontUtils.convertFrontToArray(matrix)) ;
+  }
+}
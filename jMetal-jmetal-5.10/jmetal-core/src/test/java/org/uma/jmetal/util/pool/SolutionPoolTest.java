@@ -0,0 +1,106 @@
+package org.uma.jmetal.util.pool;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.Test;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.solution.util.attribute.DoubleAttribute;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SolutionPoolTest {
+  private static final List<Pair<Double, Double>> bounds =
+      Arrays.asList(new ImmutablePair<>(0.0, 1.0), new ImmutablePair<>(0.0, 1.0)) ;
+
+  private static DoubleSolution createSolution() {
+    return new DefaultDoubleSolution(bounds, 2) ;
+  }
+
+  @Test
+  public void shouldCopyIntoReuseTheTargetAndMakeAnEqualSolution() {
+    DoubleAttribute distance = DoubleAttribute.of("pool-test-distance") ;
+    DoubleSolution solution = createSolution() ;
+    solution.setObjective(0, 1.5);
+    solution.setObjective(1, 2.5);
+    solution.setDoubleAttribute(distance, 3.0);
+    solution.setAttribute("pool-test-map", "value");
+
+    DoubleSolution target = createSolution() ;
+    target.setAttribute("pool-test-old", "old");
+
+    DoubleSolution copy = (DoubleSolution) solution.copyInto(target) ;
+
+    assertSame(target, copy) ;
+    assertEquals(solution, copy) ;
+    assertEquals(solution.getVariable(0), copy.getVariable(0)) ;
+    assertEquals(solution.getVariable(1), copy.getVariable(1)) ;
+    assertEquals(3.0, copy.getDoubleAttribute(distance, 0.0), 0.0) ;
+    assertEquals("value", copy.getAttribute("pool-test-map")) ;
+    assertFalse(copy.hasAttribute("pool-test-old")) ;
+  }
+
+  @Test
+  public void shouldCopyIntoReturnANewSolutionIfTheTargetHasAnotherShape() {
+    DoubleSolution solution = createSolution() ;
+    DoubleSolution target = new DefaultDoubleSolution(bounds, 3) ;
+
+    DoubleSolution copy = (DoubleSolution) solution.copyInto(target) ;
+
+    assertNotSame(target, copy) ;
+    assertEquals(solution, copy) ;
+  }
+
+  @Test
+  public void shouldCopyReturnANewSolutionIfNoPoolIsActive() {
+    SolutionPool pool = new SolutionPool(10) ;
+    DoubleSolution discarded = createSolution() ;
+    pool.recycle(Collections.emptyList(), Arrays.asList(discarded));
+
+    DoubleSolution copy = SolutionPool.copy(createSolution()) ;
+
+    assertNotSame(discarded, copy) ;
+    assertEquals(1, pool.size()) ;
+  }
+
+  @Test
+  public void shouldCopyUseThePooledSolutionsWhenThePoolIsActive() {
+    SolutionPool pool = new SolutionPool(10) ;
+    DoubleSolution discarded = createSolution() ;
+    pool.recycle(Collections.emptyList(), Arrays.asList(discarded));
+
+    pool.activate();
+    DoubleSolution first ;
+    DoubleSolution second ;
+    try {
+      first = SolutionPool.copy(createSolution()) ;
+      second = SolutionPool.copy(createSolution()) ;
+    } finally {
+      pool.deactivate();
+    }
+    pool.endGeneration();
+
+    assertSame(discarded, first) ;
+    assertNotSame(discarded, second) ;
+    assertEquals(1, pool.getReusedSolutions()) ;
+    assertEquals(1, pool.getNewSolutions()) ;
+    assertEquals(0, pool.size()) ;
+  }
+
+  @Test
+  public void shouldRecycleSkipTheSurvivorsAndRespectTheCapacity() {
+    DoubleSolution survivor = createSolution() ;
+    DoubleSolution discarded1 = createSolution() ;
+    DoubleSolution discarded2 = createSolution() ;
+    DoubleSolution discarded3 = createSolution() ;
+
+    SolutionPool pool = new SolutionPool(2) ;
+    pool.recycle(Arrays.asList(survivor), Arrays.asList(survivor, discarded1), Arrays.asList(discarded1, discarded2, discarded3));
+
+    assertEquals(2, pool.size()) ;
+  }
+}
@@ -0,0 +1,66 @@
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.solution.util.attribute.DoubleAttribute;
+import org.uma.jmetal.util.front.impl.ObjectiveMatrix;
+import org.uma.jmetal.util.point.PointSolution;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class CrowdingDistanceCalculatorTest {
+  private static final double EPSILON = 0.000000001 ;
+  private static final DoubleAttribute attribute = DoubleAttribute.of("crowding-calculator-test") ;
+
+  private static List<PointSolution> createFront(double[][] objectives) {
+    List<PointSolution> solutionList = new ArrayList<>() ;
+    for (double[] values : objectives) {
+      PointSolution solution = new PointSolution(values.length) ;
+      for (int j = 0; j < values.length; j++) {
+        solution.setObjective(j, values[j]);
+      }
+      solutionList.add(solution) ;
+    }
+    return solutionList ;
+  }
+
+  @Test
+  public void shouldComputeTheCrowdingDistanceOfFourSolutions() {
+    List<PointSolution> solutionList = createFront(new double[][] {{0.0, 1.0}, {0.25, 0.5}, {0.5, 0.25}, {1.0, 0.0}}) ;
+
+    new CrowdingDistanceCalculator(false).compute(solutionList, attribute);
+
+    assertEquals(Double.POSITIVE_INFINITY, solutionList.get(0).getDoubleAttribute(attribute, 0.0), EPSILON) ;
+    assertEquals(0.5 + 0.75, solutionList.get(1).getDoubleAttribute(attribute, 0.0), EPSILON) ;
+    assertEquals(0.75 + 0.5, solutionList.get(2).getDoubleAttribute(attribute, 0.0), EPSILON) ;
+    assertEquals(Double.POSITIVE_INFINITY, solutionList.get(3).getDoubleAttribute(attribute, 0.0), EPSILON) ;
+  }
+
+  @Test
+  public void shouldConstantObjectivesBeSkippedOnlyIfRequested() {
+    List<PointSolution> solutionList = createFront(new double[][] {{1.0, 0.0}, {1.0, 0.5}, {1.0, 1.0}}) ;
+
+    new CrowdingDistanceCalculator(true).compute(solutionList, attribute);
+    assertEquals(1.0, solutionList.get(1).getDoubleAttribute(attribute, 0.0), EPSILON) ;
+
+    new CrowdingDistanceCalculator(false).compute(solutionList, attribute);
+    assertEquals(Double.NaN, solutionList.get(1).getDoubleAttribute(attribute, 0.0), EPSILON) ;
+  }
+
+  @Test
+  public void shouldTheObjectiveMatrixGiveTheSameDistancesAsTheList() {
+    List<PointSolution> solutionList = createFront(new double[][] {
+        {0.0, 3.0, 1.0}, {1.0, 1.0, 1.0}, {1.0, 2.0, 0.0}, {2.0, 1.0, 2.0}, {3.0, 0.0, 1.0}, {1.0, 1.0, 1.0}}) ;
+    DoubleAttribute matrixAttribute = DoubleAttribute.of("crowding-calculator-test-matrix") ;
+    CrowdingDistanceCalculator calculator = new CrowdingDistanceCalculator(false) ;
+
+    calculator.compute(solutionList, attribute);
+    calculator.compute(new ObjectiveMatrix<>(solutionList), matrixAttribute);
+
+    for (PointSolution solution : solutionList) {
+      assertEquals(solution.getDoubleAttribute(attribute, 0.0), solution.getDoubleAttribute(matrixAttribute, 0.0), 0.0) ;
+    }
+  }
+}
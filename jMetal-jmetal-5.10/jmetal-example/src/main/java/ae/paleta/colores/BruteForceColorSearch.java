@@ -0,0 +1,105 @@
+package ae.paleta.colores;
+
+/**
+ * Linear scan over the palette. Channels are kept in separate arrays, and the scan of a candidate
+ * stops as soon as its partial distance reaches the best one found so far.
+ */
+class BruteForceColorSearch implements NearestColorSearch {
+    private final int[] palette;
+    private final int[] red;
+    private final int[] green;
+    private final int[] blue;
+    private final BatchedColorDistance kernel;
+
+    BruteForceColorSearch(int[] palette) {
+        this.palette = palette;
+        this.red = new int[palette.length];
+        this.green = new int[palette.length];
+        this.blue = new int[palette.length];
+        for (int i = 0; i < palette.length; i++) {
+            red[i] = (palette[i] >> 16) & 0xFF;
+            green[i] = (palette[i] >> 8) & 0xFF;
+            blue[i] = palette[i] & 0xFF;
+        }
+        this.kernel = new BatchedColorDistance(palette);
+    }
+
+    @Override
+    public int[] palette() {
+        return palette;
+    }
+
+    @Override
+    public int nearestIndex(int color) {
+        int r = (color >> 16) & 0xFF;
+        int g = (color >> 8) & 0xFF;
+        int b = color & 0xFF;
+        int minDist = Integer.MAX_VALUE;
+        int nearest = -1;
+
+        for (int i = 0; i < red.length; i++) {
+            int rDiff = red[i] - r;
+            int dist = rDiff * rDiff;
+            if (dist >= minDist) {
+                continue;
+            }
+            int gDiff = green[i] - g;
+            dist += gDiff * gDiff;
+            if (dist >= minDist) {
+                continue;
+            }
+            int bDiff = blue[i] - b;
+            dist += bDiff * bDiff;
+            if (dist < minDist) {
+                minDist = dist;
+                nearest = i;
+                if (dist == 0) {
+                    break;
+                }
+            }
+        }
+        return nearest;
+    }
+
+    @Override
+    public int nearestSquaredDistance(int color) {
+        int r = (color >> 16) & 0xFF;
+        int g = (color >> 8) & 0xFF;
+        int b = color & 0xFF;
+        int minDist = Integer.MAX_VALUE;
+
+        for (int i = 0; i < red.length; i++) {
+            int rDiff = red[i] - r;
+            int dist = rDiff * rDiff;
+            if (dist >= minDist) {
+                continue;
+            }
+            int gDiff = green[i] - g;
+            dist += gDiff * gDiff;
+            if (dist >= minDist) {
+                continue;
+            }
+            int bDiff = blue[i] - b;
+            dist += bDiff * bDiff;
+            if (dist < minDist) {
+                minDist = dist;
+                if (dist == 0) {
+                    break;
+                }
+            }
+        }
+        return minDist;
+    }
+
+    // Bulk sums use the batched kernel, which is faster than querying the pixels one by one
+
+    @Override
+    public double distanceSum(int[] colors, int from, int to) {
+        return kernel.distanceSum(colors, from, to);
+    }
+
+    @Override
+    public double weightedDistanceSum(int[] colors, int[] weights, int from, int to) {
+        return kernel.weightedDistanceSum(colors, weights, from, to);
+    }
+}
@@ -0,0 +1,134 @@
+package ae.paleta.colores;
+
+/**
+ * Conversion of sRGB colors to CIELAB (D65 white point) and the CIEDE2000 color difference. The
+ * sRGB transfer function is applied through a lookup table of the 256 possible channel values.
+ */
+class CieLab {
+    private static final double[] SRGB_TO_LINEAR = new double[256];
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            double value = i / 255.0;
+            SRGB_TO_LINEAR[i] = value <= 0.04045 ? value / 12.92 : Math.pow((value + 0.055) / 1.055, 2.4);
+        }
+    }
+
+    private static final double WHITE_X = 0.95047;
+    private static final double WHITE_Y = 1.0;
+    private static final double WHITE_Z = 1.08883;
+    private static final double EPSILON = 216.0 / 24389.0;
+    private static final double KAPPA = 24389.0 / 27.0;
+    private static final double POW_25_7 = 6103515625.0;
+
+    /**
+     * Converts packed 0xRRGGBB colors into three arrays with their L*, a* and b* components.
+     */
+    static void toLab(int[] colors, float[] l, float[] a, float[] b) {
+        for (int i = 0; i < colors.length; i++) {
+            double red = SRGB_TO_LINEAR[(colors[i] >> 16) & 0xFF];
+            double green = SRGB_TO_LINEAR[(colors[i] >> 8) & 0xFF];
+            double blue = SRGB_TO_LINEAR[colors[i] & 0xFF];
+
+            double x = f((0.4124564 * red + 0.3575761 * green + 0.1804375 * blue) / WHITE_X);
+            double y = f((0.2126729 * red + 0.7151522 * green + 0.0721750 * blue) / WHITE_Y);
+            double z = f((0.0193339 * red + 0.1191920 * green + 0.9503041 * blue) / WHITE_Z);
+
+            l[i] = (float) (116.0 * y - 16.0);
+            a[i] = (float) (500.0 * (x - y));
+            b[i] = (float) (200.0 * (y - z));
+        }
+    }
+
+    private static double f(double t) {
+        return t > EPSILON ? Math.cbrt(t) : (KAPPA * t + 16.0) / 116.0;
+    }
+
+    /**
+     * CIEDE2000 color difference with unit weighting factors, following Sharma, Wu and Dalal, "The
+     * CIEDE2000 color-difference formula: implementation notes, supplementary test data, and
+     * mathematical observations" (2005).
+     */
+    static double ciede2000(double l1, double a1, double b1, double l2, double a2, double b2) {
+        double c1 = Math.sqrt(a1 * a1 + b1 * b1);
+        double c2 = Math.sqrt(a2 * a2 + b2 * b2);
+        double cMean7 = pow7((c1 + c2) / 2.0);
+        double g = 0.5 * (1.0 - Math.sqrt(cMean7 / (cMean7 + POW_25_7)));
+
+        double a1Prime = (1.0 + g) * a1;
+        double a2Prime = (1.0 + g) * a2;
+        double c1Prime = Math.sqrt(a1Prime * a1Prime + b1 * b1);
+        double c2Prime = Math.sqrt(a2Prime * a2Prime + b2 * b2);
+        double h1Prime = hueAngle(b1, a1Prime);
+        double h2Prime = hueAngle(b2, a2Prime);
+
+        double lDiff = l2 - l1;
+        double cDiff = c2Prime - c1Prime;
+        double hDiff;
+        if (c1Prime * c2Prime == 0.0) {
+            hDiff = 0.0;
+        } else if (Math.abs(h2Prime - h1Prime) <= 180.0) {
+            hDiff = h2Prime - h1Prime;
+        } else if (h2Prime - h1Prime > 180.0) {
+            hDiff = h2Prime - h1Prime - 360.0;
+        } else {
+            hDiff = h2Prime - h1Prime + 360.0;
+        }
+        double bigHDiff = 2.0 * Math.sqrt(c1Prime * c2Prime) * Math.sin(Math.toRadians(hDiff / 2.0));
+
+        double lMean = (l1 + l2) / 2.0;
+        double cMeanPrime = (c1Prime + c2Prime) / 2.0;
+        double hMeanPrime;
+        if (c1Prime * c2Prime == 0.0) {
+            hMeanPrime = h1Prime + h2Prime;
+        } else if (Math.abs(h1Prime - h2Prime) <= 180.0) {
+            hMeanPrime = (h1Prime + h2Prime) / 2.0;
+        } else if (h1Prime + h2Prime < 360.0) {
+            hMeanPrime = (h1Prime + h2Prime + 360.0) / 2.0;
+        } else {
+            hMeanPrime = (h1Prime + h2Prime - 360.0) / 2.0;
+        }
+
+        double t = 1.0
+                - 0.17 * Math.cos(Math.toRadians(hMeanPrime - 30.0))
+                + 0.24 * Math.cos(Math.toRadians(2.0 * hMeanPrime))
+                + 0.32 * Math.cos(Math.toRadians(3.0 * hMeanPrime + 6.0))
+                - 0.20 * Math.cos(Math.toRadians(4.0 * hMeanPrime - 63.0));
+        double sL = lightnessWeight(l1, l2);
+        double sC = 1.0 + 0.045 * cMeanPrime;
+        double sH = 1.0 + 0.015 * cMeanPrime * t;
+        double cMeanPrime7 = pow7(cMeanPrime);
+        double rC = 2.0 * Math.sqrt(cMeanPrime7 / (cMeanPrime7 + POW_25_7));
+        double deltaTheta = 30.0 * Math.exp(-Math.pow((hMeanPrime - 275.0) / 25.0, 2));
+        double rT = -Math.sin(Math.toRadians(2.0 * deltaTheta)) * rC;
+
+        double lTerm = lDiff / sL;
+        double cTerm = cDiff / sC;
+        double hTerm = bigHDiff / sH;
+        return Math.sqrt(lTerm * lTerm + cTerm * cTerm + hTerm * hTerm + rT * cTerm * hTerm);
+    }
+
+    /**
+     * Weighting function S<sub>L</sub> of the lightness difference. Since |R<sub>T</sub>| is below 2,
+     * the chroma and hue terms never add up to a negative value, and |L<sub>1</sub> - L<sub>2</sub>| /
+     * S<sub>L</sub> is a lower bound of the CIEDE2000 difference.
+     */
+    static double lightnessWeight(double l1, double l2) {
+        double lMean = (l1 + l2) / 2.0;
+        double lMean50 = (lMean - 50.0) * (lMean - 50.0);
+        return 1.0 + 0.015 * lMean50 / Math.sqrt(20.0 + lMean50);
+    }
+
+    private static double pow7(double value) {
+        double value2 = value * value;
+        return value2 * value2 * value2 * value;
+    }
+
+    private static double hueAngle(double b, double aPrime) {
+        if (b == 0.0 && aPrime == 0.0) {
+            return 0.0;
+        }
+        double angle = Math.toDegrees(Math.atan2(b, aPrime));
+        return angle < 0.0 ? angle + 360.0 : angle;
+    }
+}
@@ -0,0 +1,89 @@
+package ae.paleta.colores;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmark of the palette distance of a whole image: the original {@link Color} based method,
+ * the pixel-by-pixel scan of squared distances and the batched kernel, on the bundled test images.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColorDistanceBenchmark {
+    @Param({"test1.jpg", "test2.jpg", "test3.jpg", "test4.jpg", "test5.jpg"})
+    String imageName;
+
+    @Param({"10", "32"})
+    int paletteSize;
+
+    BufferedImage image;
+    List<Color> colors;
+    int[] pixels;
+    int[] palette;
+
+    @Setup
+    public void setup() throws IOException {
+        image = ColorPaletteUtils.loadAndResizeImage(imageName, 750, 750);
+        pixels = ColorPaletteUtils.extractPixelBuffer(image);
+
+        Random random = new Random(1);
+        palette = new int[paletteSize];
+        colors = new ArrayList<>(paletteSize);
+        for (int i = 0; i < paletteSize; i++) {
+            palette[i] = pixels[random.nextInt(pixels.length)];
+            colors.add(new Color(palette[i]));
+        }
+    }
+
+    @Benchmark
+    public double colorObjects() {
+        return ColorPaletteUtils.calculatePaletteDistance(image, colors);
+    }
+
+    @Benchmark
+    public double pixelByPixel() {
+        BruteForceColorSearch search = new BruteForceColorSearch(palette);
+        double sum = 0.0;
+        for (int pixel : pixels) {
+            sum += Math.sqrt(search.nearestSquaredDistance(pixel));
+        }
+        return sum / pixels.length;
+    }
+
+    @Benchmark
+    public double batchedKernel() {
+        return new BatchedColorDistance(palette).distanceSum(pixels, 0, pixels.length) / pixels.length;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ColorDistanceBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,109 @@
+package ae.paleta.colores;
+
+import java.util.Arrays;
+
+/**
+ * Weighted histogram of the colors of an image. Each bin holds the packed 0xRRGGBB centroid of the
+ * pixels that fall into it and the number of those pixels. With 8 bits per channel every distinct
+ * color is its own bin; with fewer bits neighbouring colors are merged.
+ *
+ * <p>By the triangle inequality the distance of a pixel to its nearest palette color differs from
+ * the one of its bin centroid by at most the distance between the pixel and the centroid, so
+ * {@link #maxError} bounds the absolute error of the mean palette distance computed from the
+ * histogram.
+ */
+class ColorHistogram {
+    final int[] colors;
+    final int[] counts;
+    final int totalCount;
+    final int bitsPerChannel;
+    final double maxError;
+
+    private ColorHistogram(int[] colors, int[] counts, int totalCount, int bitsPerChannel, double maxError) {
+        this.colors = colors;
+        this.counts = counts;
+        this.totalCount = totalCount;
+        this.bitsPerChannel = bitsPerChannel;
+        this.maxError = maxError;
+    }
+
+    int size() {
+        return colors.length;
+    }
+
+    /**
+     * Builds the coarsest histogram (5, 6, 7 or 8 bits per channel) whose error bound does not
+     * exceed {@code maxError}. A bound of 0 yields the exact histogram of distinct colors.
+     */
+    static ColorHistogram build(int[] pixels, double maxError) {
+        for (int bits = 5; bits < 8; bits++) {
+            ColorHistogram histogram = build(pixels, bits);
+            if (histogram.maxError <= maxError) {
+                return histogram;
+            }
+        }
+        return build(pixels, 8);
+    }
+
+    static ColorHistogram build(int[] pixels, int bitsPerChannel) {
+        if (bitsPerChannel < 1 || bitsPerChannel > 8) {
+            throw new IllegalArgumentException("Bits per channel must be between 1 and 8: " + bitsPerChannel);
+        }
+        int shift = 8 - bitsPerChannel;
+        int mask = (0xFF >> shift) << shift;
+        int binMask = (mask << 16) | (mask << 8) | mask;
+
+        long[] keys = new long[pixels.length];
+        for (int i = 0; i < pixels.length; i++) {
+            keys[i] = ((long) (pixels[i] & binMask) << 24) | (pixels[i] & 0xFFFFFF);
+        }
+        Arrays.sort(keys);
+
+        int[] colors = new int[pixels.length];
+        int[] counts = new int[pixels.length];
+        int bins = 0;
+        double errorTotal = 0.0;
+
+        int start = 0;
+        while (start < keys.length) {
+            long bin = keys[start] >>> 24;
+            int end = start;
+            long rSum = 0;
+            long gSum = 0;
+            long bSum = 0;
+            while (end < keys.length && (keys[end] >>> 24) == bin) {
+                int pixel = (int) (keys[end] & 0xFFFFFF);
+                rSum += (pixel >> 16) & 0xFF;
+                gSum += (pixel >> 8) & 0xFF;
+                bSum += pixel & 0xFF;
+                end++;
+            }
+            int count = end - start;
+            int r = (int) Math.round((double) rSum / count);
+            int g = (int) Math.round((double) gSum / count);
+            int b = (int) Math.round((double) bSum / count);
+            int centroid = (r << 16) | (g << 8) | b;
+
+            for (int i = start; i < end; i++) {
+                errorTotal += Math.sqrt(squaredDistance((int) (keys[i] & 0xFFFFFF), centroid));
+            }
+
+            colors[bins] = centroid;
+            counts[bins] = count;
+            bins++;
+            start = end;
+        }
+
+        double maxError = pixels.length == 0 ? 0.0 : errorTotal / pixels.length;
+
+        return new ColorHistogram(Arrays.copyOf(colors, bins), Arrays.copyOf(counts, bins), pixels.length,
+                bitsPerChannel, maxError);
+    }
+
+    static int squaredDistance(int c1, int c2) {
+        int rDiff = ((c1 >> 16) & 0xFF) - ((c2 >> 16) & 0xFF);
+        int gDiff = ((c1 >> 8) & 0xFF) - ((c2 >> 8) & 0xFF);
+        int bDiff = (c1 & 0xFF) - (c2 & 0xFF);
+        return rDiff * rDiff + gDiff * gDiff + bDiff * bDiff;
+    }
+}
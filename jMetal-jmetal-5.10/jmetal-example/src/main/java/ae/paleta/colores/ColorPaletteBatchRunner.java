@@ -0,0 +1,230 @@
+package ae.paleta.colores;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.uma.jmetal.operator.selection.impl.BinaryTournamentSelection;
+import org.uma.jmetal.solution.integersolution.IntegerSolution;
+import org.uma.jmetal.util.comparator.RankingAndCrowdingDistanceComparator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Extracts the palettes of a batch of images. Images are optimized concurrently on a fixed pool of
+ * workers that is kept for the whole batch, each run stopping at {@link #MAX_EVALUATIONS} or at the
+ * time budget, whichever comes first. The fronts are written by a {@link PaletteOutputWriter}, so that
+ * the workers go on with the next image while the swatch sheet and CSV file of the previous one are
+ * written; its bounded queue keeps the fronts waiting to be written from piling up.
+ * Every run is seeded from the image name, so a run that reaches {@link #MAX_EVALUATIONS} returns the
+ * same front whatever the scheduling. A run stopped by the wall-clock time budget is not reproducible:
+ * under load, or with another number of workers, it may stop after fewer evaluations, which the
+ * summary records.
+ * The results of an image go to a directory named after it; images with the same base name, such
+ * as {@code a/x.png} and {@code b/x.jpg}, get distinct directories, see {@link #outputName(File)}.
+ *
+ * <p>Usage: {@code ColorPaletteBatchRunner <output directory> <image or directory>...}
+ */
+public class ColorPaletteBatchRunner implements AutoCloseable {
+    private static final int MAX_WIDTH = 750;
+    private static final int MAX_HEIGHT = 750;
+    private static final int MAX_PALETTE_SIZE = 10;
+    private static final int POPULATION_SIZE = 150;
+    private static final int MAX_EVALUATIONS = 10000;
+    private static final long TIME_BUDGET_MILLISECONDS = 30000;
+    private static final String SUMMARY_FILE = "summary.csv";
+    private static final int OUTPUT_QUEUE_CAPACITY = 16;
+
+    private final File outputDirectory;
+    private final long timeBudget;
+    private final ExecutorService workers;
+    private final PaletteOutputWriter writer;
+    private final PaletteSheetEncoder sheetEncoder = new PaletteSheetEncoder();
+    private final PaletteCsvEncoder csvEncoder = new PaletteCsvEncoder();
+    private final Set<String> outputNames = new HashSet<>();
+
+    /**
+     * Creates the output directory and the summary file, and installs a
+     * {@link PerThreadRandomGenerator} in {@link JMetalRandom}.
+     */
+    public ColorPaletteBatchRunner(File outputDirectory, int threads, long timeBudget) throws IOException {
+        this.outputDirectory = outputDirectory;
+        this.timeBudget = timeBudget;
+        this.workers = Executors.newFixedThreadPool(threads);
+        this.writer = new PaletteOutputWriter(OUTPUT_QUEUE_CAPACITY);
+
+        outputDirectory.mkdirs();
+        try (BufferedWriter summary = new BufferedWriter(new FileWriter(new File(outputDirectory, SUMMARY_FILE)))) {
+            summary.write("Image,Output Directory,Evaluations,Seconds,Front Size\n");
+        }
+        JMetalRandom.getInstance().setRandomGenerator(new PerThreadRandomGenerator());
+    }
+
+    /**
+     * Schedules the optimization of an image. The future completes once its results are written.
+     */
+    public CompletableFuture<BatchResult> submit(File imageFile) {
+        String outputName = outputName(imageFile);
+        return CompletableFuture.supplyAsync(() -> optimize(imageFile, outputName), workers)
+                .thenApplyAsync(this::write, writer);
+    }
+
+    /**
+     * Chooses the name of the output directory of an image: its base name, or its file name with the
+     * extension if the base name is already taken, or else that name with a numeric suffix. Names are
+     * compared ignoring case, for case-insensitive file systems. Names are assigned in submission
+     * order, so they do not depend on the scheduling.
+     */
+    synchronized String outputName(File imageFile) {
+        String imageName = imageFile.getName();
+        int dot = imageName.lastIndexOf('.');
+        String name = dot > 0 ? imageName.substring(0, dot) : imageName;
+        if (!outputNames.add(name.toLowerCase(Locale.ROOT))) {
+            String fullName = dot > 0 ? name + "_" + imageName.substring(dot + 1) : imageName;
+            name = fullName;
+            for (int i = 2; !outputNames.add(name.toLowerCase(Locale.ROOT)); i++) {
+                name = fullName + "-" + i;
+            }
+        }
+        return name;
+    }
+
+    private BatchResult optimize(File imageFile, String outputName) {
+        try {
+            long startTime = System.currentTimeMillis();
+            JMetalRandom.getInstance().setSeed(imageFile.getName().hashCode());
+
+            BufferedImage image = ColorPaletteUtils.loadAndResizeImage(imageFile, MAX_WIDTH, MAX_HEIGHT);
+            ColorPaletteProblem problem = new ColorPaletteProblem(image, MAX_PALETTE_SIZE, false);
+            problem.setEvaluationCache(MAX_EVALUATIONS);
+
+            ColorPaletteNSGAII algorithm = new ColorPaletteNSGAII(
+                    problem,
+                    MAX_EVALUATIONS,
+                    POPULATION_SIZE,
+                    new PaletteUniformCrossover(0.7),
+                    new PaletteGaussianMutation(0.08, 10),
+                    new BinaryTournamentSelection<>(new RankingAndCrowdingDistanceComparator<>()),
+                    ColorPaletteNSGAII.InitialPopulationAlgorithm.KMEANS
+            );
+            algorithm.setTimeBudget(timeBudget);
+            algorithm.run();
+
+            List<IntegerSolution> front = ColorPaletteUtils.removeDuplicates(algorithm.getResult(), MAX_PALETTE_SIZE);
+            return new BatchResult(imageFile, outputName, front, algorithm.getEvaluations(), System.currentTimeMillis() - startTime);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private BatchResult write(BatchResult result) {
+        String imageName = result.imageFile.getName();
+        String outputDir = new File(outputDirectory, result.outputName).getPath();
+        try {
+            ColorPaletteUtils.createOutputDirectory(outputDir);
+            ColorPaletteUtils.createPaletteSheet(result.front, outputDir, MAX_PALETTE_SIZE, sheetEncoder);
+            ColorPaletteUtils.writeCSV(result.front, outputDir, MAX_PALETTE_SIZE, csvEncoder);
+
+            try (BufferedWriter summary = new BufferedWriter(new FileWriter(new File(outputDirectory, SUMMARY_FILE), true))) {
+                summary.write(String.format(Locale.US, "%s,%s,%d,%.2f,%d\n",
+                        PaletteCsvEncoder.quote(imageName), PaletteCsvEncoder.quote(result.outputName),
+                        result.evaluations, result.elapsedTime / 1000.0, result.front.size()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return result;
+    }
+
+    /**
+     * Waits for the scheduled images to be optimized and written.
+     */
+    @Override
+    public void close() throws IOException, InterruptedException {
+        workers.shutdown();
+        workers.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        writer.close();
+    }
+
+    /**
+     * Expands directories into the images they contain, in name order.
+     */
+    static List<File> listImages(String[] paths) {
+        Set<String> suffixes = Set.of(ImageIO.getReaderFileSuffixes());
+        List<File> images = new ArrayList<>();
+        for (String path : paths) {
+            File file = new File(path);
+            if (file.isDirectory()) {
+                File[] files = file.listFiles(f -> f.isFile() && f.getName().contains(".")
+                        && suffixes.contains(f.getName().substring(f.getName().lastIndexOf('.') + 1).toLowerCase(Locale.ROOT)));
+                if (files != null) {
+                    Arrays.sort(files);
+                    images.addAll(Arrays.asList(files));
+                }
+            } else {
+                images.add(file);
+            }
+        }
+        return images;
+    }
+
+    static class BatchResult {
+        private final File imageFile;
+        private final String outputName;
+        private final List<IntegerSolution> front;
+        private final int evaluations;
+        private final long elapsedTime;
+
+        BatchResult(File imageFile, String outputName, List<IntegerSolution> front, int evaluations, long elapsedTime) {
+            this.imageFile = imageFile;
+            this.outputName = outputName;
+            this.front = front;
+            this.evaluations = evaluations;
+            this.elapsedTime = elapsedTime;
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 2) {
+            System.err.println("Usage: ColorPaletteBatchRunner <output directory> <image or directory>...");
+            System.exit(1);
+        }
+
+        List<File> images = listImages(Arrays.copyOfRange(args, 1, args.length));
+        long startTime = System.currentTimeMillis();
+
+        List<CompletableFuture<BatchResult>> results = new ArrayList<>(images.size());
+        try (ColorPaletteBatchRunner runner = new ColorPaletteBatchRunner(new File(args[0]), Runtime.getRuntime().availableProcessors(), TIME_BUDGET_MILLISECONDS)) {
+            for (File image : images) {
+                results.add(runner.submit(image));
+            }
+
+            for (int i = 0; i < images.size(); i++) {
+                try {
+                    BatchResult result = results.get(i).join();
+                    System.out.printf("%s: %d evaluations in %.2f seconds, %d palettes%n",
+                            images.get(i).getName(), result.evaluations, result.elapsedTime / 1000.0, result.front.size());
+                } catch (CompletionException e) {
+                    System.err.println(images.get(i).getName() + ": " + e.getCause());
+                }
+            }
+        }
+
+        System.out.printf("%nProcessed %d images in %.2f seconds%n", images.size(), (System.currentTimeMillis() - startTime) / 1000.0);
+    }
+}
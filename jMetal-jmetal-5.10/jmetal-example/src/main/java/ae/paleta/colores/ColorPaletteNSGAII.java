@@ -2,19 +2,18 @@ package ae.paleta.colores;
 
 import org.uma.jmetal.algorithm.multiobjective.nsgaii.NSGAII;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
-import org.uma.jmetal.operator.crossover.impl.IntegerSBXCrossover;
 import org.uma.jmetal.operator.mutation.MutationOperator;
-import org.uma.jmetal.operator.mutation.impl.IntegerPolynomialMutation;
 import org.uma.jmetal.operator.selection.SelectionOperator;
 import org.uma.jmetal.operator.selection.impl.BinaryTournamentSelection;
 import org.uma.jmetal.solution.integersolution.IntegerSolution;
 import org.uma.jmetal.util.comparator.RankingAndCrowdingDistanceComparator;
 import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 import java.awt.image.BufferedImage;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
-import smile.clustering.KMeans;
 
 public class ColorPaletteNSGAII extends NSGAII<IntegerSolution> {
     enum InitialPopulationAlgorithm {
@@ -23,6 +22,9 @@ public class ColorPaletteNSGAII extends NSGAII<IntegerSolution> {
     }
 
     private InitialPopulationAlgorithm initialPopulationAlgorithm;
+    private double[] resolutionSchedule;
+    private long timeBudget = 0;
+    private long startTime;
 
     public ColorPaletteNSGAII(
         ColorPaletteProblem problem,
@@ -47,28 +49,110 @@ public class ColorPaletteNSGAII extends NSGAII<IntegerSolution> {
         this.initialPopulationAlgorithm = initialPopulationAlgorithm;
     }
     
+    /**
+     * Evaluates the run progressively on an image pyramid with {@code switchPoints.length + 1}
+     * levels. The run starts on the coarsest level and moves one level finer each time the evaluations
+     * reach the next fraction of the maximum in {@code switchPoints}, which must be increasing values in
+     * (0, 1); the last switch restores full resolution. On every switch the population is evaluated
+     * again (not counted as evaluations) and ranked anew, so that it is compared with the offspring on
+     * the same level.
+     */
+    public void setResolutionSchedule(double... switchPoints) {
+        for (int i = 0; i < switchPoints.length; i++) {
+            if (switchPoints[i] <= 0.0 || switchPoints[i] >= 1.0 || (i > 0 && switchPoints[i] <= switchPoints[i - 1])) {
+                throw new IllegalArgumentException("The switch points must be increasing values in (0, 1): " + Arrays.toString(switchPoints));
+            }
+        }
+        this.resolutionSchedule = switchPoints.clone();
+        ((ColorPaletteProblem) getProblem()).setImagePyramid(switchPoints.length + 1);
+    }
+
+    private int scheduledResolutionLevel() {
+        int level = resolutionSchedule.length;
+        for (double switchPoint : resolutionSchedule) {
+            if (evaluations >= switchPoint * maxEvaluations) {
+                level--;
+            }
+        }
+        return level;
+    }
+
+    /**
+     * Stops the run after {@code milliseconds} of wall-clock time, or at the maximum number of
+     * evaluations if it comes first. A budget of 0 disables the limit. A run stopped before the end of
+     * its resolution schedule is evaluated again at full resolution.
+     */
+    public void setTimeBudget(long milliseconds) {
+        if (milliseconds < 0) {
+            throw new IllegalArgumentException("The time budget must not be negative: " + milliseconds);
+        }
+        this.timeBudget = milliseconds;
+    }
+
+    public int getEvaluations() {
+        return evaluations;
+    }
+
+    @Override
+    public void run() {
+        startTime = System.currentTimeMillis();
+        super.run();
+
+        ColorPaletteProblem problem = (ColorPaletteProblem) getProblem();
+        if (problem.getResolutionLevel() != 0) {
+            problem.setResolutionLevel(0);
+            population = replacement(evaluatePopulation(population), new ArrayList<>());
+        }
+    }
+
+    @Override
+    protected boolean isStoppingConditionReached() {
+        return super.isStoppingConditionReached() || (timeBudget > 0 && System.currentTimeMillis() - startTime >= timeBudget);
+    }
+
+    @Override
+    protected void updateProgress() {
+        super.updateProgress();
+        if (resolutionSchedule != null) {
+            ColorPaletteProblem problem = (ColorPaletteProblem) getProblem();
+            int level = scheduledResolutionLevel();
+            if (level != problem.getResolutionLevel()) {
+                problem.setResolutionLevel(level);
+                population = replacement(evaluatePopulation(population), new ArrayList<>());
+            }
+        }
+    }
+
     @Override
     protected List<IntegerSolution> createInitialPopulation() {
+        if (resolutionSchedule != null) {
+            ((ColorPaletteProblem) getProblem()).setResolutionLevel(resolutionSchedule.length);
+        }
         if (initialPopulationAlgorithm == InitialPopulationAlgorithm.DEFAULT) {
             return super.createInitialPopulation();
         } else {
-            List<IntegerSolution> initialPopulation = new ArrayList<>(getMaxPopulationSize());
             ColorPaletteProblem problem = (ColorPaletteProblem) getProblem();
-            BufferedImage image = problem.image;
-            int maxK = problem.maxPaletteSize;
-
-            double[][] pixels = ColorPaletteUtils.extractPixels(image);
-            double[][] centroids = KMeans.fit(pixels, maxK).centroids;
-
-            for (double[] centroid : centroids) {
-                IntegerSolution solution = problem.createSolution();
-                solution.setVariable(0, (int) centroid[0]);
-                solution.setVariable(1, (int) centroid[1]);
-                solution.setVariable(2, (int) centroid[2]);
-                solution.setVariable(3, 1);
+            int maxPaletteSize = problem.maxPaletteSize;
+
+            // Seeds are drawn here so that the parallel clustering is reproducible
+            long[] seeds = new long[getMaxPopulationSize()];
+            for (int i = 0; i < seeds.length; i++) {
+                seeds[i] = JMetalRandom.getInstance().nextInt(0, Integer.MAX_VALUE - 1);
+            }
+            List<int[]> palettes = new PaletteSeeding(problem.pixels).seedPalettes(maxPaletteSize, seeds);
+
+            List<IntegerSolution> initialPopulation = new ArrayList<>(getMaxPopulationSize());
+            for (int[] palette : palettes) {
+                PaletteSolution solution = (PaletteSolution) problem.createSolution();
+                for (int slot = 0; slot < maxPaletteSize; slot++) {
+                    if (slot < palette.length) {
+                        solution.setColor(slot, palette[slot]);
+                    }
+                    solution.setActive(slot, slot < palette.length);
+                }
                 initialPopulation.add(solution);
             }
-           
+
             return initialPopulation;
         }
     }
@@ -82,9 +166,11 @@ public class ColorPaletteNSGAII extends NSGAII<IntegerSolution> {
         try {
             BufferedImage image = ColorPaletteUtils.loadAndResizeImage(imageName, maxWidth, maxHeight);
             ColorPaletteProblem problem = new ColorPaletteProblem(image, maxPaletteSize, true);
+            problem.setParallelEvaluation(ForkJoinPool.commonPool());
+            problem.setEvaluationCache(10000);
             
-            CrossoverOperator<IntegerSolution> crossover = new IntegerSBXCrossover(0.7, 20);
-            MutationOperator<IntegerSolution> mutation = new IntegerPolynomialMutation(0.08, 20);
+            CrossoverOperator<IntegerSolution> crossover = new PaletteUniformCrossover(0.7);
+            MutationOperator<IntegerSolution> mutation = new PaletteGaussianMutation(0.08, 10);
             SelectionOperator<List<IntegerSolution>, IntegerSolution> selection = new BinaryTournamentSelection<>(new RankingAndCrowdingDistanceComparator<>());
 
             ColorPaletteNSGAII algorithm = new ColorPaletteNSGAII(
@@ -96,6 +182,7 @@ public class ColorPaletteNSGAII extends NSGAII<IntegerSolution> {
                 selection,
                 InitialPopulationAlgorithm.KMEANS
             );
+            algorithm.setResolutionSchedule(0.25, 0.5);
 
             long startTime = System.currentTimeMillis();
             algorithm.run();
@@ -111,6 +198,10 @@ public class ColorPaletteNSGAII extends NSGAII<IntegerSolution> {
             ColorPaletteUtils.writeCSV(uniquePopulation, imageName, maxPaletteSize, true);
 
             System.out.printf("\nExecution time: %.2f seconds \n", (endTime - startTime) / 1000.0);
+            PaletteEvaluationCache evaluationCache = problem.getEvaluationCache();
+            System.out.printf("Evaluation cache hits: %d \n", evaluationCache.getHits());
+            System.out.printf("Evaluation cache misses: %d \n", evaluationCache.getMisses());
+            System.out.printf("Evaluation cache hit rate: %.2f%% \n", 100.0 * evaluationCache.getHitRate());
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -1,13 +1,18 @@
 package ae.paleta.colores;
 
-import java.awt.Color;
 import java.awt.image.BufferedImage;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.apache.commons.math3.distribution.NormalDistribution;
@@ -26,6 +31,7 @@ import org.uma.jmetal.util.comparator.RankingAndCrowdingDistanceComparator;
 import org.uma.jmetal.qualityindicator.impl.GenerationalDistance;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.impl.ArrayFront;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 public class ColorPaletteParameterConfigurationRunner {
 
@@ -39,84 +45,123 @@ public class ColorPaletteParameterConfigurationRunner {
     private static final int[] POPULATION_SIZES = {150};
     private static final int[] ITERATIONS = {10000};
     private static final int SEEDS = 30;
+    private static final int THREADS = Runtime.getRuntime().availableProcessors();
+    private static final int OUTPUT_QUEUE_CAPACITY = 16;
 
-    public static void main(String[] args) throws IOException {
+    public static void main(String[] args) throws IOException, InterruptedException, ExecutionException {
         List<ParameterCombination> parameterCombinations = ParameterCombination.generateParameterCombinations();
 
-        for (String imageName : TEST_IMAGES) {
-            BufferedImage image = ColorPaletteUtils.loadAndResizeImage(imageName, MAX_WIDTH, MAX_HEIGHT);
+        // Every run seeds its own stream of the shared JMetalRandom instance, so results do not depend on the scheduling
+        JMetalRandom.getInstance().setRandomGenerator(new PerThreadRandomGenerator());
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CompletionService<SeedResult> completionService = new ExecutorCompletionService<>(executor);
+        int tasks = 0;
+
+        // The result files are written in the background while the remaining seeds run
+        try (PaletteOutputWriter output = new PaletteOutputWriter(OUTPUT_QUEUE_CAPACITY)) {
+            PaletteCsvEncoder encoder = new PaletteCsvEncoder();
+            for (String imageName : TEST_IMAGES) {
+                BufferedImage image = ColorPaletteUtils.loadAndResizeImage(imageName, MAX_WIDTH, MAX_HEIGHT);
+                int[] pixels = ColorPaletteUtils.extractPixelBuffer(image);
+
+                for (ParameterCombination params : parameterCombinations) {
+                    ConfigurationResults configuration = new ConfigurationResults(imageName, params);
+                    for (int seed = 1; seed <= SEEDS; seed++) {
+                        int taskSeed = seed;
+                        completionService.submit(() -> runSeed(configuration, image, pixels, taskSeed));
+                        tasks++;
+                    }
+                }
+            }
 
-            for (ParameterCombination params : parameterCombinations) {
-                List<List<IntegerSolution>> allSolutions = new ArrayList<>();
-                
-                System.out.println(imageName + ", Crossover: " + params.crossoverProbability + ", Mutation: " + params.mutationProbability + ", Population Size: " + params.populationSize + ", Iterations: " + params.iterations);
+            // Configurations are summarized and written as soon as their last seed finishes
+            for (int i = 0; i < tasks; i++) {
+                SeedResult result = completionService.take().get();
+                ConfigurationResults configuration = result.configuration;
+                System.out.println(configuration.imageName + ", N: " + result.seed);
 
-                for (int seed = 1; seed <= SEEDS; seed++) {
-                    ColorPaletteProblem problem = new ColorPaletteProblem(image, MAX_PALETTE_SIZE, false);
+                if (configuration.add(result)) {
+                    evaluateConfiguration(configuration, output, encoder);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 
-                    CrossoverOperator<IntegerSolution> crossover = new IntegerSBXCrossover(params.getCrossoverProbability(), 20);
-                    MutationOperator<IntegerSolution> mutation = new IntegerPolynomialMutation(params.getMutationProbability(), 20);
-                    SelectionOperator<List<IntegerSolution>, IntegerSolution> selection = new BinaryTournamentSelection<>(
-                            new RankingAndCrowdingDistanceComparator<>());
+    private static SeedResult runSeed(ConfigurationResults configuration, BufferedImage image, int[] pixels, int seed) {
+        JMetalRandom.getInstance().setSeed(seed);
 
-                    ColorPaletteNSGAII algorithm = new ColorPaletteNSGAII(
-                            problem,
-                            params.getIterations(),
-                            params.getPopulationSize(),
-                            crossover,
-                            mutation,
-                            selection,
-                            ColorPaletteNSGAII.InitialPopulationAlgorithm.KMEANS
-                    );
+        ParameterCombination params = configuration.params;
+        ColorPaletteProblem problem = new ColorPaletteProblem(image, pixels, MAX_PALETTE_SIZE, false, ColorPaletteProblem.EvaluationMode.EXACT, 0.0);
 
-                    algorithm.run();
-                    allSolutions.add(ColorPaletteUtils.removeDuplicates(algorithm.getPopulation(), MAX_PALETTE_SIZE));
+        CrossoverOperator<IntegerSolution> crossover = new IntegerSBXCrossover(params.getCrossoverProbability(), 20);
+        MutationOperator<IntegerSolution> mutation = new IntegerPolynomialMutation(params.getMutationProbability(), 20);
+        SelectionOperator<List<IntegerSolution>, IntegerSolution> selection = new BinaryTournamentSelection<>(
+                new RankingAndCrowdingDistanceComparator<>());
 
-                    System.out.println(imageName + ", N: " + seed);
-                }
+        ColorPaletteNSGAII algorithm = new ColorPaletteNSGAII(
+                problem,
+                params.getIterations(),
+                params.getPopulationSize(),
+                crossover,
+                mutation,
+                selection,
+                ColorPaletteNSGAII.InitialPopulationAlgorithm.KMEANS
+        );
+
+        algorithm.run();
+        return new SeedResult(configuration, seed, ColorPaletteUtils.removeDuplicates(algorithm.getPopulation(), MAX_PALETTE_SIZE));
+    }
 
-                List<IntegerSolution> combinedSolutions = SolutionListUtils.getNonDominatedSolutions(ColorPaletteUtils.removeDuplicates(allSolutions.stream().flatMap(List::stream).collect(Collectors.toList()), MAX_PALETTE_SIZE));
+    private static void evaluateConfiguration(ConfigurationResults configuration, PaletteOutputWriter output, PaletteCsvEncoder encoder) {
+        String imageName = configuration.imageName;
+        ParameterCombination params = configuration.params;
+        List<List<IntegerSolution>> allSolutions = configuration.allSolutions;
 
-                Front referenceFront = new ArrayFront(combinedSolutions);
-                Spread<IntegerSolution> spreadIndicator = new Spread<>(referenceFront);
-                GenerationalDistance<IntegerSolution> gdIndicator = new GenerationalDistance<>(referenceFront);
-                PISAHypervolume<IntegerSolution> hypervolume = new PISAHypervolume<>(getReferencePoint(combinedSolutions));
+        System.out.println(imageName + ", Crossover: " + params.crossoverProbability + ", Mutation: " + params.mutationProbability + ", Population Size: " + params.populationSize + ", Iterations: " + params.iterations);
 
-                double realHV = hypervolume.evaluate(combinedSolutions);
+        List<IntegerSolution> combinedSolutions = SolutionListUtils.getNonDominatedSolutions(ColorPaletteUtils.removeDuplicates(allSolutions.stream().flatMap(List::stream).collect(Collectors.toList()), MAX_PALETTE_SIZE));
 
-                List<Double> spreads = new ArrayList<>();
-                List<Double> generationalDistances = new ArrayList<>();
-                List<Double> diffs = new ArrayList<>();
+        Front referenceFront = new ArrayFront(combinedSolutions);
+        Spread<IntegerSolution> spreadIndicator = new Spread<>(referenceFront);
+        GenerationalDistance<IntegerSolution> gdIndicator = new GenerationalDistance<>(referenceFront);
+        PISAHypervolume<IntegerSolution> hypervolume = new PISAHypervolume<>(getReferencePoint(combinedSolutions));
 
-                KolmogorovSmirnovTest ksTest = new KolmogorovSmirnovTest();
-                NormalDistribution normalDist = new NormalDistribution();
+        double realHV = hypervolume.evaluate(combinedSolutions);
 
-                for (List<IntegerSolution> sols : allSolutions) {
-                    spreads.add(spreadIndicator.evaluate(sols));
-                    generationalDistances.add(gdIndicator.evaluate(sols));
-                    double hv = hypervolume.evaluate(sols);
-                    diffs.add(realHV - hv);
-                }
+        List<Double> spreads = new ArrayList<>();
+        List<Double> generationalDistances = new ArrayList<>();
+        List<Double> diffs = new ArrayList<>();
 
-                double meanDiffHV= diffs.stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
-                double stdDevDiffHV = Math.sqrt(diffs.stream().mapToDouble(d -> Math.pow(d - meanDiffHV, 2)).average().orElse(0.0));
+        KolmogorovSmirnovTest ksTest = new KolmogorovSmirnovTest();
+        NormalDistribution normalDist = new NormalDistribution();
 
-                double ksStatistic = ksTest.kolmogorovSmirnovStatistic(normalDist, diffs.stream().mapToDouble(Double::doubleValue).toArray());
-                double ksPValue = ksTest.kolmogorovSmirnovTest(normalDist, diffs.stream().mapToDouble(Double::doubleValue).toArray());
+        for (List<IntegerSolution> sols : allSolutions) {
+            spreads.add(spreadIndicator.evaluate(sols));
+            generationalDistances.add(gdIndicator.evaluate(sols));
+            double hv = hypervolume.evaluate(sols);
+            diffs.add(realHV - hv);
+        }
 
-                double meanSpread = spreads.stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
-                double stdDevSpread = Math.sqrt(spreads.stream().mapToDouble(s -> Math.pow(s - meanSpread, 2)).average().orElse(0.0));
+        double meanDiffHV= diffs.stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
+        double stdDevDiffHV = Math.sqrt(diffs.stream().mapToDouble(d -> Math.pow(d - meanDiffHV, 2)).average().orElse(0.0));
 
-                double meanGD = generationalDistances.stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
-                double stdDevGD = Math.sqrt(generationalDistances.stream().mapToDouble(gd -> Math.pow(gd - meanGD, 2)).average().orElse(0.0));
+        double ksStatistic = ksTest.kolmogorovSmirnovStatistic(normalDist, diffs.stream().mapToDouble(Double::doubleValue).toArray());
+        double ksPValue = ksTest.kolmogorovSmirnovTest(normalDist, diffs.stream().mapToDouble(Double::doubleValue).toArray());
 
-                System.out.println(meanDiffHV + ", " + stdDevDiffHV + ", " + ksPValue + ", " + meanSpread
-                        + ", " + stdDevSpread + ", " + meanGD + ", " + stdDevGD + ", " + combinedSolutions.size());
+        double meanSpread = spreads.stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
+        double stdDevSpread = Math.sqrt(spreads.stream().mapToDouble(s -> Math.pow(s - meanSpread, 2)).average().orElse(0.0));
 
-                saveResults(imageName, params, meanDiffHV, stdDevDiffHV, ksStatistic, ksPValue, meanSpread, stdDevSpread, meanGD, stdDevGD);
-                saveParetoFront(imageName, params, combinedSolutions);
-            }
-        }
+        double meanGD = generationalDistances.stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
+        double stdDevGD = Math.sqrt(generationalDistances.stream().mapToDouble(gd -> Math.pow(gd - meanGD, 2)).average().orElse(0.0));
+
+        System.out.println(meanDiffHV + ", " + stdDevDiffHV + ", " + ksPValue + ", " + meanSpread
+                + ", " + stdDevSpread + ", " + meanGD + ", " + stdDevGD + ", " + combinedSolutions.size());
+
+        output.submit(() -> saveResults(imageName, params, meanDiffHV, stdDevDiffHV, ksStatistic, ksPValue, meanSpread, stdDevSpread, meanGD, stdDevGD));
+        output.submit(() -> saveParetoFront(imageName, params, combinedSolutions, encoder));
     }
 
     private static void saveResults(String imageName, ParameterCombination params, double meanDiff, double stdDevDiff,
@@ -146,7 +191,8 @@ public class ColorPaletteParameterConfigurationRunner {
         }
     }
 
-    private static void saveParetoFront(String imageName, ParameterCombination params, List<IntegerSolution> paretoFront) throws IOException {
+    private static void saveParetoFront(String imageName, ParameterCombination params, List<IntegerSolution> paretoFront,
+            PaletteCsvEncoder encoder) throws IOException {
         String filename = String.format("pareto_front_%s_cossover_%.2f_mutation_%.2f_population_%d_iterations_%d.csv",
                 imageName.replaceAll("\\.jpg$", ""),
                 params.getCrossoverProbability(),
@@ -154,16 +200,8 @@ public class ColorPaletteParameterConfigurationRunner {
                 params.getPopulationSize(),
                 params.getIterations());
 
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filename))) {
-            writer.write("N,Distance,Palette Size,Palette\n");
-            for(int i = 0; i < paretoFront.size(); i++) {
-                IntegerSolution solution = paretoFront.get(i);
-                List<Color> palette = ColorPaletteUtils.extractPalette(solution, MAX_PALETTE_SIZE);
-                String paletteStr = palette.stream()
-                                           .map(c -> String.format("R:%d G:%d B:%d", c.getRed(), c.getGreen(), c.getBlue()))
-                                           .collect(Collectors.joining("; "));
-                writer.write(String.format("%d,%.5f,%d,\"%s\"\n", i + 1, solution.getObjective(0), palette.size(), paletteStr));
-            }
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filename), ColorPaletteUtils.OUTPUT_BUFFER_SIZE)) {
+            encoder.encode(writer, paretoFront, MAX_PALETTE_SIZE);
         }
     }
 
@@ -184,6 +222,44 @@ public class ColorPaletteParameterConfigurationRunner {
         return reference;
     }
 
+    /**
+     * Fronts of the seeds of one image and parameter combination, kept in seed order so that the
+     * statistics are computed exactly as in a sequential execution. Only accessed from the main thread.
+     */
+    static class ConfigurationResults {
+        private final String imageName;
+        private final ParameterCombination params;
+        private final List<List<IntegerSolution>> allSolutions;
+        private int completedSeeds = 0;
+
+        ConfigurationResults(String imageName, ParameterCombination params) {
+            this.imageName = imageName;
+            this.params = params;
+            this.allSolutions = new ArrayList<>(Collections.nCopies(SEEDS, null));
+        }
+
+        /**
+         * Returns true when the result completes the configuration.
+         */
+        boolean add(SeedResult result) {
+            allSolutions.set(result.seed - 1, result.solutions);
+            completedSeeds++;
+            return completedSeeds == SEEDS;
+        }
+    }
+
+    static class SeedResult {
+        private final ConfigurationResults configuration;
+        private final int seed;
+        private final List<IntegerSolution> solutions;
+
+        SeedResult(ConfigurationResults configuration, int seed, List<IntegerSolution> solutions) {
+            this.configuration = configuration;
+            this.seed = seed;
+            this.solutions = solutions;
+        }
+    }
+
     static class ParameterCombination {
         private final double crossoverProbability;
         private final double mutationProbability;
@@ -4,19 +4,70 @@ import java.awt.Color;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.uma.jmetal.problem.integerproblem.impl.AbstractIntegerProblem;
 import org.uma.jmetal.solution.integersolution.IntegerSolution;
-import org.uma.jmetal.solution.integersolution.impl.DefaultIntegerSolution;
 
 public class ColorPaletteProblem extends AbstractIntegerProblem {
+    enum EvaluationMode {
+        EXACT,
+        HISTOGRAM
+    }
+
+    enum DistanceMetric {
+        RGB,
+        CIE76,
+        CIEDE2000
+    }
+
+    static final int DEFAULT_TILE_SIZE = 1 << 14;
+    static final double MAX_POSSIBLE_DISTANCE = ColorPaletteUtils.calculateColorDistance(new Color(255, 255, 255), new Color(0, 0, 0));
+
     BufferedImage image;
+    int[] pixels;
+    EvaluationMode evaluationMode;
+    double maxHistogramError;
+    ColorHistogram histogram;
+    ImagePyramid pyramid;
+    int resolutionLevel = 0;
+    DistanceMetric distanceMetric = DistanceMetric.RGB;
+    LabColorDistance labDistance;
+    double maxPossibleDistance = MAX_POSSIBLE_DISTANCE;
+    ForkJoinPool pool;
+    int tileSize = DEFAULT_TILE_SIZE;
+    boolean deltaEvaluation = false;
+    PaletteEvaluationCache evaluationCache;
     int maxPaletteSize;
     int iter = 0;
     boolean withProgress = false;
 
     public ColorPaletteProblem(BufferedImage image, int maxPaletteSize, boolean withProgress) {
+        this(image, maxPaletteSize, withProgress, EvaluationMode.EXACT, 0.0);
+    }
+
+    /**
+     * In {@link EvaluationMode#HISTOGRAM} mode the palette distance is computed over a weighted
+     * histogram of the image colors, quantized as coarsely as {@code maxHistogramError} (the allowed
+     * error of the mean distance, in RGB units) permits; see {@link ColorHistogram#build(int[], double)}.
+     * The bound is ignored in {@link EvaluationMode#EXACT} mode.
+     */
+    public ColorPaletteProblem(BufferedImage image, int maxPaletteSize, boolean withProgress, EvaluationMode evaluationMode, double maxHistogramError) {
+        this(image, ColorPaletteUtils.extractPixelBuffer(image), maxPaletteSize, withProgress, evaluationMode, maxHistogramError);
+    }
+
+    /**
+     * Uses {@code pixels}, the buffer of {@link ColorPaletteUtils#extractPixelBuffer} for the image,
+     * so that problems on the same image can share it. The buffer is never modified.
+     */
+    ColorPaletteProblem(BufferedImage image, int[] pixels, int maxPaletteSize, boolean withProgress, EvaluationMode evaluationMode, double maxHistogramError) {
         this.image = image;
+        this.pixels = pixels;
+        this.evaluationMode = evaluationMode;
+        this.maxHistogramError = maxHistogramError;
+        if (evaluationMode == EvaluationMode.HISTOGRAM) {
+            this.histogram = ColorHistogram.build(pixels, maxHistogramError);
+        }
         this.maxPaletteSize = maxPaletteSize;
         this.withProgress = withProgress;
 
@@ -43,12 +94,10 @@ public class ColorPaletteProblem extends AbstractIntegerProblem {
 
     @Override
     public void evaluate(IntegerSolution solution) {
-        List<Color> palette = ColorPaletteUtils.extractPalette(solution, maxPaletteSize);
+        int[] palette = ColorPaletteUtils.extractPackedPalette(solution, maxPaletteSize);
 
-        double distance = ColorPaletteUtils.calculatePaletteDistance(image, palette);
-        double paletteSize = palette.size();
-
-        double maxPossibleDistance = ColorPaletteUtils.calculateColorDistance(new Color(255,255,255), new Color(0,0,0));
+        double distance = calculateMemoizedPaletteDistance(solution, palette);
+        double paletteSize = palette.length;
 
         double normalizedDistance = distance / maxPossibleDistance;
         double normalizedPaletteSize = paletteSize / maxPaletteSize;
@@ -56,7 +105,7 @@ public class ColorPaletteProblem extends AbstractIntegerProblem {
         solution.setObjective(0, normalizedDistance);
         solution.setObjective(1, normalizedPaletteSize);
         
-        evaluateConstraints(solution);
+        solution.setConstraint(0, palette.length == 0 ? -1 : 1);
         
         if (withProgress) {
         	iter++;
@@ -64,6 +113,202 @@ public class ColorPaletteProblem extends AbstractIntegerProblem {
         }
     }
     
+    /**
+     * Computes the distance of every palette by splitting the pixels, or the histogram bins, into
+     * tiles of {@code tileSize} entries that are processed in parallel on {@code pool}. Objective values
+     * are reproducible for a given tile size whatever the parallelism of the pool, although they may
+     * differ in the last bits from the sequential evaluation, which adds up the distances in a single pass.
+     * A null pool restores the sequential evaluation. As the order of the sums changes, the
+     * evaluation cache is emptied.
+     */
+    public void setParallelEvaluation(ForkJoinPool pool, int tileSize) {
+        if (tileSize <= 0) {
+            throw new IllegalArgumentException("The tile size must be positive: " + tileSize);
+        }
+        this.pool = pool;
+        this.tileSize = tileSize;
+        if (evaluationCache != null) {
+            evaluationCache.clear();
+        }
+    }
+
+    public void setParallelEvaluation(ForkJoinPool pool) {
+        setParallelEvaluation(pool, DEFAULT_TILE_SIZE);
+    }
+
+    /**
+     * Selects the color difference used for the distance objective. With {@link DistanceMetric#CIE76}
+     * and {@link DistanceMetric#CIEDE2000} the pixels (or histogram bins) are converted to CIELAB once,
+     * here, and distances are normalized by the distance between black and white instead of the
+     * diagonal of the RGB cube. In histogram mode the bins are still built in RGB, so the histogram
+     * error bound no longer holds in the units of the metric. Delta evaluation only supports
+     * {@link DistanceMetric#RGB}. The evaluation cache is emptied, since its distances were computed
+     * with the previous metric.
+     */
+    public void setDistanceMetric(DistanceMetric distanceMetric) {
+        if (distanceMetric != DistanceMetric.RGB && deltaEvaluation) {
+            throw new IllegalArgumentException("Delta evaluation does not support the " + distanceMetric + " metric");
+        }
+        this.distanceMetric = distanceMetric;
+        if (distanceMetric == DistanceMetric.RGB) {
+            this.labDistance = null;
+            this.maxPossibleDistance = MAX_POSSIBLE_DISTANCE;
+        } else {
+            int[] entries = evaluationMode == EvaluationMode.HISTOGRAM ? histogram.colors : pixels;
+            this.labDistance = new LabColorDistance(entries, distanceMetric);
+            this.maxPossibleDistance = LabColorDistance.maxPossibleDistance(distanceMetric);
+        }
+        if (evaluationCache != null) {
+            evaluationCache.clear();
+        }
+    }
+
+    /**
+     * Builds a pyramid of {@code levels} downsampled versions of the image (level 0 being the image
+     * itself) for {@link #setResolutionLevel(int)}, and goes back to full resolution.
+     */
+    public void setImagePyramid(int levels) {
+        int[] fullPixels = pyramid == null ? pixels : pyramid.pixels(0);
+        pyramid = ImagePyramid.build(fullPixels, image.getWidth(), image.getHeight(), levels);
+        setResolutionLevel(0);
+    }
+
+    public int getResolutionLevels() {
+        return pyramid == null ? 1 : pyramid.levels();
+    }
+
+    public int getResolutionLevel() {
+        return resolutionLevel;
+    }
+
+    /**
+     * Evaluates the next palettes on a level of the image pyramid, where level {@code k} has about
+     * 4<sup>-k</sup> times the pixels of the image. The histogram and the CIELAB entries, if any, are
+     * rebuilt for the level, and the evaluation cache is emptied, since distances on different levels
+     * are not comparable: solutions evaluated before the switch must be evaluated again.
+     */
+    public void setResolutionLevel(int resolutionLevel) {
+        if (resolutionLevel < 0 || resolutionLevel >= getResolutionLevels()) {
+            throw new IllegalArgumentException("Resolution level " + resolutionLevel + " out of range [0, " + getResolutionLevels() + ")");
+        }
+        if (pyramid == null) {
+            return;
+        }
+
+        this.resolutionLevel = resolutionLevel;
+        this.pixels = pyramid.pixels(resolutionLevel);
+        if (evaluationMode == EvaluationMode.HISTOGRAM) {
+            this.histogram = ColorHistogram.build(pixels, maxHistogramError);
+        }
+        setDistanceMetric(distanceMetric);
+    }
+
+    /**
+     * Remembers the distances of the last {@code capacity} distinct palettes, so that duplicated
+     * palettes, whatever the order of their colors, are not evaluated again. A capacity of 0 disables
+     * the cache. Hit statistics are available through {@link #getEvaluationCache()}.
+     */
+    public void setEvaluationCache(int capacity) {
+        this.evaluationCache = capacity > 0 ? new PaletteEvaluationCache(capacity) : null;
+    }
+
+    public PaletteEvaluationCache getEvaluationCache() {
+        return evaluationCache;
+    }
+
+    double calculateMemoizedPaletteDistance(IntegerSolution solution, int[] palette) {
+        if (evaluationCache == null || palette.length == 0) {
+            return deltaEvaluation ? calculateCachedPaletteDistance(solution, palette) : calculatePaletteDistance(palette);
+        }
+
+        int[] sortedPalette = PaletteEvaluationCache.canonicalPalette(palette);
+        long key = PaletteEvaluationCache.key(sortedPalette);
+        double distance = evaluationCache.get(sortedPalette, key);
+        if (Double.isNaN(distance)) {
+            distance = deltaEvaluation ? calculateCachedPaletteDistance(solution, palette) : calculatePaletteDistance(palette);
+            evaluationCache.put(sortedPalette, key, distance);
+        }
+        return distance;
+    }
+
+    /**
+     * Keeps in every solution a {@link PaletteDistanceCache} with the nearest palette color of each
+     * pixel (or histogram bin), so that after a mutation only the entries affected by the changed
+     * colors are searched again. Objective values are the same as without the cache. The cache is
+     * computed on the calling thread, and it needs one byte per entry and solution, which may be a lot
+     * of memory when evaluating whole images with large populations.
+     */
+    public void setDeltaEvaluation(boolean deltaEvaluation) {
+        if (deltaEvaluation && maxPaletteSize > PaletteDistanceCache.MAX_PALETTE_SIZE) {
+            throw new IllegalArgumentException("Delta evaluation supports up to " + PaletteDistanceCache.MAX_PALETTE_SIZE + " colors");
+        }
+        if (deltaEvaluation && distanceMetric != DistanceMetric.RGB) {
+            throw new IllegalArgumentException("Delta evaluation does not support the " + distanceMetric + " metric");
+        }
+        this.deltaEvaluation = deltaEvaluation;
+    }
+
+    double calculateCachedPaletteDistance(IntegerSolution solution, int[] palette) {
+        if (palette.length == 0) {
+            solution.setAttribute(PaletteDistanceCache.class, null);
+            return Double.MAX_VALUE;
+        }
+
+        boolean withHistogram = evaluationMode == EvaluationMode.HISTOGRAM;
+        int[] entries = withHistogram ? histogram.colors : pixels;
+        int cacheTileSize = pool == null ? 0 : tileSize;
+        int[] slotColors = ColorPaletteUtils.extractSlotColors(solution, maxPaletteSize);
+
+        PaletteDistanceCache cache = (PaletteDistanceCache) solution.getAttribute(PaletteDistanceCache.class);
+        if (cache != null && cache.isCompatible(entries, cacheTileSize) && cache.changedSlots(slotColors) <= maxPaletteSize / 2) {
+            cache = cache.update(slotColors);
+        } else if (withHistogram) {
+            cache = PaletteDistanceCache.build(entries, histogram.counts, histogram.totalCount, cacheTileSize, slotColors);
+        } else {
+            cache = PaletteDistanceCache.build(entries, null, pixels.length, cacheTileSize, slotColors);
+        }
+        solution.setAttribute(PaletteDistanceCache.class, cache);
+
+        return cache.distance;
+    }
+
+    double calculatePaletteDistance(int[] palette) {
+        if (labDistance != null) {
+            return calculateLabPaletteDistance(palette);
+        }
+        if (pool == null) {
+            if (evaluationMode == EvaluationMode.HISTOGRAM) {
+                return ColorPaletteUtils.calculatePaletteDistance(histogram, palette);
+            }
+            return ColorPaletteUtils.calculatePaletteDistance(pixels, palette);
+        }
+
+        if (palette.length == 0) {
+            return Double.MAX_VALUE;
+        }
+        if (evaluationMode == EvaluationMode.HISTOGRAM) {
+            NearestColorSearch search = NearestColorSearch.create(palette, histogram.size());
+            return ColorPaletteUtils.calculateTiledDistanceSum(search, histogram.colors, histogram.counts, tileSize, pool) / histogram.totalCount;
+        }
+        NearestColorSearch search = NearestColorSearch.create(palette, pixels.length);
+        return ColorPaletteUtils.calculateTiledDistanceSum(search, pixels, null, tileSize, pool) / pixels.length;
+    }
+
+    double calculateLabPaletteDistance(int[] palette) {
+        if (palette.length == 0) {
+            return Double.MAX_VALUE;
+        }
+
+        boolean withHistogram = evaluationMode == EvaluationMode.HISTOGRAM;
+        int[] weights = withHistogram ? histogram.counts : null;
+        double totalWeight = withHistogram ? histogram.totalCount : pixels.length;
+        if (pool == null) {
+            return labDistance.distanceSum(palette, weights, 0, labDistance.size()) / totalWeight;
+        }
+        return ColorPaletteUtils.calculateTiledDistanceSum(labDistance.size(), tileSize, pool,
+                (from, to) -> labDistance.distanceSum(palette, weights, from, to)) / totalWeight;
+    }
+
     public void evaluateConstraints(IntegerSolution solution) {
         List<Color> palette = ColorPaletteUtils.extractPalette(solution, maxPaletteSize);
         
@@ -72,6 +317,6 @@ public class ColorPaletteProblem extends AbstractIntegerProblem {
     
     @Override
     public IntegerSolution createSolution() {
-      return new DefaultIntegerSolution(bounds, getNumberOfObjectives(), getNumberOfConstraints());
+      return new PaletteSolution(maxPaletteSize, getNumberOfObjectives(), getNumberOfConstraints());
     }
 }
\ No newline at end of file
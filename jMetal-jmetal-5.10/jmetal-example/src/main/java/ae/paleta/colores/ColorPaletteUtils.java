@@ -4,24 +4,47 @@ import java.awt.Color;
 import java.awt.Desktop;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
 import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 
 import org.uma.jmetal.solution.integersolution.IntegerSolution;
 
 public class ColorPaletteUtils {
+    static final long LARGE_IMAGE_PIXELS = 1L << 24;
+    static final int SUBSAMPLING_PASSES = 2;
+    static final int OUTPUT_BUFFER_SIZE = 1 << 16;
 	
     static List<Color> extractPalette(IntegerSolution solution, int maxPaletteSize) {
+        if (solution instanceof PaletteSolution) {
+            int[] colors = ((PaletteSolution) solution).getActiveColors();
+            List<Color> palette = new ArrayList<>(colors.length);
+            for (int color : colors) {
+                palette.add(new Color(color));
+            }
+            return palette;
+        }
+
         List<Color> palette = new ArrayList<>();
         for (int i = 0; i < maxPaletteSize * 4; i += 4) {
             int r = solution.getVariable(i);
@@ -59,6 +82,137 @@ public class ColorPaletteUtils {
         return distTotal / (image.getWidth() * image.getHeight());
     }
 
+    static int[] extractPackedPalette(IntegerSolution solution, int maxPaletteSize) {
+        if (solution instanceof PaletteSolution) {
+            return ((PaletteSolution) solution).getActiveColors();
+        }
+
+        int[] palette = new int[maxPaletteSize];
+        int size = 0;
+        for (int i = 0; i < maxPaletteSize * 4; i += 4) {
+            if (solution.getVariable(i + 3) == 1) {
+                palette[size++] = (solution.getVariable(i) << 16) | (solution.getVariable(i + 1) << 8) | solution.getVariable(i + 2);
+            }
+        }
+        return Arrays.copyOf(palette, size);
+    }
+
+    static int[] extractSlotColors(IntegerSolution solution, int maxPaletteSize) {
+        if (solution instanceof PaletteSolution) {
+            return ((PaletteSolution) solution).getSlotColors();
+        }
+
+        int[] slotColors = new int[maxPaletteSize];
+        for (int slot = 0; slot < maxPaletteSize; slot++) {
+            int i = slot * 4;
+            slotColors[slot] = solution.getVariable(i + 3) == 1
+                    ? (solution.getVariable(i) << 16) | (solution.getVariable(i + 1) << 8) | solution.getVariable(i + 2)
+                    : -1;
+        }
+        return slotColors;
+    }
+
+    /**
+     * Decodes the image once into packed 0xRRGGBB values. Pixels are stored column by column, the
+     * same order in which {@link #calculatePaletteDistance(BufferedImage, List)} visits them, so the
+     * buffer is scanned linearly and the distance sums are accumulated in exactly the same order.
+     */
+    static int[] extractPixelBuffer(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] rows = image.getRGB(0, 0, width, height, null, 0, width);
+        int[] pixels = new int[width * height];
+
+        int index = 0;
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                pixels[index++] = rows[y * width + x] & 0xFFFFFF;
+            }
+        }
+        return pixels;
+    }
+
+    static double calculatePaletteDistance(int[] pixels, int[] palette) {
+        if (palette.length == 0) {
+            return Double.MAX_VALUE;
+        }
+
+        // Sums sqrt of the minimum squared distance; sqrt is monotonic, so the value is the same as the minimum of the sqrts
+        return NearestColorSearch.create(palette, pixels.length).distanceSum(pixels, 0, pixels.length) / pixels.length;
+    }
+
+    static double calculatePaletteDistance(ColorHistogram histogram, int[] palette) {
+        if (palette.length == 0) {
+            return Double.MAX_VALUE;
+        }
+
+        return NearestColorSearch.create(palette, histogram.size()).weightedDistanceSum(histogram.colors, histogram.counts, 0, histogram.size()) / histogram.totalCount;
+    }
+
+    /**
+     * Distance sum of the entries (pixels or histogram bins) in {@code [from, to)}.
+     */
+    interface RangeDistanceSum {
+        double sum(int from, int to);
+    }
+
+    /**
+     * Splits {@code length} entries (pixels or histogram bins) into consecutive tiles of
+     * {@code tileSize} entries and computes their distance sums with {@code rangeSum} in parallel on
+     * {@code pool}. The tile sums are then added up in tile order, so the result only depends on the
+     * tile size and not on the number of threads.
+     */
+    static double calculateTiledDistanceSum(int length, int tileSize, ForkJoinPool pool, RangeDistanceSum rangeSum) {
+        int tiles = (length + tileSize - 1) / tileSize;
+        double[] tileSums = new double[tiles];
+        pool.invoke(new TileDistanceSumTask(rangeSum, length, tileSize, tileSums, 0, tiles));
+
+        double distTotal = 0.0;
+        for (double tileSum : tileSums) {
+            distTotal += tileSum;
+        }
+        return distTotal;
+    }
+
+    static double calculateTiledDistanceSum(NearestColorSearch search, int[] colors, int[] weights, int tileSize, ForkJoinPool pool) {
+        if (weights == null) {
+            return calculateTiledDistanceSum(colors.length, tileSize, pool, (from, to) -> search.distanceSum(colors, from, to));
+        }
+        return calculateTiledDistanceSum(colors.length, tileSize, pool, (from, to) -> search.weightedDistanceSum(colors, weights, from, to));
+    }
+
+    @SuppressWarnings("serial")
+    private static class TileDistanceSumTask extends RecursiveAction {
+        private final RangeDistanceSum rangeSum;
+        private final int length;
+        private final int tileSize;
+        private final double[] tileSums;
+        private final int firstTile;
+        private final int lastTile;
+
+        TileDistanceSumTask(RangeDistanceSum rangeSum, int length, int tileSize, double[] tileSums, int firstTile, int lastTile) {
+            this.rangeSum = rangeSum;
+            this.length = length;
+            this.tileSize = tileSize;
+            this.tileSums = tileSums;
+            this.firstTile = firstTile;
+            this.lastTile = lastTile;
+        }
+
+        @Override
+        protected void compute() {
+            if (lastTile - firstTile == 1) {
+                int from = firstTile * tileSize;
+                int to = Math.min(from + tileSize, length);
+                tileSums[firstTile] = rangeSum.sum(from, to);
+            } else if (lastTile > firstTile) {
+                int middle = (firstTile + lastTile) >>> 1;
+                invokeAll(new TileDistanceSumTask(rangeSum, length, tileSize, tileSums, firstTile, middle),
+                        new TileDistanceSumTask(rangeSum, length, tileSize, tileSums, middle, lastTile));
+            }
+        }
+    }
+
     static double calculateColorDistance(Color c1, Color c2) {
         int rDiff = c1.getRed() - c2.getRed();
         int gDiff = c1.getGreen() - c2.getGreen();
@@ -85,8 +239,40 @@ public class ColorPaletteUtils {
         return pixels;
     }
     
+    /**
+     * Loads an image from the resources of this package and scales it down to fit in
+     * {@code maxWidth} x {@code maxHeight}. Images of more than {@link #LARGE_IMAGE_PIXELS} pixels are
+     * never decoded at full resolution; they are read with {@link #readSubsampled}.
+     */
     static BufferedImage loadAndResizeImage(String imageName, int maxWidth, int maxHeight) throws IOException {
-        BufferedImage image = ImageIO.read(ColorPaletteNSGAII.class.getResourceAsStream(imageName));
+        try (InputStream stream = ColorPaletteNSGAII.class.getResourceAsStream(imageName)) {
+            if (stream == null) {
+                throw new IOException("Image not found: " + imageName);
+            }
+            return loadAndResizeImage(stream, imageName, maxWidth, maxHeight);
+        }
+    }
+
+    static BufferedImage loadAndResizeImage(File file, int maxWidth, int maxHeight) throws IOException {
+        try (InputStream stream = new FileInputStream(file)) {
+            return loadAndResizeImage(stream, file.getPath(), maxWidth, maxHeight);
+        }
+    }
+
+    private static BufferedImage loadAndResizeImage(InputStream stream, String imageName, int maxWidth, int maxHeight) throws IOException {
+        BufferedImage image;
+        try (ImageInputStream input = ImageIO.createImageInputStream(stream)) {
+            ImageReader reader = createImageReader(input, imageName);
+            try {
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > LARGE_IMAGE_PIXELS) {
+                    return readSubsampled(reader, maxWidth, maxHeight, SUBSAMPLING_PASSES);
+                }
+                image = reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+
         if (image.getWidth() > maxWidth || image.getHeight() > maxHeight) {
             double scale = Math.min((double) maxWidth / image.getWidth(), (double) maxHeight / image.getHeight());
             int newWidth = (int) (image.getWidth() * scale);
@@ -100,22 +286,109 @@ public class ColorPaletteUtils {
         return image;
     }
 
+    static ImageReader createImageReader(ImageInputStream input, String imageName) throws IOException {
+        if (input == null) {
+            throw new IOException("No image input stream provider for " + imageName);
+        }
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+        if (!readers.hasNext()) {
+            throw new IOException("No image reader for " + imageName);
+        }
+        ImageReader reader = readers.next();
+        reader.setInput(input, false, true);
+        return reader;
+    }
+
+    /**
+     * Reads the first image of {@code reader} scaled down by the smallest integer factor {@code f}
+     * that fits it in {@code maxWidth} x {@code maxHeight}, without ever holding it at full
+     * resolution. The image is decoded {@code passes} x {@code passes} times with a source subsampling
+     * of {@code f}, each time at a different offset within the {@code f} x {@code f} blocks, and the
+     * passes are averaged; with {@code passes == f} every pixel of the image is used, with 1 pass the
+     * image is sampled like a nearest-neighbour resize. Memory depends on the target size and not on
+     * the resolution of the source, while the decoding time grows with the number of passes.
+     */
+    static BufferedImage readSubsampled(ImageReader reader, int maxWidth, int maxHeight, int passes) throws IOException {
+        int width = reader.getWidth(0);
+        int height = reader.getHeight(0);
+        int factor = Math.max(1, Math.max((width + maxWidth - 1) / maxWidth, (height + maxHeight - 1) / maxHeight));
+        int newWidth = (width + factor - 1) / factor;
+        int newHeight = (height + factor - 1) / factor;
+        int steps = Math.max(1, Math.min(passes, factor));
+
+        int[] red = new int[newWidth * newHeight];
+        int[] green = new int[newWidth * newHeight];
+        int[] blue = new int[newWidth * newHeight];
+        int[] counts = new int[newWidth * newHeight];
+        int[] row = new int[newWidth];
+        for (int i = 0; i < steps; i++) {
+            for (int j = 0; j < steps; j++) {
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(factor, factor, i * factor / steps, j * factor / steps);
+                BufferedImage pass = reader.read(0, param);
+
+                for (int y = 0; y < pass.getHeight(); y++) {
+                    pass.getRGB(0, y, pass.getWidth(), 1, row, 0, newWidth);
+                    for (int x = 0; x < pass.getWidth(); x++) {
+                        int index = y * newWidth + x;
+                        red[index] += (row[x] >> 16) & 0xFF;
+                        green[index] += (row[x] >> 8) & 0xFF;
+                        blue[index] += row[x] & 0xFF;
+                        counts[index]++;
+                    }
+                }
+            }
+        }
+
+        BufferedImage image = new BufferedImage(newWidth, newHeight, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < newHeight; y++) {
+            for (int x = 0; x < newWidth; x++) {
+                int index = y * newWidth + x;
+                int half = counts[index] / 2;
+                row[x] = ((red[index] + half) / counts[index]) << 16
+                        | ((green[index] + half) / counts[index]) << 8
+                        | (blue[index] + half) / counts[index];
+            }
+            image.setRGB(0, y, newWidth, 1, row, 0, newWidth);
+        }
+        return image;
+    }
+
+    /**
+     * Keeps the first solution of each palette, comparing the active colors in slot order.
+     */
     static List<IntegerSolution> removeDuplicates(List<IntegerSolution> population, int maxPaletteSize) {
         List<IntegerSolution> unique = new ArrayList<>();
-        Set<String> seen = new HashSet<>();
+        Set<PaletteKey> seen = new HashSet<>();
 
         for (IntegerSolution solution : population) {
-            List<Color> palette = ColorPaletteUtils.extractPalette(solution, maxPaletteSize);
-            String key = palette.stream()
-                                .map(c -> c.getRed() + "-" + c.getGreen() + "-" + c.getBlue())
-                                .collect(Collectors.joining(","));
-            if (seen.add(key)) {
+            if (seen.add(new PaletteKey(extractPackedPalette(solution, maxPaletteSize)))) {
                 unique.add(solution);
             }
         }
         return unique;
     }
 
+    private static class PaletteKey {
+        private final int[] colors;
+        private final int hash;
+
+        PaletteKey(int[] colors) {
+            this.colors = colors;
+            this.hash = Arrays.hashCode(colors);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof PaletteKey && Arrays.equals(colors, ((PaletteKey) o).colors);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
     static void createOutputDirectory(String imageName) {
         File dir = new File(imageName);
         if (dir.exists()) {
@@ -155,24 +428,37 @@ public class ColorPaletteUtils {
         }
     }
 
-    static void writeCSV(List<IntegerSolution> population, String outputDir, int maxPaletteSize, boolean openFile) throws IOException {
-        File csvFile = new File(outputDir, "results.csv");
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(csvFile))) {
-            writer.write("N,Distance,Palette Size,Palette\n");
-            for(int i = 0; i < population.size(); i++) {
-                IntegerSolution solution = population.get(i);
-                List<Color> palette = extractPalette(solution, maxPaletteSize);
-                String paletteStr = palette.stream()
-                                           .map(c -> String.format("R:%d G:%d B:%d", c.getRed(), c.getGreen(), c.getBlue()))
-                                           .collect(Collectors.joining("; "));
-                writer.write(String.format("%d,%.5f,%d,\"%s\"\n", i + 1, solution.getObjective(0), palette.size(), paletteStr));
-            }
+    static File createPaletteSheet(List<IntegerSolution> population, String outputDir, int maxPaletteSize) throws IOException {
+        return createPaletteSheet(population, outputDir, maxPaletteSize, new PaletteSheetEncoder());
+    }
+
+    /**
+     * Writes all the palettes into a single image, {@code palettes.png}, with one row of squares per
+     * solution in population order, instead of one image per palette as {@link #createPalettesImages}.
+     */
+    static File createPaletteSheet(List<IntegerSolution> population, String outputDir, int maxPaletteSize, PaletteSheetEncoder encoder) throws IOException {
+        File image = new File(outputDir, "palettes.png");
+        try (OutputStream output = new BufferedOutputStream(new FileOutputStream(image), OUTPUT_BUFFER_SIZE)) {
+            encoder.encode(output, population, maxPaletteSize);
         }
+        return image;
+    }
+
+    static void writeCSV(List<IntegerSolution> population, String outputDir, int maxPaletteSize, boolean openFile) throws IOException {
+        File csvFile = writeCSV(population, outputDir, maxPaletteSize, new PaletteCsvEncoder());
         
         if (openFile && Desktop.isDesktopSupported()) {
             Desktop.getDesktop().open(csvFile);
         }
 
     }
+
+    static File writeCSV(List<IntegerSolution> population, String outputDir, int maxPaletteSize, PaletteCsvEncoder encoder) throws IOException {
+        File csvFile = new File(outputDir, "results.csv");
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(csvFile), OUTPUT_BUFFER_SIZE)) {
+            encoder.encode(writer, population, maxPaletteSize);
+        }
+        return csvFile;
+    }
     
 }
@@ -0,0 +1,82 @@
+package ae.paleta.colores;
+
+/**
+ * Pixel buffers of an image at decreasing resolutions. Level 0 is the image itself, and every
+ * further level halves the width and the height of the previous one by averaging blocks of 2x2
+ * pixels (fewer at the right and bottom borders of odd sizes). Buffers are column-major, like
+ * {@link ColorPaletteUtils#extractPixelBuffer}.
+ */
+class ImagePyramid {
+    private final int[][] pixels;
+    private final int[] widths;
+    private final int[] heights;
+
+    private ImagePyramid(int[][] pixels, int[] widths, int[] heights) {
+        this.pixels = pixels;
+        this.widths = widths;
+        this.heights = heights;
+    }
+
+    static ImagePyramid build(int[] pixels, int width, int height, int levels) {
+        if (levels <= 0) {
+            throw new IllegalArgumentException("The number of levels must be positive: " + levels);
+        }
+
+        int[][] levelPixels = new int[levels][];
+        int[] widths = new int[levels];
+        int[] heights = new int[levels];
+        levelPixels[0] = pixels;
+        widths[0] = width;
+        heights[0] = height;
+        for (int level = 1; level < levels; level++) {
+            widths[level] = (widths[level - 1] + 1) / 2;
+            heights[level] = (heights[level - 1] + 1) / 2;
+            levelPixels[level] = downsample(levelPixels[level - 1], widths[level - 1], heights[level - 1]);
+        }
+        return new ImagePyramid(levelPixels, widths, heights);
+    }
+
+    private static int[] downsample(int[] pixels, int width, int height) {
+        int newWidth = (width + 1) / 2;
+        int newHeight = (height + 1) / 2;
+        int[] downsampled = new int[newWidth * newHeight];
+
+        int index = 0;
+        for (int x = 0; x < newWidth; x++) {
+            for (int y = 0; y < newHeight; y++) {
+                int red = 0;
+                int green = 0;
+                int blue = 0;
+                int count = 0;
+                for (int sourceX = 2 * x; sourceX < Math.min(2 * x + 2, width); sourceX++) {
+                    for (int sourceY = 2 * y; sourceY < Math.min(2 * y + 2, height); sourceY++) {
+                        int color = pixels[sourceX * height + sourceY];
+                        red += (color >> 16) & 0xFF;
+                        green += (color >> 8) & 0xFF;
+                        blue += color & 0xFF;
+                        count++;
+                    }
+                }
+                int half = count / 2;
+                downsampled[index++] = ((red + half) / count) << 16 | ((green + half) / count) << 8 | (blue + half) / count;
+            }
+        }
+        return downsampled;
+    }
+
+    int levels() {
+        return pixels.length;
+    }
+
+    int[] pixels(int level) {
+        return pixels[level];
+    }
+
+    int width(int level) {
+        return widths[level];
+    }
+
+    int height(int level) {
+        return heights[level];
+    }
+}
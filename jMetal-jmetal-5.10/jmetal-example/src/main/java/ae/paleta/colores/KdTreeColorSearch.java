@@ -0,0 +1,144 @@
+package ae.paleta.colores;
+
+/**
+ * Balanced 3-d tree over the palette colors. The tree is stored implicitly: the node of a range
+ * [lo, hi) of {@link #nodes} is its middle element, and its children are the two halves. Each
+ * node splits along the channel in which its range has the largest spread.
+ */
+class KdTreeColorSearch implements NearestColorSearch {
+    private static final int[] SHIFTS = {16, 8, 0};
+
+    private final int[] palette;
+    private final int[] nodes;
+    private final int[] indices;
+    private final byte[] axes;
+
+    KdTreeColorSearch(int[] palette) {
+        this.palette = palette;
+        this.nodes = palette.clone();
+        this.indices = new int[palette.length];
+        this.axes = new byte[palette.length];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+        build(0, nodes.length);
+    }
+
+    private void build(int lo, int hi) {
+        if (hi - lo <= 0) {
+            return;
+        }
+        int axis = widestAxis(lo, hi);
+        int mid = (lo + hi) >>> 1;
+        select(lo, hi - 1, mid, SHIFTS[axis]);
+        axes[mid] = (byte) axis;
+        build(lo, mid);
+        build(mid + 1, hi);
+    }
+
+    private int widestAxis(int lo, int hi) {
+        int axis = 0;
+        int widest = -1;
+        for (int a = 0; a < 3; a++) {
+            int min = 255;
+            int max = 0;
+            for (int i = lo; i < hi; i++) {
+                int value = (nodes[i] >> SHIFTS[a]) & 0xFF;
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            if (max - min > widest) {
+                widest = max - min;
+                axis = a;
+            }
+        }
+        return axis;
+    }
+
+    // Quickselect: places in position k the element that would be there if [left, right] were sorted by the channel
+    private void select(int left, int right, int k, int shift) {
+        while (left < right) {
+            int pivot = (nodes[(left + right) >>> 1] >> shift) & 0xFF;
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (((nodes[i] >> shift) & 0xFF) < pivot) {
+                    i++;
+                }
+                while (((nodes[j] >> shift) & 0xFF) > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(i, j);
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void swap(int i, int j) {
+        int color = nodes[i];
+        nodes[i] = nodes[j];
+        nodes[j] = color;
+        int index = indices[i];
+        indices[i] = indices[j];
+        indices[j] = index;
+    }
+
+    @Override
+    public int[] palette() {
+        return palette;
+    }
+
+    @Override
+    public int nearestIndex(int color) {
+        long best = search(0, nodes.length, color, Long.MAX_VALUE);
+        return best == Long.MAX_VALUE ? -1 : indices[(int) best];
+    }
+
+    @Override
+    public int nearestSquaredDistance(int color) {
+        long best = search(0, nodes.length, color, Long.MAX_VALUE);
+        return best == Long.MAX_VALUE ? Integer.MAX_VALUE : (int) (best >>> 32);
+    }
+
+    /**
+     * Returns the best candidate found in [lo, hi) packed as (squared distance << 32 | node position),
+     * so that comparing the packed values compares the distances.
+     */
+    private long search(int lo, int hi, int color, long best) {
+        if (hi - lo <= 0) {
+            return best;
+        }
+        int mid = (lo + hi) >>> 1;
+        int node = nodes[mid];
+        int dist = ColorHistogram.squaredDistance(node, color);
+        long candidate = ((long) dist << 32) | mid;
+        if (candidate < best) {
+            best = candidate;
+        }
+
+        int shift = SHIFTS[axes[mid]];
+        int diff = ((color >> shift) & 0xFF) - ((node >> shift) & 0xFF);
+        if (diff < 0) {
+            best = search(lo, mid, color, best);
+            if ((long) diff * diff < (best >>> 32)) {
+                best = search(mid + 1, hi, color, best);
+            }
+        } else {
+            best = search(mid + 1, hi, color, best);
+            if ((long) diff * diff < (best >>> 32)) {
+                best = search(lo, mid, color, best);
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,128 @@
+package ae.paleta.colores;
+
+import ae.paleta.colores.ColorPaletteProblem.DistanceMetric;
+
+/**
+ * Palette distance in the CIELAB color space. The entries (pixels or histogram bins) are converted
+ * to L*a*b* once, when the kernel is created, and only the palette is converted on every call. CIE76
+ * distances are computed in blocks with the same branch-free layout as {@link BatchedColorDistance};
+ * CIEDE2000 distances are much more expensive and are better combined with the histogram evaluation.
+ */
+class LabColorDistance {
+    private final DistanceMetric metric;
+    private final float[] l;
+    private final float[] a;
+    private final float[] b;
+
+    LabColorDistance(int[] colors, DistanceMetric metric) {
+        if (metric != DistanceMetric.CIE76 && metric != DistanceMetric.CIEDE2000) {
+            throw new IllegalArgumentException("Not a CIELAB metric: " + metric);
+        }
+        this.metric = metric;
+        this.l = new float[colors.length];
+        this.a = new float[colors.length];
+        this.b = new float[colors.length];
+        CieLab.toLab(colors, l, a, b);
+    }
+
+    int size() {
+        return l.length;
+    }
+
+    /**
+     * Distance between black and white, which is 100 for both metrics.
+     */
+    static double maxPossibleDistance(DistanceMetric metric) {
+        return new LabColorDistance(new int[] {0xFFFFFF}, metric).distanceSum(new int[] {0x000000}, null, 0, 1);
+    }
+
+    /**
+     * Sum of the distances of the entries in {@code [from, to)} to their nearest palette color, each
+     * multiplied by its weight if {@code weights} is not null.
+     */
+    double distanceSum(int[] palette, int[] weights, int from, int to) {
+        float[] paletteL = new float[palette.length];
+        float[] paletteA = new float[palette.length];
+        float[] paletteB = new float[palette.length];
+        CieLab.toLab(palette, paletteL, paletteA, paletteB);
+
+        return metric == DistanceMetric.CIE76
+                ? cie76Sum(paletteL, paletteA, paletteB, weights, from, to)
+                : ciede2000Sum(paletteL, paletteA, paletteB, weights, from, to);
+    }
+
+    private double cie76Sum(float[] paletteL, float[] paletteA, float[] paletteB, int[] weights, int from, int to) {
+        float[] minDist = new float[BatchedColorDistance.BLOCK_SIZE];
+
+        double sum = 0.0;
+        for (int start = from; start < to; start += BatchedColorDistance.BLOCK_SIZE) {
+            int length = Math.min(BatchedColorDistance.BLOCK_SIZE, to - start);
+            for (int i = 0; i < length; i++) {
+                minDist[i] = Float.MAX_VALUE;
+            }
+
+            for (int p = 0; p < paletteL.length; p++) {
+                float pl = paletteL[p];
+                float pa = paletteA[p];
+                float pb = paletteB[p];
+                for (int i = 0; i < length; i++) {
+                    float lDiff = l[start + i] - pl;
+                    float aDiff = a[start + i] - pa;
+                    float bDiff = b[start + i] - pb;
+                    minDist[i] = Math.min(minDist[i], lDiff * lDiff + aDiff * aDiff + bDiff * bDiff);
+                }
+            }
+
+            if (weights == null) {
+                for (int i = 0; i < length; i++) {
+                    sum += Math.sqrt(minDist[i]);
+                }
+            } else {
+                for (int i = 0; i < length; i++) {
+                    sum += weights[start + i] * Math.sqrt(minDist[i]);
+                }
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Every entry starts with its nearest palette color in CIE76, which is usually also the nearest
+     * one in CIEDE2000, and the other palette colors are skipped when the lower bound of their
+     * difference given by the lightness term alone is not better than the best difference so far.
+     */
+    private double ciede2000Sum(float[] paletteL, float[] paletteA, float[] paletteB, int[] weights, int from, int to) {
+        double sum = 0.0;
+        for (int i = from; i < to; i++) {
+            float entryL = l[i];
+            float entryA = a[i];
+            float entryB = b[i];
+
+            int seed = 0;
+            float seedDist = Float.MAX_VALUE;
+            for (int p = 0; p < paletteL.length; p++) {
+                float lDiff = entryL - paletteL[p];
+                float aDiff = entryA - paletteA[p];
+                float bDiff = entryB - paletteB[p];
+                float dist = lDiff * lDiff + aDiff * aDiff + bDiff * bDiff;
+                if (dist < seedDist) {
+                    seedDist = dist;
+                    seed = p;
+                }
+            }
+
+            double minDist = CieLab.ciede2000(entryL, entryA, entryB, paletteL[seed], paletteA[seed], paletteB[seed]);
+            for (int p = 0; p < paletteL.length; p++) {
+                if (p == seed || Math.abs(entryL - paletteL[p]) / CieLab.lightnessWeight(entryL, paletteL[p]) >= minDist) {
+                    continue;
+                }
+                double dist = CieLab.ciede2000(entryL, entryA, entryB, paletteL[p], paletteA[p], paletteB[p]);
+                if (dist < minDist) {
+                    minDist = dist;
+                }
+            }
+            sum += weights == null ? minDist : weights[i] * minDist;
+        }
+        return sum;
+    }
+}
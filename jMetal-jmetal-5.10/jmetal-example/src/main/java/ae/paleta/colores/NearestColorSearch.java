@@ -0,0 +1,60 @@
+package ae.paleta.colores;
+
+/**
+ * Nearest-color queries over a fixed palette of packed 0xRRGGBB colors. Distances are squared
+ * Euclidean RGB distances, so callers take a single square root per query. Implementations are
+ * immutable once built and can be shared between threads.
+ */
+interface NearestColorSearch {
+    int OCTREE_MIN_PALETTE_SIZE = 24;
+    int OCTREE_MIN_QUERIES = 1 << 16;
+    int KD_TREE_MIN_PALETTE_SIZE = 64;
+
+    /**
+     * Picks the fastest search for the palette size and the expected number of queries, as measured
+     * by {@link NearestColorSearchBenchmark}. The octree is the fastest search over whole images once
+     * the palette has a few dozen colors, but building it only pays off when there are many queries;
+     * with fewer queries, such as the bins of a quantized histogram, large palettes use the k-d tree.
+     */
+    static NearestColorSearch create(int[] palette, int queries) {
+        if (palette.length >= OCTREE_MIN_PALETTE_SIZE && queries >= OCTREE_MIN_QUERIES) {
+            return new OctreeColorSearch(palette);
+        } else if (palette.length >= KD_TREE_MIN_PALETTE_SIZE) {
+            return new KdTreeColorSearch(palette);
+        } else {
+            return new BruteForceColorSearch(palette);
+        }
+    }
+
+    int[] palette();
+
+    /**
+     * Returns the index in {@link #palette()} of the color nearest to {@code color}.
+     */
+    int nearestIndex(int color);
+
+    int nearestSquaredDistance(int color);
+
+    /**
+     * Sum of the distances (not squared) from {@code colors[from..to)} to their nearest palette color,
+     * accumulated in index order.
+     */
+    default double distanceSum(int[] colors, int from, int to) {
+        double sum = 0.0;
+        for (int i = from; i < to; i++) {
+            sum += Math.sqrt(nearestSquaredDistance(colors[i]));
+        }
+        return sum;
+    }
+
+    /**
+     * Same as {@link #distanceSum(int[], int, int)}, with each distance multiplied by its weight.
+     */
+    default double weightedDistanceSum(int[] colors, int[] weights, int from, int to) {
+        double sum = 0.0;
+        for (int i = from; i < to; i++) {
+            sum += weights[i] * Math.sqrt(nearestSquaredDistance(colors[i]));
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,82 @@
+package ae.paleta.colores;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Compares the nearest-color searches for growing palette sizes, both over every pixel of the test
+ * images and over their 5-bit color histograms. Every measurement includes building the search,
+ * since a new one is built for each evaluated palette. The thresholds in
+ * {@link NearestColorSearch#create(int[], int)} come from this benchmark.
+ */
+public class NearestColorSearchBenchmark {
+    private static final String[] TEST_IMAGES = {"test1.jpg", "test2.jpg", "test3.jpg", "test4.jpg", "test5.jpg"};
+    private static final int[] PALETTE_SIZES = {4, 8, 16, 24, 32, 48, 64, 96, 128, 192, 256};
+    private static final int MAX_WIDTH = 750;
+    private static final int MAX_HEIGHT = 750;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 10;
+
+    public static void main(String[] args) throws IOException {
+        Random random = new Random(1);
+        int[][] images = new int[TEST_IMAGES.length][];
+        int[][] histograms = new int[TEST_IMAGES.length][];
+        for (int i = 0; i < TEST_IMAGES.length; i++) {
+            BufferedImage image = ColorPaletteUtils.loadAndResizeImage(TEST_IMAGES[i], MAX_WIDTH, MAX_HEIGHT);
+            images[i] = ColorPaletteUtils.extractPixelBuffer(image);
+            histograms[i] = ColorHistogram.build(images[i], 5).colors;
+        }
+
+        System.out.println("Pixels");
+        run(images, random);
+        System.out.println("5-bit histograms");
+        run(histograms, random);
+    }
+
+    private static void run(int[][] images, Random random) {
+        System.out.println("Palette size, BruteForce (ms), KdTree (ms), Octree (ms), Selected");
+        for (int paletteSize : PALETTE_SIZES) {
+            int[][] palettes = new int[images.length][];
+            for (int i = 0; i < images.length; i++) {
+                palettes[i] = randomPalette(images[i], paletteSize, random);
+            }
+
+            double bruteForce = measure(images, palettes, BruteForceColorSearch::new);
+            double kdTree = measure(images, palettes, KdTreeColorSearch::new);
+            double octree = measure(images, palettes, OctreeColorSearch::new);
+            String selected = NearestColorSearch.create(palettes[0], images[0].length).getClass().getSimpleName();
+
+            System.out.printf("%d, %.3f, %.3f, %.3f, %s%n", paletteSize, bruteForce, kdTree, octree, selected);
+        }
+    }
+
+    // Palette colors are taken from the image itself, as an optimized palette would be
+    private static int[] randomPalette(int[] pixels, int size, Random random) {
+        int[] palette = new int[size];
+        for (int i = 0; i < size; i++) {
+            palette[i] = pixels[random.nextInt(pixels.length)];
+        }
+        return palette;
+    }
+
+    // Returns the mean time, in milliseconds, to build the search and scan every test image once
+    private static double measure(int[][] images, int[][] palettes, Function<int[], NearestColorSearch> factory) {
+        double checksum = 0.0;
+        long elapsed = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < images.length; i++) {
+                checksum += factory.apply(palettes[i]).distanceSum(images[i], 0, images[i].length);
+            }
+            if (round >= WARMUP_ROUNDS) {
+                elapsed += System.nanoTime() - start;
+            }
+        }
+        if (Double.isNaN(checksum)) {
+            throw new IllegalStateException("Invalid distance sum");
+        }
+        return elapsed / 1e6 / ROUNDS;
+    }
+}
@@ -0,0 +1,176 @@
+package ae.paleta.colores;
+
+import java.util.Arrays;
+
+/**
+ * Octree over the RGB cube in which every node keeps the palette colors that can be the nearest
+ * one for some point inside the node. A color is discarded from a node when its minimum distance to
+ * the node is larger than the smallest maximum distance of any other color, so a query only has to
+ * descend to its leaf, following the bits of the color, and scan the few candidates stored there.
+ */
+class OctreeColorSearch implements NearestColorSearch {
+    private static final int MAX_DEPTH = 4;
+    private static final int LEAF_SIZE = 4;
+
+    private final int[] palette;
+    private final int[] red;
+    private final int[] green;
+    private final int[] blue;
+
+    // children[8 * node + octant] is the child node, or -1 when the node is a leaf
+    private int[] children;
+    // The candidates of a leaf are candidates[candidateStart[node] .. candidateEnd[node])
+    private int[] candidateStart;
+    private int[] candidateEnd;
+    private int[] candidates;
+    private int nodeCount;
+    private int candidateCount;
+
+    OctreeColorSearch(int[] palette) {
+        this.palette = palette;
+        this.red = new int[palette.length];
+        this.green = new int[palette.length];
+        this.blue = new int[palette.length];
+        for (int i = 0; i < palette.length; i++) {
+            red[i] = (palette[i] >> 16) & 0xFF;
+            green[i] = (palette[i] >> 8) & 0xFF;
+            blue[i] = palette[i] & 0xFF;
+        }
+
+        children = new int[8 * 64];
+        candidateStart = new int[64];
+        candidateEnd = new int[64];
+        candidates = new int[Math.max(16, palette.length * 4)];
+
+        int[] all = new int[palette.length];
+        for (int i = 0; i < all.length; i++) {
+            all[i] = i;
+        }
+        build(newNode(), all, all.length, 0, 0, 0, 256, 0);
+    }
+
+    private int newNode() {
+        if (nodeCount == candidateStart.length) {
+            candidateStart = Arrays.copyOf(candidateStart, candidateStart.length * 2);
+            candidateEnd = Arrays.copyOf(candidateEnd, candidateEnd.length * 2);
+            children = Arrays.copyOf(children, children.length * 2);
+        }
+        Arrays.fill(children, 8 * nodeCount, 8 * nodeCount + 8, -1);
+        return nodeCount++;
+    }
+
+    private void build(int node, int[] parentCandidates, int parentCount, int r0, int g0, int b0, int size, int depth) {
+        int r1 = r0 + size - 1;
+        int g1 = g0 + size - 1;
+        int b1 = b0 + size - 1;
+
+        int bound = Integer.MAX_VALUE;
+        for (int i = 0; i < parentCount; i++) {
+            int c = parentCandidates[i];
+            int dist = maxDistance(red[c], r0, r1) + maxDistance(green[c], g0, g1) + maxDistance(blue[c], b0, b1);
+            bound = Math.min(bound, dist);
+        }
+
+        int[] nodeCandidates = new int[parentCount];
+        int count = 0;
+        for (int i = 0; i < parentCount; i++) {
+            int c = parentCandidates[i];
+            int dist = minDistance(red[c], r0, r1) + minDistance(green[c], g0, g1) + minDistance(blue[c], b0, b1);
+            if (dist <= bound) {
+                nodeCandidates[count++] = c;
+            }
+        }
+
+        if (count <= LEAF_SIZE || depth == MAX_DEPTH) {
+            candidateStart[node] = candidateCount;
+            if (candidateCount + count > candidates.length) {
+                candidates = Arrays.copyOf(candidates, Math.max(candidates.length * 2, candidateCount + count));
+            }
+            System.arraycopy(nodeCandidates, 0, candidates, candidateCount, count);
+            candidateCount += count;
+            candidateEnd[node] = candidateCount;
+            return;
+        }
+
+        int half = size / 2;
+        for (int octant = 0; octant < 8; octant++) {
+            int child = newNode();
+            children[8 * node + octant] = child;
+            build(child, nodeCandidates, count,
+                    r0 + ((octant >> 2) & 1) * half,
+                    g0 + ((octant >> 1) & 1) * half,
+                    b0 + (octant & 1) * half,
+                    half, depth + 1);
+        }
+    }
+
+    private static int minDistance(int value, int low, int high) {
+        int diff = value < low ? low - value : (value > high ? value - high : 0);
+        return diff * diff;
+    }
+
+    private static int maxDistance(int value, int low, int high) {
+        int diff = Math.max(Math.abs(value - low), Math.abs(value - high));
+        return diff * diff;
+    }
+
+    private int leaf(int color) {
+        int node = 0;
+        int bit = 7;
+        while (children[8 * node] >= 0) {
+            int octant = (((color >> (16 + bit)) & 1) << 2) | (((color >> (8 + bit)) & 1) << 1) | ((color >> bit) & 1);
+            node = children[8 * node + octant];
+            bit--;
+        }
+        return node;
+    }
+
+    @Override
+    public int[] palette() {
+        return palette;
+    }
+
+    @Override
+    public int nearestIndex(int color) {
+        int node = leaf(color);
+        int r = (color >> 16) & 0xFF;
+        int g = (color >> 8) & 0xFF;
+        int b = color & 0xFF;
+        int minDist = Integer.MAX_VALUE;
+        int nearest = -1;
+
+        for (int i = candidateStart[node]; i < candidateEnd[node]; i++) {
+            int c = candidates[i];
+            int rDiff = red[c] - r;
+            int gDiff = green[c] - g;
+            int bDiff = blue[c] - b;
+            int dist = rDiff * rDiff + gDiff * gDiff + bDiff * bDiff;
+            if (dist < minDist) {
+                minDist = dist;
+                nearest = c;
+            }
+        }
+        return nearest;
+    }
+
+    @Override
+    public int nearestSquaredDistance(int color) {
+        int node = leaf(color);
+        int r = (color >> 16) & 0xFF;
+        int g = (color >> 8) & 0xFF;
+        int b = color & 0xFF;
+        int minDist = Integer.MAX_VALUE;
+
+        for (int i = candidateStart[node]; i < candidateEnd[node]; i++) {
+            int c = candidates[i];
+            int rDiff = red[c] - r;
+            int gDiff = green[c] - g;
+            int bDiff = blue[c] - b;
+            int dist = rDiff * rDiff + gDiff * gDiff + bDiff * bDiff;
+            if (dist < minDist) {
+                minDist = dist;
+            }
+        }
+        return minDist;
+    }
+}
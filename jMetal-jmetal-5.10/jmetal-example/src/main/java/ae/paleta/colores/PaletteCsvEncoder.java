@@ -0,0 +1,55 @@
+package ae.paleta.colores;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Formatter;
+import java.util.List;
+
+import org.uma.jmetal.solution.integersolution.IntegerSolution;
+
+/**
+ * Encoder of palette fronts into CSV rows {@code N,Distance,Palette Size,"R:r G:g B:b; ..."}, with
+ * the same text as formatting every row with {@code String.format}. Rows are built in a reused buffer,
+ * and only the distance goes through a (reused) {@link Formatter}, so an encoder should be kept for
+ * many rows and files. Encoders are not thread-safe.
+ */
+class PaletteCsvEncoder {
+    static final String HEADER = "N,Distance,Palette Size,Palette\n";
+
+    private final StringBuilder row = new StringBuilder(256);
+    private final Formatter formatter = new Formatter(row);
+
+    void encode(Writer writer, List<IntegerSolution> front, int maxPaletteSize) throws IOException {
+        writer.write(HEADER);
+        for (int i = 0; i < front.size(); i++) {
+            IntegerSolution solution = front.get(i);
+            int[] palette = ColorPaletteUtils.extractPackedPalette(solution, maxPaletteSize);
+
+            row.setLength(0);
+            row.append(i + 1).append(',');
+            formatter.format("%.5f", solution.getObjective(0));
+            row.append(',').append(palette.length).append(",\"");
+            for (int j = 0; j < palette.length; j++) {
+                if (j > 0) {
+                    row.append("; ");
+                }
+                row.append("R:").append((palette[j] >> 16) & 0xFF)
+                        .append(" G:").append((palette[j] >> 8) & 0xFF)
+                        .append(" B:").append(palette[j] & 0xFF);
+            }
+            row.append("\"\n");
+            writer.append(row);
+        }
+    }
+
+    /**
+     * Returns a text field for a CSV row, quoted if it contains a comma, a quote or a line break, with
+     * its quotes doubled.
+     */
+    static String quote(String field) {
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0 && field.indexOf('\r') < 0) {
+            return field;
+        }
+        return '"' + field.replace("\"", "\"\"") + '"';
+    }
+}
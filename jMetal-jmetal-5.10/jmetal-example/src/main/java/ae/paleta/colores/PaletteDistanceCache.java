@@ -0,0 +1,189 @@
+package ae.paleta.colores;
+
+/**
+ * Nearest palette slot of every pixel (or histogram bin) for the palette a solution had when it was
+ * last evaluated. It is stored as a solution attribute; since solution copies share their attributes,
+ * a cache is never modified once built: {@link #update(int[])} returns a new one, leaving the old cache
+ * valid for the other solutions holding it.
+ *
+ * <p>Distances are added up in the same order as the full evaluation, so the
+ * result is identical to it.
+ */
+class PaletteDistanceCache {
+    static final int MAX_PALETTE_SIZE = 256;
+
+    final int[] entries;
+    final int[] weights;
+    final int totalWeight;
+    final int tileSize;
+    final int[] slotColors;
+    final byte[] nearest;
+    final double distance;
+
+    private PaletteDistanceCache(int[] entries, int[] weights, int totalWeight, int tileSize, int[] slotColors,
+            byte[] nearest, double distance) {
+        this.entries = entries;
+        this.weights = weights;
+        this.totalWeight = totalWeight;
+        this.tileSize = tileSize;
+        this.slotColors = slotColors;
+        this.nearest = nearest;
+        this.distance = distance;
+    }
+
+    /**
+     * Builds the cache for the slots of a palette ({@code -1} marks an inactive slot). With a
+     * {@code tileSize} greater than 0 the distances are added up tile by tile, as the parallel
+     * evaluation does. The palette must have at least one active slot.
+     */
+    static PaletteDistanceCache build(int[] entries, int[] weights, int totalWeight, int tileSize, int[] slotColors) {
+        int[] slots = activeSlots(slotColors);
+        int[] palette = new int[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            palette[i] = slotColors[slots[i]];
+        }
+        NearestColorSearch search = NearestColorSearch.create(palette, entries.length);
+
+        byte[] nearest = new byte[entries.length];
+        double distTotal = 0.0;
+        double tileTotal = 0.0;
+        int tileLength = tileSize > 0 ? tileSize : entries.length;
+        int tileRemaining = tileLength;
+        for (int i = 0; i < entries.length; i++) {
+            int slot = slots[search.nearestIndex(entries[i])];
+            nearest[i] = (byte) slot;
+            double dist = Math.sqrt(ColorHistogram.squaredDistance(entries[i], slotColors[slot]));
+            tileTotal += weights == null ? dist : weights[i] * dist;
+            if (--tileRemaining == 0) {
+                distTotal += tileTotal;
+                tileTotal = 0.0;
+                tileRemaining = tileLength;
+            }
+        }
+        distTotal += tileTotal;
+
+        return new PaletteDistanceCache(entries, weights, totalWeight, tileSize, slotColors, nearest, distTotal / totalWeight);
+    }
+
+    /**
+     * Returns the cache for a new palette, reusing the nearest slots of this one. The new palette must
+     * have at least one active slot. Entries whose slot was deactivated or moved away from them are
+     * searched again over the whole palette; the others only compare their distance with the changed slots.
+     */
+    PaletteDistanceCache update(int[] newSlotColors) {
+        boolean[] lost = new boolean[slotColors.length];
+        int[] added = new int[slotColors.length];
+        int addedCount = 0;
+        int changedCount = 0;
+        for (int slot = 0; slot < slotColors.length; slot++) {
+            if (slotColors[slot] != newSlotColors[slot]) {
+                changedCount++;
+                lost[slot] = slotColors[slot] >= 0;
+                if (newSlotColors[slot] >= 0) {
+                    added[addedCount++] = slot;
+                }
+            }
+        }
+        if (changedCount == 0) {
+            return this;
+        }
+
+        int[] red = new int[slotColors.length];
+        int[] green = new int[slotColors.length];
+        int[] blue = new int[slotColors.length];
+        for (int slot = 0; slot < slotColors.length; slot++) {
+            red[slot] = (newSlotColors[slot] >> 16) & 0xFF;
+            green[slot] = (newSlotColors[slot] >> 8) & 0xFF;
+            blue[slot] = newSlotColors[slot] & 0xFF;
+        }
+
+        int[] slots = activeSlots(newSlotColors);
+        int[] palette = new int[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            palette[i] = newSlotColors[slots[i]];
+        }
+        NearestColorSearch search = NearestColorSearch.create(palette, entries.length);
+
+        byte[] newNearest = new byte[entries.length];
+        double distTotal = 0.0;
+        double tileTotal = 0.0;
+        int tileLength = tileSize > 0 ? tileSize : entries.length;
+        int tileRemaining = tileLength;
+        for (int i = 0; i < entries.length; i++) {
+            int color = entries[i];
+            int r = (color >> 16) & 0xFF;
+            int g = (color >> 8) & 0xFF;
+            int b = color & 0xFF;
+            int slot = nearest[i] & 0xFF;
+
+            int rDiff = red[slot] - r;
+            int gDiff = green[slot] - g;
+            int bDiff = blue[slot] - b;
+            int minDist = rDiff * rDiff + gDiff * gDiff + bDiff * bDiff;
+
+            if (lost[slot] && (newSlotColors[slot] < 0 || minDist > ColorHistogram.squaredDistance(color, slotColors[slot]))) {
+                slot = slots[search.nearestIndex(color)];
+                minDist = ColorHistogram.squaredDistance(color, newSlotColors[slot]);
+            } else {
+                // The slot is unchanged, or its color got closer: it is still at least as near as any unchanged slot
+                for (int j = 0; j < addedCount; j++) {
+                    int candidate = added[j];
+                    rDiff = red[candidate] - r;
+                    gDiff = green[candidate] - g;
+                    bDiff = blue[candidate] - b;
+                    int dist = rDiff * rDiff + gDiff * gDiff + bDiff * bDiff;
+                    if (dist < minDist) {
+                        minDist = dist;
+                        slot = candidate;
+                    }
+                }
+            }
+            newNearest[i] = (byte) slot;
+            double dist = Math.sqrt(minDist);
+            tileTotal += weights == null ? dist : weights[i] * dist;
+            if (--tileRemaining == 0) {
+                distTotal += tileTotal;
+                tileTotal = 0.0;
+                tileRemaining = tileLength;
+            }
+        }
+        distTotal += tileTotal;
+
+        return new PaletteDistanceCache(entries, weights, totalWeight, tileSize, newSlotColors, newNearest, distTotal / totalWeight);
+    }
+
+    /**
+     * Whether the cache was built over the same entries with the same summation, so that it can be
+     * updated instead of rebuilt.
+     */
+    boolean isCompatible(int[] entries, int tileSize) {
+        return this.entries == entries && this.tileSize == tileSize;
+    }
+
+    int changedSlots(int[] newSlotColors) {
+        int changed = 0;
+        for (int slot = 0; slot < slotColors.length; slot++) {
+            if (slotColors[slot] != newSlotColors[slot]) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    private static int[] activeSlots(int[] slotColors) {
+        int count = 0;
+        for (int color : slotColors) {
+            if (color >= 0) {
+                count++;
+            }
+        }
+        int[] slots = new int[count];
+        count = 0;
+        for (int slot = 0; slot < slotColors.length; slot++) {
+            if (slotColors[slot] >= 0) {
+                slots[count++] = slot;
+            }
+        }
+        return slots;
+    }
+}
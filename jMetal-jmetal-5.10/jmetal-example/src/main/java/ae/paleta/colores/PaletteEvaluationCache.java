@@ -0,0 +1,118 @@
+package ae.paleta.colores;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded least-recently-used cache of palette distances. Palettes are keyed by a 64-bit hash of
+ * their sorted active colors, so the order of the colors in the solution does not matter; the sorted
+ * colors are kept with each entry to tell apart palettes whose hashes collide. The cache is only valid
+ * for the problem that filled it, since distances depend on the image and on the evaluation mode.
+ */
+class PaletteEvaluationCache {
+    private final int capacity;
+    private final LinkedHashMap<Long, Entry> entries;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    PaletteEvaluationCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<Long, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > PaletteEvaluationCache.this.capacity) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached distance of the palette, or NaN when it has not been evaluated yet.
+     */
+    synchronized double get(int[] sortedPalette, long key) {
+        Entry entry = entries.get(key);
+        if (entry != null && Arrays.equals(entry.palette, sortedPalette)) {
+            hits++;
+            return entry.distance;
+        }
+        misses++;
+        return Double.NaN;
+    }
+
+    synchronized void put(int[] sortedPalette, long key, double distance) {
+        entries.put(key, new Entry(sortedPalette, distance));
+    }
+
+    /**
+     * Removes all the entries but keeps the statistics.
+     */
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    static int[] canonicalPalette(int[] palette) {
+        int[] sortedPalette = palette.clone();
+        Arrays.sort(sortedPalette);
+        return sortedPalette;
+    }
+
+    static long key(int[] sortedPalette) {
+        long hash = 0x9E3779B97F4A7C15L * (sortedPalette.length + 1);
+        for (int color : sortedPalette) {
+            hash = mix(hash ^ color);
+        }
+        return hash;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    synchronized long getHits() {
+        return hits;
+    }
+
+    synchronized long getMisses() {
+        return misses;
+    }
+
+    synchronized long getEvictions() {
+        return evictions;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("Evaluation cache: %d hits (image scans saved), %d misses, hit rate %.2f%%, %d evictions, %d/%d entries",
+                hits, misses, 100.0 * getHitRate(), evictions, entries.size(), capacity);
+    }
+
+    private static class Entry {
+        private final int[] palette;
+        private final double distance;
+
+        Entry(int[] palette, double distance) {
+            this.palette = palette;
+            this.distance = distance;
+        }
+    }
+}
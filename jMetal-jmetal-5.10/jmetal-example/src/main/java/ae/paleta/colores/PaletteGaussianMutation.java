@@ -0,0 +1,96 @@
+package ae.paleta.colores;
+
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.solution.integersolution.IntegerSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.RandomGenerator;
+
+/**
+ * Mutation of {@link PaletteSolution}s that, with the mutation probability, adds to each channel of
+ * each color a Gaussian perturbation of standard deviation {@code sigma} (rounded and clamped to
+ * [0, 255]) and flips each active flag. The probability applies per channel and per flag, like the
+ * per-variable probability of the integer operators on the original encoding.
+ */
+@SuppressWarnings("serial")
+public class PaletteGaussianMutation implements MutationOperator<IntegerSolution> {
+    private double mutationProbability;
+    private double sigma;
+    private RandomGenerator<Double> randomGenerator;
+
+    /** Constructor */
+    public PaletteGaussianMutation(double mutationProbability, double sigma) {
+        this(mutationProbability, sigma, () -> JMetalRandom.getInstance().nextDouble());
+    }
+
+    /** Constructor */
+    public PaletteGaussianMutation(double mutationProbability, double sigma, RandomGenerator<Double> randomGenerator) {
+        if (mutationProbability < 0) {
+            throw new JMetalException("Mutation probability is negative: " + mutationProbability);
+        } else if (sigma < 0) {
+            throw new JMetalException("Standard deviation is negative: " + sigma);
+        }
+        this.mutationProbability = mutationProbability;
+        this.sigma = sigma;
+        this.randomGenerator = randomGenerator;
+    }
+
+    @Override
+    public double getMutationProbability() {
+        return mutationProbability;
+    }
+
+    public double getSigma() {
+        return sigma;
+    }
+
+    public void setMutationProbability(double mutationProbability) {
+        this.mutationProbability = mutationProbability;
+    }
+
+    public void setSigma(double sigma) {
+        this.sigma = sigma;
+    }
+
+    @Override
+    public IntegerSolution execute(IntegerSolution solution) {
+        if (null == solution) {
+            throw new JMetalException("Null parameter");
+        }
+
+        doMutation(PaletteUniformCrossover.toPaletteSolution(solution));
+        return solution;
+    }
+
+    private void doMutation(PaletteSolution solution) {
+        for (int slot = 0; slot < solution.getMaxPaletteSize(); slot++) {
+            int color = solution.getColor(slot);
+            int mutated = 0;
+            for (int shift = 16; shift >= 0; shift -= 8) {
+                int channel = (color >> shift) & 0xFF;
+                if (randomGenerator.getRandomValue() <= mutationProbability) {
+                    channel = (int) Math.round(channel + sigma * nextGaussian());
+                    channel = Math.max(0, Math.min(255, channel));
+                }
+                mutated |= channel << shift;
+            }
+            solution.setColor(slot, mutated);
+
+            if (randomGenerator.getRandomValue() <= mutationProbability) {
+                solution.setActive(slot, !solution.isActive(slot));
+            }
+        }
+    }
+
+    // Polar form of the Box-Muller transformation
+    private double nextGaussian() {
+        double x1, x2, w;
+        do {
+            x1 = 2.0 * randomGenerator.getRandomValue() - 1.0;
+            x2 = 2.0 * randomGenerator.getRandomValue() - 1.0;
+            w = x1 * x1 + x2 * x2;
+        } while (w >= 1.0 || w == 0.0);
+
+        return x1 * Math.sqrt((-2.0 * Math.log(w)) / w);
+    }
+}
@@ -0,0 +1,91 @@
+package ae.paleta.colores;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Single background thread that writes result files in submission order. Pending writes wait in a
+ * queue of bounded capacity; when it is full, submitting blocks until the writer catches up, so the
+ * memory held by fronts waiting to be written stays bounded. The writer is also an {@link Executor},
+ * for use with {@link java.util.concurrent.CompletableFuture}.
+ */
+class PaletteOutputWriter implements Executor, AutoCloseable {
+    interface OutputTask {
+        void write() throws IOException;
+    }
+
+    private static final Runnable STOP = () -> {};
+
+    private final BlockingQueue<Runnable> queue;
+    private final Thread thread;
+    private IOException failure;
+
+    PaletteOutputWriter(int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.thread = new Thread(this::writeLoop, "palette-output-writer");
+        thread.start();
+    }
+
+    private void writeLoop() {
+        try {
+            for (Runnable task = queue.take(); task != STOP; task = queue.take()) {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    // keep draining, otherwise producers and close() would block on the full queue
+                    recordFailure(new IOException("Output task failed", e));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        try {
+            queue.put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException(e);
+        }
+    }
+
+    /**
+     * Queues a write. The first error is reported by {@link #close()}; later writes still run.
+     */
+    void submit(OutputTask task) {
+        execute(() -> {
+            try {
+                task.write();
+            } catch (IOException e) {
+                recordFailure(e);
+            }
+        });
+    }
+
+    private synchronized void recordFailure(IOException e) {
+        if (failure == null) {
+            failure = e;
+        } else {
+            failure.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Waits until every queued write has finished.
+     */
+    @Override
+    public void close() throws IOException, InterruptedException {
+        execute(STOP);
+        thread.join();
+        synchronized (this) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package ae.paleta.colores;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Seed palettes for the initial population, computed with k-means++ and Lloyd iterations on small
+ * samples of the image. The pixels are reduced once to a {@link ColorHistogram}, and every palette is
+ * clustered from its own sample of {@link #SAMPLE_SIZE} pixels drawn from the histogram in proportion
+ * to the bin counts, so that palettes of the same size still differ. Palettes are computed in parallel,
+ * each with its own random seed, so the result does not depend on the number of threads.
+ */
+class PaletteSeeding {
+    static final int HISTOGRAM_BITS = 5;
+    static final int SAMPLE_SIZE = 2048;
+    static final int MAX_ITERATIONS = 20;
+
+    private final int[] colors;
+    private final long[] cumulativeCounts;
+
+    PaletteSeeding(int[] pixels) {
+        ColorHistogram histogram = ColorHistogram.build(pixels, HISTOGRAM_BITS);
+        this.colors = histogram.colors;
+        this.cumulativeCounts = new long[histogram.size()];
+        long total = 0;
+        for (int i = 0; i < histogram.size(); i++) {
+            total += histogram.counts[i];
+            cumulativeCounts[i] = total;
+        }
+    }
+
+    /**
+     * Computes one palette per seed; palette {@code i} has {@code 1 + i % maxPaletteSize} colors, or
+     * fewer if its sample has fewer distinct colors.
+     */
+    List<int[]> seedPalettes(int maxPaletteSize, long[] seeds) {
+        return IntStream.range(0, seeds.length)
+                .parallel()
+                .mapToObj(i -> cluster(1 + i % maxPaletteSize, new Random(seeds[i])))
+                .collect(Collectors.toList());
+    }
+
+    int[] cluster(int k, Random random) {
+        int[] red = new int[SAMPLE_SIZE];
+        int[] green = new int[SAMPLE_SIZE];
+        int[] blue = new int[SAMPLE_SIZE];
+        long total = cumulativeCounts[cumulativeCounts.length - 1];
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            int bin = Arrays.binarySearch(cumulativeCounts, (long) (random.nextDouble() * total));
+            int color = colors[bin < 0 ? -bin - 1 : bin + 1];
+            red[i] = (color >> 16) & 0xFF;
+            green[i] = (color >> 8) & 0xFF;
+            blue[i] = color & 0xFF;
+        }
+
+        double[][] centroids = initialCentroids(red, green, blue, k, random);
+        int[] assignment = new int[SAMPLE_SIZE];
+        Arrays.fill(assignment, -1);
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            if (!assign(red, green, blue, centroids, assignment)) {
+                break;
+            }
+            updateCentroids(red, green, blue, centroids, assignment);
+        }
+
+        return Arrays.stream(centroids)
+                .mapToInt(c -> ((int) Math.round(c[0]) << 16) | ((int) Math.round(c[1]) << 8) | (int) Math.round(c[2]))
+                .distinct()
+                .toArray();
+    }
+
+    // k-means++: every new centroid is a sample point chosen with probability proportional to its squared distance to the nearest centroid
+    private static double[][] initialCentroids(int[] red, int[] green, int[] blue, int k, Random random) {
+        double[][] centroids = new double[k][];
+        int first = random.nextInt(red.length);
+        centroids[0] = new double[] {red[first], green[first], blue[first]};
+
+        double[] minDist = new double[red.length];
+        Arrays.fill(minDist, Double.MAX_VALUE);
+        int size = 1;
+        while (size < k) {
+            double sum = 0.0;
+            for (int i = 0; i < red.length; i++) {
+                minDist[i] = Math.min(minDist[i], squaredDistance(red[i], green[i], blue[i], centroids[size - 1]));
+                sum += minDist[i];
+            }
+            if (sum == 0.0) {
+                break;
+            }
+
+            double target = random.nextDouble() * sum;
+            int chosen = red.length - 1;
+            for (int i = 0; i < red.length; i++) {
+                target -= minDist[i];
+                if (target < 0.0) {
+                    chosen = i;
+                    break;
+                }
+            }
+            centroids[size++] = new double[] {red[chosen], green[chosen], blue[chosen]};
+        }
+        return Arrays.copyOf(centroids, size);
+    }
+
+    private static boolean assign(int[] red, int[] green, int[] blue, double[][] centroids, int[] assignment) {
+        boolean changed = false;
+        for (int i = 0; i < red.length; i++) {
+            int nearest = 0;
+            double nearestDist = Double.MAX_VALUE;
+            for (int c = 0; c < centroids.length; c++) {
+                double dist = squaredDistance(red[i], green[i], blue[i], centroids[c]);
+                if (dist < nearestDist) {
+                    nearestDist = dist;
+                    nearest = c;
+                }
+            }
+            if (assignment[i] != nearest) {
+                assignment[i] = nearest;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    // Centroids of empty clusters are left where they are
+    private static void updateCentroids(int[] red, int[] green, int[] blue, double[][] centroids, int[] assignment) {
+        double[][] sums = new double[centroids.length][3];
+        int[] sizes = new int[centroids.length];
+        for (int i = 0; i < red.length; i++) {
+            double[] sum = sums[assignment[i]];
+            sum[0] += red[i];
+            sum[1] += green[i];
+            sum[2] += blue[i];
+            sizes[assignment[i]]++;
+        }
+        for (int c = 0; c < centroids.length; c++) {
+            if (sizes[c] > 0) {
+                centroids[c][0] = sums[c][0] / sizes[c];
+                centroids[c][1] = sums[c][1] / sizes[c];
+                centroids[c][2] = sums[c][2] / sizes[c];
+            }
+        }
+    }
+
+    private static double squaredDistance(int r, int g, int b, double[] centroid) {
+        double rDiff = r - centroid[0];
+        double gDiff = g - centroid[1];
+        double bDiff = b - centroid[2];
+        return rDiff * rDiff + gDiff * gDiff + bDiff * bDiff;
+    }
+}
@@ -0,0 +1,108 @@
+package ae.paleta.colores;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.uma.jmetal.solution.integersolution.IntegerSolution;
+
+/**
+ * Encoder of palette fronts into a single PNG sprite sheet, with one row of {@link #SQUARE_SIZE}
+ * pixel squares per solution and white after the last color. Scanlines are generated straight from the
+ * palettes: the first line of every row is stored unfiltered and the others with the "Up" filter, which
+ * turns them into zeros, so no raster is built and the compressor has almost nothing to do. Encoders
+ * keep their buffers between sheets and are not thread-safe.
+ */
+class PaletteSheetEncoder {
+    static final int SQUARE_SIZE = 50;
+
+    private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte FILTER_NONE = 0;
+    private static final byte FILTER_UP = 2;
+
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private final CRC32 crc = new CRC32();
+    private final byte[] buffer = new byte[1 << 16];
+    private byte[] line = new byte[0];
+    private byte[] upLine = new byte[0];
+
+    void encode(OutputStream stream, List<IntegerSolution> population, int maxPaletteSize) throws IOException {
+        int width = SQUARE_SIZE * maxPaletteSize;
+        int rows = Math.max(1, population.size());
+        if (line.length != 1 + 3 * width) {
+            line = new byte[1 + 3 * width];
+            upLine = new byte[1 + 3 * width];
+            upLine[0] = FILTER_UP;
+        }
+
+        DataOutputStream output = new DataOutputStream(stream);
+        output.write(SIGNATURE);
+        byte[] header = new byte[13];
+        writeInt(header, 0, width);
+        writeInt(header, 4, SQUARE_SIZE * rows);
+        header[8] = 8;  // bits per channel
+        header[9] = 2;  // RGB
+        writeChunk(output, "IHDR", header, header.length);
+
+        deflater.reset();
+        for (int i = 0; i < rows; i++) {
+            int[] palette = i < population.size()
+                    ? ColorPaletteUtils.extractPackedPalette(population.get(i), maxPaletteSize)
+                    : new int[0];
+            Arrays.fill(line, (byte) 0xFF);
+            line[0] = FILTER_NONE;
+            for (int j = 0; j < palette.length; j++) {
+                for (int x = j * SQUARE_SIZE; x < (j + 1) * SQUARE_SIZE; x++) {
+                    line[1 + 3 * x] = (byte) (palette[j] >> 16);
+                    line[2 + 3 * x] = (byte) (palette[j] >> 8);
+                    line[3 + 3 * x] = (byte) palette[j];
+                }
+            }
+
+            compress(output, line);
+            for (int y = 1; y < SQUARE_SIZE; y++) {
+                compress(output, upLine);
+            }
+        }
+        deflater.finish();
+        while (!deflater.finished()) {
+            writeChunk(output, "IDAT", buffer, deflater.deflate(buffer));
+        }
+
+        writeChunk(output, "IEND", buffer, 0);
+        output.flush();
+    }
+
+    private void compress(DataOutputStream output, byte[] data) throws IOException {
+        deflater.setInput(data);
+        while (!deflater.needsInput()) {
+            int length = deflater.deflate(buffer);
+            if (length > 0) {
+                writeChunk(output, "IDAT", buffer, length);
+            }
+        }
+    }
+
+    private void writeChunk(DataOutputStream output, String type, byte[] data, int length) throws IOException {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        crc.reset();
+        crc.update(typeBytes);
+        crc.update(data, 0, length);
+        output.writeInt(length);
+        output.write(typeBytes);
+        output.write(data, 0, length);
+        output.writeInt((int) crc.getValue());
+    }
+
+    private static void writeInt(byte[] data, int offset, int value) {
+        data[offset] = (byte) (value >>> 24);
+        data[offset + 1] = (byte) (value >>> 16);
+        data[offset + 2] = (byte) (value >>> 8);
+        data[offset + 3] = (byte) value;
+    }
+}
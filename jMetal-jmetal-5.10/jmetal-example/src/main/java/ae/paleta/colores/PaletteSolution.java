@@ -0,0 +1,290 @@
+package ae.paleta.colores;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.uma.jmetal.solution.integersolution.IntegerSolution;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Palette stored as an array of packed 0xRRGGBB colors, one per slot, plus a bitmask of the active
+ * slots. The solution is also an {@link IntegerSolution} with the layout of the original encoding,
+ * four variables per slot (red, green, blue and active flag), so that generic integer operators still
+ * work on it, while {@link PaletteUniformCrossover}, {@link PaletteGaussianMutation} and the palette
+ * utilities use the packed representation directly.
+ */
+@SuppressWarnings("serial")
+public class PaletteSolution implements IntegerSolution {
+    static final int VARIABLES_PER_SLOT = 4;
+
+    private final int[] colors;
+    private final long[] active;
+    private final double[] objectives;
+    private final double[] constraints;
+    private final Map<Object, Object> attributes;
+
+    /**
+     * Creates a random palette. Values are drawn in the same order as the variables of a
+     * {@link org.uma.jmetal.solution.integersolution.impl.DefaultIntegerSolution} with the original
+     * encoding, so a seeded run produces the same initial palettes with either solution type.
+     */
+    public PaletteSolution(int maxPaletteSize, int numberOfObjectives, int numberOfConstraints) {
+        this.colors = new int[maxPaletteSize];
+        this.active = new long[(maxPaletteSize + 63) / 64];
+        this.objectives = new double[numberOfObjectives];
+        this.constraints = new double[numberOfConstraints];
+        this.attributes = new HashMap<>();
+
+        JMetalRandom random = JMetalRandom.getInstance();
+        for (int slot = 0; slot < maxPaletteSize; slot++) {
+            int r = random.nextInt(0, 255);
+            int g = random.nextInt(0, 255);
+            int b = random.nextInt(0, 255);
+            colors[slot] = (r << 16) | (g << 8) | b;
+            setActive(slot, random.nextInt(0, 1) == 1);
+        }
+    }
+
+    /** Copy constructor */
+    public PaletteSolution(PaletteSolution solution) {
+        this.colors = solution.colors.clone();
+        this.active = solution.active.clone();
+        this.objectives = solution.objectives.clone();
+        this.constraints = solution.constraints.clone();
+        this.attributes = new HashMap<>(solution.attributes);
+    }
+
+    public int getMaxPaletteSize() {
+        return colors.length;
+    }
+
+    public int getColor(int slot) {
+        return colors[slot];
+    }
+
+    public void setColor(int slot, int color) {
+        colors[slot] = color & 0xFFFFFF;
+    }
+
+    public boolean isActive(int slot) {
+        return (active[slot >>> 6] & (1L << slot)) != 0;
+    }
+
+    public void setActive(int slot, boolean value) {
+        if (value) {
+            active[slot >>> 6] |= 1L << slot;
+        } else {
+            active[slot >>> 6] &= ~(1L << slot);
+        }
+    }
+
+    public int getPaletteSize() {
+        int size = 0;
+        for (long word : active) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    /**
+     * Packed colors of the active slots, in slot order.
+     */
+    public int[] getActiveColors() {
+        int[] palette = new int[getPaletteSize()];
+        int size = 0;
+        for (int slot = 0; slot < colors.length; slot++) {
+            if (isActive(slot)) {
+                palette[size++] = colors[slot];
+            }
+        }
+        return palette;
+    }
+
+    /**
+     * Packed color of every slot, or -1 for the inactive ones.
+     */
+    public int[] getSlotColors() {
+        int[] slotColors = new int[colors.length];
+        for (int slot = 0; slot < colors.length; slot++) {
+            slotColors[slot] = isActive(slot) ? colors[slot] : -1;
+        }
+        return slotColors;
+    }
+
+    /**
+     * Exchanges the color and the active flag of a slot with the same slot of another palette.
+     */
+    void swapSlot(PaletteSolution other, int slot) {
+        int color = colors[slot];
+        colors[slot] = other.colors[slot];
+        other.colors[slot] = color;
+
+        boolean isActive = isActive(slot);
+        setActive(slot, other.isActive(slot));
+        other.setActive(slot, isActive);
+    }
+
+    @Override
+    public Integer getVariable(int index) {
+        int slot = index / VARIABLES_PER_SLOT;
+        switch (index % VARIABLES_PER_SLOT) {
+            case 0:
+                return (colors[slot] >> 16) & 0xFF;
+            case 1:
+                return (colors[slot] >> 8) & 0xFF;
+            case 2:
+                return colors[slot] & 0xFF;
+            default:
+                return isActive(slot) ? 1 : 0;
+        }
+    }
+
+    @Override
+    public void setVariable(int index, Integer value) {
+        int slot = index / VARIABLES_PER_SLOT;
+        int channel = index % VARIABLES_PER_SLOT;
+        if (channel == 3) {
+            setActive(slot, value == 1);
+        } else {
+            int shift = 16 - 8 * channel;
+            colors[slot] = (colors[slot] & ~(0xFF << shift)) | ((value & 0xFF) << shift);
+        }
+    }
+
+    /**
+     * Live view of the variables in the original encoding.
+     */
+    @Override
+    public List<Integer> getVariables() {
+        return new AbstractList<Integer>() {
+            @Override
+            public Integer get(int index) {
+                return getVariable(index);
+            }
+
+            @Override
+            public Integer set(int index, Integer value) {
+                Integer previous = getVariable(index);
+                setVariable(index, value);
+                return previous;
+            }
+
+            @Override
+            public int size() {
+                return getNumberOfVariables();
+            }
+        };
+    }
+
+    @Override
+    public Integer getLowerBound(int index) {
+        return 0;
+    }
+
+    @Override
+    public Integer getUpperBound(int index) {
+        return index % VARIABLES_PER_SLOT == 3 ? 1 : 255;
+    }
+
+    @Override
+    public int getNumberOfVariables() {
+        return colors.length * VARIABLES_PER_SLOT;
+    }
+
+    @Override
+    public void setObjective(int index, double value) {
+        objectives[index] = value;
+    }
+
+    @Override
+    public double getObjective(int index) {
+        return objectives[index];
+    }
+
+    @Override
+    public double[] getObjectives() {
+        return objectives;
+    }
+
+    @Override
+    public double[] getConstraints() {
+        return constraints;
+    }
+
+    @Override
+    public double getConstraint(int index) {
+        return constraints[index];
+    }
+
+    @Override
+    public void setConstraint(int index, double value) {
+        constraints[index] = value;
+    }
+
+    @Override
+    public int getNumberOfObjectives() {
+        return objectives.length;
+    }
+
+    @Override
+    public int getNumberOfConstraints() {
+        return constraints.length;
+    }
+
+    @Override
+    public PaletteSolution copy() {
+        return new PaletteSolution(this);
+    }
+
+    @Override
+    public void setAttribute(Object id, Object value) {
+        attributes.put(id, value);
+    }
+
+    @Override
+    public Object getAttribute(Object id) {
+        return attributes.get(id);
+    }
+
+    @Override
+    public boolean hasAttribute(Object id) {
+        return attributes.containsKey(id);
+    }
+
+    @Override
+    public Map<Object, Object> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PaletteSolution)) {
+            return false;
+        }
+        PaletteSolution that = (PaletteSolution) o;
+        return Arrays.equals(colors, that.colors) && Arrays.equals(active, that.active);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(colors) + Arrays.hashCode(active);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("Palette: ");
+        for (int slot = 0; slot < colors.length; slot++) {
+            result.append(isActive(slot) ? String.format("#%06X ", colors[slot]) : "- ");
+        }
+        result.append("Objectives: ").append(Arrays.toString(objectives));
+        result.append(" Constraints: ").append(Arrays.toString(constraints));
+        result.append("\tAlgorithmAttributes: ").append(attributes).append("\n");
+        return result.toString();
+    }
+}
@@ -0,0 +1,90 @@
+package ae.paleta.colores;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.solution.integersolution.IntegerSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.RandomGenerator;
+
+/**
+ * Color-wise uniform crossover of {@link PaletteSolution}s: each slot, with its color and its active
+ * flag, is exchanged between the offspring with probability 0.5, so colors are never blended into
+ * colors that neither parent has.
+ */
+@SuppressWarnings("serial")
+public class PaletteUniformCrossover implements CrossoverOperator<IntegerSolution> {
+    private double crossoverProbability;
+    private RandomGenerator<Double> randomGenerator;
+
+    /** Constructor */
+    public PaletteUniformCrossover(double crossoverProbability) {
+        this(crossoverProbability, () -> JMetalRandom.getInstance().nextDouble());
+    }
+
+    /** Constructor */
+    public PaletteUniformCrossover(double crossoverProbability, RandomGenerator<Double> randomGenerator) {
+        if (crossoverProbability < 0) {
+            throw new JMetalException("Crossover probability is negative: " + crossoverProbability);
+        }
+        this.crossoverProbability = crossoverProbability;
+        this.randomGenerator = randomGenerator;
+    }
+
+    @Override
+    public double getCrossoverProbability() {
+        return crossoverProbability;
+    }
+
+    public void setCrossoverProbability(double crossoverProbability) {
+        this.crossoverProbability = crossoverProbability;
+    }
+
+    @Override
+    public List<IntegerSolution> execute(List<IntegerSolution> solutions) {
+        if (null == solutions) {
+            throw new JMetalException("Null parameter");
+        } else if (solutions.size() != 2) {
+            throw new JMetalException("There must be two parents instead of " + solutions.size());
+        }
+
+        return doCrossover(crossoverProbability, toPaletteSolution(solutions.get(0)), toPaletteSolution(solutions.get(1)));
+    }
+
+    public List<IntegerSolution> doCrossover(double probability, PaletteSolution parent1, PaletteSolution parent2) {
+        PaletteSolution offspring1 = parent1.copy();
+        PaletteSolution offspring2 = parent2.copy();
+
+        if (randomGenerator.getRandomValue() <= probability) {
+            for (int slot = 0; slot < offspring1.getMaxPaletteSize(); slot++) {
+                if (randomGenerator.getRandomValue() < 0.5) {
+                    offspring1.swapSlot(offspring2, slot);
+                }
+            }
+        }
+
+        List<IntegerSolution> offspring = new ArrayList<>(2);
+        offspring.add(offspring1);
+        offspring.add(offspring2);
+        return offspring;
+    }
+
+    static PaletteSolution toPaletteSolution(IntegerSolution solution) {
+        if (!(solution instanceof PaletteSolution)) {
+            throw new JMetalException("Palette operators require a PaletteSolution instead of " + solution.getClass().getName());
+        }
+        return (PaletteSolution) solution;
+    }
+
+    @Override
+    public int getNumberOfRequiredParents() {
+        return 2;
+    }
+
+    @Override
+    public int getNumberOfGeneratedChildren() {
+        return 2;
+    }
+}
@@ -0,0 +1,50 @@
+package ae.paleta.colores;
+
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
+
+/**
+ * Random generator that keeps an independent {@link JavaRandomGenerator} per thread. Installed in
+ * {@link org.uma.jmetal.util.pseudorandom.JMetalRandom}, it lets runs on different threads use the
+ * shared operators and solution factories while each one draws from its own stream, which is
+ * reproducible as long as the run seeds it with {@link #setSeed(long)} on its own thread.
+ */
+@SuppressWarnings("serial")
+class PerThreadRandomGenerator implements PseudoRandomGenerator {
+    private static final String NAME = "PerThreadRandomGenerator";
+
+    private final transient ThreadLocal<JavaRandomGenerator> generators = ThreadLocal.withInitial(JavaRandomGenerator::new);
+
+    @Override
+    public int nextInt(int lowerBound, int upperBound) {
+        return generators.get().nextInt(lowerBound, upperBound);
+    }
+
+    @Override
+    public double nextDouble(double lowerBound, double upperBound) {
+        return generators.get().nextDouble(lowerBound, upperBound);
+    }
+
+    @Override
+    public double nextDouble() {
+        return generators.get().nextDouble();
+    }
+
+    /**
+     * Seeds the generator of the calling thread only.
+     */
+    @Override
+    public void setSeed(long seed) {
+        generators.get().setSeed(seed);
+    }
+
+    @Override
+    public long getSeed() {
+        return generators.get().getSeed();
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+}
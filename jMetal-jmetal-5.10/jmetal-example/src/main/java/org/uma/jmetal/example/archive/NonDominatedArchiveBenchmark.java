@@ -0,0 +1,93 @@
+package org.uma.jmetal.example.archive;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.uma.jmetal.util.archive.Archive;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.archive.impl.NonDominatedTreeArchive;
+import org.uma.jmetal.util.point.PointSolution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the insertion of solutions in a {@link NonDominatedSolutionListArchive} and in a
+ * {@link NonDominatedTreeArchive}. The solutions are random points close to the simplex, so most of
+ * them are non-dominated and the archives grow large, as when merging the fronts found by several
+ * runs of an algorithm into a reference front.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NonDominatedArchiveBenchmark {
+  @Param({"2", "3", "4", "6", "8", "10"})
+  int numberOfObjectives;
+
+  @Param({"1000", "5000"})
+  int numberOfSolutions;
+
+  List<PointSolution> solutions;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(1);
+    solutions = new ArrayList<>(numberOfSolutions);
+    for (int i = 0; i < numberOfSolutions; i++) {
+      double[] values = new double[numberOfObjectives];
+      double sum = 0.0;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        values[j] = random.nextDouble();
+        sum += values[j];
+      }
+
+      PointSolution solution = new PointSolution(numberOfObjectives);
+      double scale = (1.0 + 0.1 * random.nextDouble()) / sum;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        solution.setObjective(j, values[j] * scale);
+      }
+      solutions.add(solution);
+    }
+  }
+
+  private int addAll(Archive<PointSolution> archive) {
+    for (PointSolution solution : solutions) {
+      archive.add(solution);
+    }
+    return archive.size();
+  }
+
+  @Benchmark
+  public int listArchive() {
+    return addAll(new NonDominatedSolutionListArchive<>());
+  }
+
+  @Benchmark
+  public int treeArchive() {
+    return addAll(new NonDominatedTreeArchive<>());
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options options = new OptionsBuilder()
+        .include(NonDominatedArchiveBenchmark.class.getSimpleName())
+        .build();
+    new Runner(options).run();
+  }
+}
@@ -10,7 +10,7 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.JMetalLogger;
-import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.archive.impl.NonDominatedTreeArchive;
 import org.uma.jmetal.util.fileoutput.SolutionListOutput;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.impl.ArrayFront;
@@ -135,8 +135,8 @@ public class GenerateReferenceParetoSetAndFrontFromDoubleSolutions implements Ex
    */
   private List<DummyDoubleSolution> getNonDominatedSolutions(ExperimentProblem<?> problem)
       throws FileNotFoundException {
-    NonDominatedSolutionListArchive<DummyDoubleSolution> nonDominatedSolutionArchive =
-        new NonDominatedSolutionListArchive<>();
+    NonDominatedTreeArchive<DummyDoubleSolution> nonDominatedSolutionArchive =
+        new NonDominatedTreeArchive<>();
 
     for (ExperimentAlgorithm<?, ?> algorithm :
         experiment.getAlgorithmList().stream()
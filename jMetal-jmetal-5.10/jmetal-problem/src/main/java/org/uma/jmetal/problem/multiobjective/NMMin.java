@@ -51,7 +51,7 @@ public class NMMin extends AbstractIntegerProblem {
     approximationToM = 0;
 
     for (int i = 0; i < solution.getNumberOfVariables(); i++) {
-      int value = solution.getVariable(i) ;
+      int value = solution.getInt(i) ;
       approximationToN += Math.abs(valueN - value) ;
       approximationToM += Math.abs(valueM - value) ;
     }
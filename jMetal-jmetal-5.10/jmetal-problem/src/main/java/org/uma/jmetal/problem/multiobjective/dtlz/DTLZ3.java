@@ -49,7 +49,7 @@ public class DTLZ3 extends AbstractDoubleProblem {
     double[] x = new double[numberOfVariables] ;
 
     for (int i = 0; i < numberOfVariables; i++) {
-      x[i] = solution.getVariable(i) ;
+      x[i] = solution.getDouble(i) ;
     }
 
     int k = getNumberOfVariables() - getNumberOfObjectives() + 1;
@@ -40,7 +40,7 @@ public class ZDT1 extends AbstractDoubleProblem {
   public void evaluate(DoubleSolution solution) {
     double[] f = new double[getNumberOfObjectives()];
 
-    f[0] = solution.getVariable(0);
+    f[0] = solution.getDouble(0);
     double g = this.evalG(solution);
     double h = this.evalH(f[0], g);
     f[1] = h * g;
@@ -57,7 +57,7 @@ public class ZDT1 extends AbstractDoubleProblem {
   protected double evalG(DoubleSolution solution) {
     double g = 0.0;
     for (int i = 1; i < solution.getNumberOfVariables(); i++) {
-      g += solution.getVariable(i);
+      g += solution.getDouble(i);
     }
     double constant = 9.0 / (solution.getNumberOfVariables() - 1);
 
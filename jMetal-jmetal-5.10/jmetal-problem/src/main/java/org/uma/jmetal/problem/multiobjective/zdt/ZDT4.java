@@ -45,8 +45,8 @@ public class ZDT4 extends ZDT1 {
   public double evalG(DoubleSolution solution) {
     double g = 0.0;
     for (int var = 1; var < solution.getNumberOfVariables(); var++) {
-      g += Math.pow(solution.getVariable(var), 2.0) +
-        -10.0 * Math.cos(4.0 * Math.PI * solution.getVariable(var));
+      g += Math.pow(solution.getDouble(var), 2.0) +
+        -10.0 * Math.cos(4.0 * Math.PI * solution.getDouble(var));
     }
 
     double constant = 1.0 + 10.0 * (solution.getNumberOfVariables() - 1);
@@ -30,7 +30,7 @@ public class ZDT6 extends ZDT1 {
     double[] f = new double[getNumberOfObjectives()];
 
     double x1;
-    x1 = solution.getVariable(0);
+    x1 = solution.getDouble(0);
     f[0] = 1 - Math.exp(-4 * x1) * Math.pow(Math.sin(6 * Math.PI * x1), 6);
     double g = this.evalG(solution);
     double h = this.evalH(f[0], g);
@@ -48,7 +48,7 @@ public class ZDT6 extends ZDT1 {
   protected double evalG(DoubleSolution solution) {
     double g = 0.0;
     for (int var = 1; var < solution.getNumberOfVariables(); var++) {
-      g += solution.getVariable(var);
+      g += solution.getDouble(var);
     }
     g = g / (solution.getNumberOfVariables() - 1);
     g = Math.pow(g, 0.25);